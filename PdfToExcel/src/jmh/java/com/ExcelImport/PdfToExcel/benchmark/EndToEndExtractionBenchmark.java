@@ -0,0 +1,100 @@
+package com.ExcelImport.PdfToExcel.benchmark;
+
+import com.ExcelImport.PdfToExcel.PdfToExcelApplication;
+import com.ExcelImport.PdfToExcel.corpus.SyntheticStatementGenerator;
+import com.ExcelImport.PdfToExcel.corpus.SyntheticStatementGenerator.Layout;
+import com.ExcelImport.PdfToExcel.corpus.SyntheticStatementGenerator.Spec;
+import com.ExcelImport.PdfToExcel.corpus.SyntheticStatementGenerator.Variant;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.ExtractionProgressListener;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSpooler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole {@link UniverselExtractorService} pipeline (admission, load,
+ * detection, Tabula/text/OCR routing, parsing) over synthetic statements,
+ * in a real application context with the result cache off.
+ * <p>
+ * Defaults cover the digital table banks; scanned input needs a native
+ * Tesseract, e.g. {@code -p layout=KVB -p variant=IMAGE}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class EndToEndExtractionBenchmark {
+
+    @Param({"SBI", "CANARA", "FEDERAL", "CITY_UNION", "ICICI"})
+    public String layout;
+
+    @Param({"TABLE"})
+    public String variant;
+
+    @Param({"1", "10", "50"})
+    public int pages;
+
+    @Param({"30"})
+    public int rowsPerPage;
+
+    @Param({""})
+    public String password;
+
+    private ConfigurableApplicationContext context;
+    private UniverselExtractorService extractor;
+    private PdfSpooler pdfSpooler;
+    private Path statement;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(PdfToExcelApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                // command-line args, so they win over application.properties
+                .run("--extraction.cache.enabled=false", "--logging.level.root=WARN");
+        extractor = context.getBean(UniverselExtractorService.class);
+        pdfSpooler = context.getBean(PdfSpooler.class);
+
+        Spec spec = Spec.of(Layout.valueOf(layout))
+                .variant(Variant.valueOf(variant))
+                .pages(pages)
+                .rowsPerPage(rowsPerPage)
+                .password(password.isEmpty() ? null : password);
+        statement = new SyntheticStatementGenerator().write(spec, Files.createTempFile("statement-", ".pdf"));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(statement);
+    }
+
+    @Benchmark
+    public TransactionBatch extract() throws Exception {
+        try (PdfSource source = pdfSpooler.wrap(statement)) {
+            return extractor.extractAndParsePdf(source, layout, password.isEmpty() ? null : password,
+                    "CURRENT", ExtractionProgressListener.NONE);
+        }
+    }
+}
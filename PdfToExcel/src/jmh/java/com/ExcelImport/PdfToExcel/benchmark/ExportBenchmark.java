@@ -0,0 +1,113 @@
+package com.ExcelImport.PdfToExcel.benchmark;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.TallyService.TallyConversionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tally XML, XLSX and JSON generation. Workbooks are written to a discarding
+ * stream, so the numbers cover SXSSF (including its temp-file spill) and
+ * zipping, not network I/O. The {@code *Batch} variants read the same rows
+ * from a columnar {@link TransactionBatch} instead of DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ExportBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int rows;
+
+    private final TallyConversionService tallyConversionService = new TallyConversionService();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private List<TransactionDTO> transactions;
+    private TransactionBatch batch;
+    private String transactionsJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        transactions = StatementFixtures.transactions(rows);
+        batch = TransactionBatch.of(transactions);
+        transactionsJson = mapper.writeValueAsString(transactions);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return mapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] jsonBatch() throws Exception {
+        return mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public TransactionBatch batchFromJson() throws Exception {
+        return mapper.readValue(transactionsJson, TransactionBatch.class);
+    }
+
+    @Benchmark
+    public byte[] tallyXml() throws Exception {
+        return tallyConversionService.generateTallyXml(transactionsJson, "CANARA", "Canara Bank");
+    }
+
+    @Benchmark
+    public void canaraExcel() throws Exception {
+        writeExcel(StatementExcelLayouts.CANARA, transactions);
+    }
+
+    @Benchmark
+    public void stateBankExcel() throws Exception {
+        writeExcel(StatementExcelLayouts.SBI, transactions);
+    }
+
+    @Benchmark
+    public void iciciExcel() throws Exception {
+        writeExcel(StatementExcelLayouts.ICICI, transactions);
+    }
+
+    @Benchmark
+    public void kvbExcel() throws Exception {
+        writeExcel(StatementExcelLayouts.KVB, transactions);
+    }
+
+    @Benchmark
+    public void kvbExcelBatch() throws Exception {
+        try (StatementWorkbookWriter writer = StatementWorkbookWriter.open(StatementExcelLayouts.KVB, OutputStream.nullOutputStream())) {
+            writer.append(batch);
+            writer.finish();
+        }
+    }
+
+    // same path as the Excel download endpoint: the bank's layout streamed by the workbook writer
+    private static void writeExcel(List<Column> layout, List<TransactionDTO> transactions) throws IOException {
+        try (StatementWorkbookWriter writer = StatementWorkbookWriter.open(layout, OutputStream.nullOutputStream())) {
+            writer.append(transactions);
+            writer.finish();
+        }
+    }
+}
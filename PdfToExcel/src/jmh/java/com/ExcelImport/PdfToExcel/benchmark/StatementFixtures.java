@@ -0,0 +1,244 @@
+package com.ExcelImport.PdfToExcel.benchmark;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Fixed, seeded statement fixtures shaped like the text and Tabula rows the
+ * extractors see: page headers/footers every {@value #ROWS_PER_PAGE} rows,
+ * multi-line narrations and Indian-grouped amounts. The same row count always
+ * produces the same fixture, so runs are comparable across commits.
+ * <p>
+ * Table cells are already trimmed and free of line breaks: the mappers clean
+ * cells in place, and clean input keeps every invocation doing the same work.
+ */
+final class StatementFixtures {
+
+    static final int ROWS_PER_PAGE = 40;
+
+    private static final long SEED = 20240401L;
+    private static final LocalDate START = LocalDate.of(2024, 4, 1);
+
+    private static final DateTimeFormatter DASHED = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter SLASHED = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter SBI = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
+
+    private static final String[] PAYEES = {
+            "RAVI KUMAR", "ACME TRADERS", "SRI LAKSHMI STORES", "KAVYA ENTERPRISES",
+            "TNEB CHENNAI", "AMAZON PAY", "SWIGGY", "LIC OF INDIA", "GST PAYMENT", "SALARY MAR"
+    };
+    private static final String[] CHANNELS = {"UPI", "NEFT", "IMPS", "RTGS", "ATM", "POS", "ACH"};
+
+    private StatementFixtures() {
+    }
+
+    /**
+     * One generated transaction; every fixture below renders the same rows.
+     */
+    private record Row(LocalDate date, String channel, String reference, String payee,
+                       long debitPaise, long creditPaise, long balancePaise, String cheque) {
+    }
+
+    private static List<Row> rows(int count) {
+        Random random = new Random(SEED);
+        List<Row> rows = new ArrayList<>(count);
+        long balance = 1_50_000_00L;
+        for (int i = 0; i < count; i++) {
+            // credits are rarer but larger, so the balance drifts upwards and never pins at zero
+            boolean credit = random.nextInt(3) == 0;
+            long amount = 100 + random.nextInt(credit ? 2_00_000_00 : 50_000_00);
+            long debit = credit ? 0 : Math.min(amount, balance);
+            long creditAmount = credit ? amount : 0;
+            balance += creditAmount - debit;
+            rows.add(new Row(START.plusDays(i / 12),
+                    CHANNELS[random.nextInt(CHANNELS.length)],
+                    String.valueOf(400_000_000_000L + random.nextInt(1_000_000_000)),
+                    PAYEES[random.nextInt(PAYEES.length)],
+                    debit, creditAmount, balance,
+                    random.nextInt(20) == 0 ? String.format("%06d", random.nextInt(1_000_000)) : ""));
+        }
+        return rows;
+    }
+
+    // ===========================================================
+    // 🔹 Text fixtures
+    // ===========================================================
+
+    /**
+     * Canara statement text as stripped by PDFBox: date-led lines with the
+     * narration continuing on the next line.
+     */
+    static String canaraText(int count) {
+        StringBuilder text = new StringBuilder(count * 96);
+        text.append("Statement for A/c 1234567890123 Between 01-04-2024 and 31-03-2025\n");
+        text.append("Opening Balance 1,50,000.00\n");
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (i > 0 && i % ROWS_PER_PAGE == 0) {
+                text.append("Page ").append(i / ROWS_PER_PAGE).append('\n');
+            }
+            text.append(DASHED.format(row.date())).append(' ')
+                    .append(row.channel()).append('/').append(row.reference()).append('/').append(row.payee()).append('\n');
+            if (!row.cheque().isEmpty()) {
+                text.append("Chq: ").append(row.cheque()).append(' ');
+            }
+            text.append(row.creditPaise() > 0 ? amount(row.creditPaise()) : amount(row.debitPaise()))
+                    .append(' ').append(amount(row.balancePaise())).append('\n');
+        }
+        text.append("Closing Balance ").append(amount(rows.isEmpty() ? 0 : rows.get(rows.size() - 1).balancePaise())).append('\n');
+        text.append("End of Statement\n");
+        return text.toString();
+    }
+
+    /**
+     * Generic statement text (hybrid text layer / OCR output) for the
+     * universal and OCR parsers: a header, date-led rows, wrapped narrations.
+     */
+    static String universalText(int count) {
+        StringBuilder text = new StringBuilder(count * 110);
+        text.append("Date  Particulars  Chq.No  Withdrawals  Deposits  Balance\n");
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (i > 0 && i % ROWS_PER_PAGE == 0) {
+                text.append("Page ").append(i / ROWS_PER_PAGE).append(" of ").append(count / ROWS_PER_PAGE + 1).append('\n');
+                text.append("Date  Particulars  Chq.No  Withdrawals  Deposits  Balance\n");
+            }
+            text.append(SLASHED.format(row.date())).append("  ")
+                    .append(row.channel()).append('-').append(row.payee()).append("  ")
+                    .append(row.creditPaise() > 0 ? amount(row.creditPaise()) : amount(row.debitPaise())).append("  ")
+                    .append(amount(row.balancePaise())).append('\n');
+            text.append("REF ").append(row.reference()).append('\n');
+        }
+        return text.toString();
+    }
+
+    // ===========================================================
+    // 🔹 Table fixtures (Tabula rows, one header row per page)
+    // ===========================================================
+
+    /** Txn Date | Value Date | Cheque | Description | Branch | Debit | Credit | Balance */
+    static List<List<String>> canaraTable(int count) {
+        List<List<String>> table = new ArrayList<>(count + count / ROWS_PER_PAGE + 1);
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % ROWS_PER_PAGE == 0) {
+                table.add(cells("Txn Date", "Value Date", "Cheque No.", "Description", "Branch Code", "Debit", "Credit", "Balance"));
+            }
+            Row row = rows.get(i);
+            String date = DASHED.format(row.date());
+            table.add(cells(date, date, row.cheque(), narration(row), "4471",
+                    optionalAmount(row.debitPaise()), optionalAmount(row.creditPaise()), amount(row.balancePaise())));
+        }
+        return table;
+    }
+
+    /** Txn Date | Value Date | Description | Ref No. | Branch | Debit | Credit | Balance */
+    static List<List<String>> sbiTable(int count) {
+        List<List<String>> table = new ArrayList<>(count + count / ROWS_PER_PAGE + 1);
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % ROWS_PER_PAGE == 0) {
+                table.add(cells("Txn Date", "Value Date", "Description", "Ref No./Cheque No.", "Branch Code", "Debit", "Credit", "Balance"));
+            }
+            Row row = rows.get(i);
+            String date = SBI.format(row.date());
+            table.add(cells(date, date, narration(row), row.reference(), "00923",
+                    optionalAmount(row.debitPaise()), optionalAmount(row.creditPaise()), amount(row.balancePaise())));
+        }
+        return table;
+    }
+
+    /** Date | Description | Cheque | Debit | Credit | Balance, with a TOTAL row at the end */
+    static List<List<String>> cityUnionTable(int count) {
+        List<List<String>> table = new ArrayList<>(count + count / ROWS_PER_PAGE + 2);
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % ROWS_PER_PAGE == 0) {
+                table.add(cells("DATE", "DESCRIPTION", "CHEQUE", "DEBIT", "CREDIT", "BALANCE"));
+            }
+            Row row = rows.get(i);
+            table.add(cells(SLASHED.format(row.date()), narration(row), row.cheque(),
+                    optionalAmount(row.debitPaise()), optionalAmount(row.creditPaise()), amount(row.balancePaise())));
+        }
+        table.add(cells("", "TOTAL", "", "", "", ""));
+        return table;
+    }
+
+    /**
+     * Date | Value Date | Particulars | Tran Type | Tran ID | Cheque | Withdrawals | Deposits | Balance;
+     * every fifth narration wraps onto a continuation row.
+     */
+    static List<List<String>> federalTable(int count) {
+        List<List<String>> table = new ArrayList<>(count + count / 5 + count / ROWS_PER_PAGE + 1);
+        List<Row> rows = rows(count);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % ROWS_PER_PAGE == 0) {
+                table.add(cells("Date", "Value Date", "Particulars", "Tran Type", "Tran ID", "Cheque Details", "Withdrawals", "Deposits", "Balance"));
+            }
+            Row row = rows.get(i);
+            String date = SLASHED.format(row.date());
+            table.add(cells(date, date, narration(row), "TFR", "S" + row.reference().substring(0, 8), row.cheque(),
+                    optionalAmount(row.debitPaise()), optionalAmount(row.creditPaise()), amount(row.balancePaise())));
+            if (i % 5 == 4) {
+                table.add(cells("", "", "REF " + row.reference(), "", "", "", "", "", ""));
+            }
+        }
+        return table;
+    }
+
+    // ===========================================================
+    // 🔹 Export fixtures
+    // ===========================================================
+    static List<TransactionDTO> transactions(int count) {
+        List<TransactionDTO> transactions = new ArrayList<>(count);
+        for (Row row : rows(count)) {
+            transactions.add(new TransactionDTO(DASHED.format(row.date()), narration(row),
+                    row.debitPaise() > 0 ? amount(row.debitPaise()) : "-",
+                    row.creditPaise() > 0 ? amount(row.creditPaise()) : "-",
+                    amount(row.balancePaise()),
+                    row.creditPaise() > 0 ? "Receipt" : "Payment",
+                    DASHED.format(row.date())));
+        }
+        return transactions;
+    }
+
+    // ===========================================================
+    // 🔹 Helpers
+    // ===========================================================
+    private static String narration(Row row) {
+        return row.channel() + "/" + row.reference() + "/" + row.payee();
+    }
+
+    private static List<String> cells(String... values) {
+        return new ArrayList<>(List.of(values));
+    }
+
+    private static String optionalAmount(long paise) {
+        return paise > 0 ? amount(paise) : "";
+    }
+
+    /**
+     * Indian digit grouping, e.g. 12,34,567.89.
+     */
+    static String amount(long paise) {
+        String rupees = Long.toString(paise / 100);
+        StringBuilder grouped = new StringBuilder();
+        int length = rupees.length();
+        for (int i = 0; i < length; i++) {
+            int remaining = length - i;
+            grouped.append(rupees.charAt(i));
+            if (remaining > 1 && (remaining == 4 || (remaining > 4 && remaining % 2 == 0))) {
+                grouped.append(',');
+            }
+        }
+        return grouped.append('.').append(String.format("%02d", paise % 100)).toString();
+    }
+}
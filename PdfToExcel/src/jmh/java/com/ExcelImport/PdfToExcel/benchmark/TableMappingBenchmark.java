@@ -0,0 +1,70 @@
+package com.ExcelImport.PdfToExcel.benchmark;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bank-specific mapping of Tabula rows to transactions (the *MapDto methods).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TableMappingBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int rows;
+
+    private TabulaExtractorService tabulaExtractorService;
+
+    private List<List<String>> canaraTable;
+    private List<List<String>> sbiTable;
+    private List<List<String>> cityUnionTable;
+    private List<List<String>> federalTable;
+
+    @Setup
+    public void setUp() {
+        tabulaExtractorService = new TabulaExtractorService();
+
+        canaraTable = StatementFixtures.canaraTable(rows);
+        sbiTable = StatementFixtures.sbiTable(rows);
+        cityUnionTable = StatementFixtures.cityUnionTable(rows);
+        federalTable = StatementFixtures.federalTable(rows);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> canara() {
+        return tabulaExtractorService.CanaraBankMapDto(canaraTable);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> stateBank() {
+        return tabulaExtractorService.statebankMapDto(sbiTable);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> cityUnion() {
+        return tabulaExtractorService.cityUnionBankMapDto(cityUnionTable);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> federal() {
+        return tabulaExtractorService.FederalBankMapDto(federalTable);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ExcelImport.PdfToExcel.benchmark;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TextBasedExtractorService;
+import org.apache.pdfbox.rendering.ImageType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex text parsers over stripped/OCR statement text. The parsers do not
+ * touch Tesseract, so the services are built without an engine pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TextParsingBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int rows;
+
+    private TextBasedExtractorService textBasedExtractorService;
+    private OcrExtractService ocrExtractService;
+    private UniverselExtractorService universelExtractorService;
+
+    private String canaraText;
+    private String universalText;
+
+    @Setup
+    public void setUp() {
+        textBasedExtractorService = new TextBasedExtractorService(null);
+        ocrExtractService = new OcrExtractService(null, "adaptive", 300, 500, ImageType.GRAY, 70);
+        universelExtractorService = new UniverselExtractorService();
+
+        canaraText = StatementFixtures.canaraText(rows);
+        universalText = StatementFixtures.universalText(rows);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> canaraText() {
+        return textBasedExtractorService.parseCanaraBankTransactions(canaraText);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> ocrBasedText() {
+        return ocrExtractService.ocrBasedTransactions(universalText);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> universalText() {
+        return universelExtractorService.parseUniversalTransactions(universalText);
+    }
+}
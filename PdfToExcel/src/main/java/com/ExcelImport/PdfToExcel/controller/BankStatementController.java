@@ -1,27 +1,35 @@
 package com.ExcelImport.PdfToExcel.controller;
 
-import com.ExcelImport.PdfToExcel.dto.*;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
 import com.ExcelImport.PdfToExcel.dto.Response.BankResponse;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
 import com.ExcelImport.PdfToExcel.dto.Response.UniverseResponse;
-import com.ExcelImport.PdfToExcel.service.ExcelService.CanaraBankStatementExcelService;
-import com.ExcelImport.PdfToExcel.service.ExcelService.IciciBankStatementExcelService;
-import com.ExcelImport.PdfToExcel.service.ExcelService.KvbBankStatementExcelService;
-import com.ExcelImport.PdfToExcel.service.ExcelService.StateBankStatementExcelService;
-import com.ExcelImport.PdfToExcel.service.ExtractService.*;
-import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads.Engine;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService.Admission;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.ExtractionProgressListener;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSpooler;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StageRecorder;
+import com.ExcelImport.PdfToExcel.service.MetricsService.ExtractionMetrics;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParserRegistry;
 import com.ExcelImport.PdfToExcel.service.TallyService.TallyConversionService;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.ExcelImport.PdfToExcel.service.TallyService.TallyXmlSink;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
+import java.util.Map;
 
 @CrossOrigin("*")
 @RestController
@@ -29,110 +37,35 @@ import java.util.List;
 @RequestMapping("/api/pdf")
 public class BankStatementController {
 
-    private final KvbBankStatementService kvbBankStatementService;
-    private final KvbBankStatementExcelService kvbBankStatementExcelService;
-    private final CanaraBankStatementService canaraBankStatementService;
-    private final CanaraBankStatementExcelService canaraBankStatementExcelService;
+    private final BankStatementParserRegistry parsers;
     private final TallyConversionService tallyConversionService;
-    private final FederalBankStatementService federalBankStatementService;
-    private final HdfcBankStatementService hdfcBankStatementService;
-    private final ICICIBankStatementService iciciBankStatementService;
-    private final StateBankStatementService stateBankStatementService;
-    private final InduslndBankStatementService induslndBankStatementService;
-    private final CityUnionBankStatementService cityUnionBankStatementService;
-    private  final IndianBankStatementService indianBankStatementService;
-    private final  IciciBankStatementExcelService iciciBankStatementExcelService;
-    private final StateBankStatementExcelService stateBankStatementExcelService;
     private final UniverselExtractorService extractor;
+    private final PdfSpooler pdfSpooler;
+    private final EngineBulkheads bulkheads;
+    private final ExtractionMetrics metrics;
 
     @Autowired
-    public BankStatementController(KvbBankStatementService kvbBankStatementService, KvbBankStatementExcelService kvbBankStatementExcelService, IciciBankStatementExcelService iciciBankStatementExcelService,
-                                   CanaraBankStatementService canaraBankStatementService, CanaraBankStatementExcelService canaraBankStatementExcelService ,
-                                   FederalBankStatementService federalBankStatementService, ICICIBankStatementService iciciBankStatementService,
-                                   HdfcBankStatementService hdfcBankStatementService, StateBankStatementService stateBankStatementService,
-                                   CityUnionBankStatementService cityUnionBankStatementService, InduslndBankStatementService induslndBankStatementService,
-                                   IndianBankStatementService indianBankStatementService, OcrExtractService ocrExtractService, TallyConversionService tallyConversionService,
-                                   UniverselExtractorService extractor,StateBankStatementExcelService stateBankStatementExcelService) {
-        this.kvbBankStatementService = kvbBankStatementService;
-        this.canaraBankStatementService = canaraBankStatementService;
-        this.kvbBankStatementExcelService = kvbBankStatementExcelService;
-        this.canaraBankStatementExcelService = canaraBankStatementExcelService; // ✅ assign properly
-        this.federalBankStatementService = federalBankStatementService;
-        this.iciciBankStatementService = iciciBankStatementService;
-        this.hdfcBankStatementService = hdfcBankStatementService;
-        this.induslndBankStatementService = induslndBankStatementService;
-        this.stateBankStatementService = stateBankStatementService;
-        this.cityUnionBankStatementService = cityUnionBankStatementService;
-        this.indianBankStatementService = indianBankStatementService;
-        this.iciciBankStatementExcelService = iciciBankStatementExcelService;
-        this.stateBankStatementExcelService = stateBankStatementExcelService;
+    public BankStatementController(BankStatementParserRegistry parsers, TallyConversionService tallyConversionService,
+                                   UniverselExtractorService extractor,
+                                   PdfSpooler pdfSpooler, EngineBulkheads bulkheads, ExtractionMetrics metrics) {
+        this.parsers = parsers;
         this.extractor = extractor;
         this.tallyConversionService = tallyConversionService;
+        this.pdfSpooler = pdfSpooler;
+        this.bulkheads = bulkheads;
+        this.metrics = metrics;
     }
 
     @PostMapping(value = "/extract", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public List<?> extractTransactions(@RequestParam("file") MultipartFile file, @RequestParam("bank") String bank,@RequestParam(value = "password",required = false) String password) throws Exception {
-        List<?> transactions;
-        switch (bank.toUpperCase()) {
-            case "KVB": // OCR-based extraction
-                String ocrText = kvbBankStatementService.extractTextFromScannedPdf(file.getBytes());
-                log.info("🔎 OCR Extracted Text (KVB):\n" + ocrText);
-                transactions = kvbBankStatementService.extractTransactions(ocrText);
-                break;
-
-            case "CANARA": // Tabula table extraction
-                List<List<String>> tableRows = canaraBankStatementService.extractTableFromPdf(file.getBytes());
-                log.info("🔎 Table Rows Extracted (IndianBank):\n" + tableRows);
-                transactions = canaraBankStatementService.mapTableToDto(tableRows);
-                break;
-
-            case "INDIAN_BANK": // Tabula table extraction
-                transactions = indianBankStatementService.extractTransactionsAsDTO(file.getBytes());
-                break;
-
-
-            case "FEDERAL":
-                List<List<String>> federalTableRows = federalBankStatementService.extractTableFromPdf(file.getBytes(),password);
-                log.info("🔎 Table Rows Extracted (Federal):\n" +federalTableRows);
-                transactions = federalBankStatementService.mapFederalTableToDto(federalTableRows);
-                break;
-
-            case "ICICI":
-                // FIXED: Extract text first, then parse transactions
-
-               // log.info("🔎 Extracted Text (ICICI):\n" + pdfText);
-                transactions = iciciBankStatementService.extractUsingTabula(file.getBytes());
-                break;
-
-
-            case "HDFC":
-                // FIXED: Extract text first, then parse transactions
-                String hdfcpdfText = hdfcBankStatementService.extractTextFromPdf(file.getBytes(),password);
-                log.info("🔎 Extracted Text (Hdfc):\n" + hdfcpdfText);
-                transactions = hdfcBankStatementService.extractHdfcTransaction(hdfcpdfText);
-                break;
-
-            case "INDUSLND":
-                transactions = induslndBankStatementService.extractTransactions(file.getBytes());
-                log.info("🔎 Table Rows Extracted (Induslnd):\n" + transactions);
-//                transactions = induslndBankStatementService.(tableindusRows);
-                break;
-
-            case "SBI": // Tabula table extraction
-                List<List<String>> sbitableRows = stateBankStatementService.extractTableFromPdf(file.getBytes(),password);
-                log.info("🔎 Table Rows Extracted (SBI):\n" + sbitableRows);
-                transactions = stateBankStatementService.mapTableToDto(sbitableRows);
-                break;
-
-            case "CITY_UNION": // Tabula table extraction
-                List<List<String>> citytableRows = cityUnionBankStatementService.extractTableFromPdf(file.getBytes());
-                log.info("🔎 Table Rows Extracted (CITY_UNION_BANK):\n" + citytableRows);
-                transactions = cityUnionBankStatementService.mapTableToDto(citytableRows);
-                break;
-
-            default:
-                throw new IllegalArgumentException("Unsupported bank: " + bank);
+        try (PdfSource source = pdfSpooler.spool(file)) {
+            return extractTransactions(source, bank, password);
         }
+    }
+
+    private List<?> extractTransactions(PdfSource source, String bank, String password) throws Exception {
+        // each bank's own extraction and row type
+        List<?> transactions = parsers.get(bank).extract(source, password);
 
         log.info("✅ Extracted " + transactions.size() + " transactions for " + bank);
         return transactions;
@@ -140,55 +73,37 @@ public class BankStatementController {
 
 
     @PostMapping("/download-excel")
-    public ResponseEntity<byte[]> downloadExcel(
+    public ResponseEntity<StreamingResponseBody> downloadExcel(
             @RequestParam("bank") String bank,
             @RequestParam("tableData") String tableData) {
 
         try {
-            byte[] excelBytes;
-
+            // ✅ Read straight into columns; the workbook reads amounts as paise
             ObjectMapper mapper = new ObjectMapper();
+            TransactionBatch transactions = mapper.readValue(tableData, TransactionBatch.class);
 
-            switch (bank.toUpperCase()) {
-                case "KVB":
-                    List<TransactionDTO> kvbList = mapper.readValue(tableData,
-                            new TypeReference<List<TransactionDTO>>() {});
-                    excelBytes = kvbBankStatementExcelService.generateExcel(kvbList);
-                    break;
-
-                case "CANARA":
-                    List<TransactionDTO> canaraList= mapper.readValue(tableData,
-                            new TypeReference<List<TransactionDTO>>() {});
-                    excelBytes = canaraBankStatementExcelService.generateExcel(canaraList);
-                    break;
-
-                case "ICICI":
-                    // ✅ Parse JSON data into DTO list instead of PDF parsing
-                    List<TransactionDTO> iciciList = mapper.readValue(tableData,
-                            new TypeReference<List<TransactionDTO>>() {});
-                    excelBytes = iciciBankStatementExcelService.generateExcel(iciciList);
-                    break;
-
-                case "SBI":
-                    // ✅ Parse JSON data into DTO list instead of reading PDF
-                    List<TransactionDTO> sbiList = mapper.readValue(tableData,
-                            new TypeReference<List<TransactionDTO>>() {});
-                    excelBytes = stateBankStatementExcelService.generateExcel(sbiList);
-                    break;
-
-                default:
-                    throw new IllegalArgumentException("Unsupported bank: " + bank);
-            }
+            // ✅ Workbook is streamed to the response (SXSSF) instead of buffered as byte[]
+            List<StatementWorkbookWriter.Column> columns = parsers.get(bank).excelLayout();
+            StreamingResponseBody workbook = out -> {
+                try (StatementWorkbookWriter writer = StatementWorkbookWriter.open(columns, out)) {
+                    writer.append(transactions);
+                    writer.finish();
+                }
+            };
 
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION,
                             "attachment; filename=" + bank + "_BankStatement.xlsx")
                     .contentType(MediaType.parseMediaType(
                             "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .body(excelBytes);
+                    .body(out -> bulkheads.run(Engine.EXPORT, () ->
+                            metrics.time(StageRecorder.EXCEL_WRITE, bank, ExtractionMetrics.ROUTE_EXPORT, () -> {
+                                workbook.writeTo(out);
+                                return null;
+                            })));
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Excel download failed for bank {}: {}", bank, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -200,177 +115,14 @@ public class BankStatementController {
             @RequestParam("bank") String bank,
             @RequestParam(value = "password",required = false)String password) throws Exception {
 
-        List<TransactionResponseDTO> transactions = new ArrayList<>();
-
-        switch (bank.toUpperCase()) {
-
-            case "KVB":
-                String ocrText = kvbBankStatementService.extractTextFromScannedPdf(file.getBytes());
-                List<KvbTransactionDTO> kvbTransactions = kvbBankStatementService.extractTransactions(ocrText);
-
-                List<TransactionResponseDTO> jsonTransactions = kvbTransactions.stream()
-                        .map(tx -> new TransactionResponseDTO(
-                                tx.getTransactionDate(),
-                                tx.getValueDate(),
-                                tx.getChequeNo(),
-                                tx.getBranch(),
-                                tx.getDescription(),
-                                tx.getDebit(),
-                                tx.getCredit(),
-                                tx.getBalance(),
-                                tx.getVoucherName(),
-                                tx.getLedgerName()
-                        ))
-                        .toList();
-
-                transactions.addAll(jsonTransactions);
-
-                break;
-
-            case "CANARA":
-                // Extract table from PDF
-                List<List<String>> tableRows = canaraBankStatementService.extractTableFromPdf(file.getBytes());
-                List<CanaraBankTransactionDTO> dtos = canaraBankStatementService.mapTableToDto(tableRows);
-
-                // Convert each DTO to TransactionResponseDTO
-                dtos.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranchCode(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-
-                )));
-                break;
-
-            case "INDIAN_BANK":
-                List<IndianBankTransactionDTO> dtoList = indianBankStatementService.extractTransactionsAsDTO(file.getBytes());
-
-                dtoList.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranchCode(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-                )));
-                break;
-
-
-
-            case "FEDERAL":
-                // Extract table from PDF
-                List<List<String>> federalTable = federalBankStatementService.extractTableFromPdf(file.getBytes(),password);
-                List<FederalBankTransactionDTO> fedaral = federalBankStatementService.mapFederalTableToDto(federalTable);
-
-                // Convert each DTO to TransactionResponseDTO
-                fedaral.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranch(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-                )));
-                break;
-
-            case "INDUSLND":
-                // Extract table from PDF
-                List<InduslndBankTransactionDTO> induslndTable = induslndBankStatementService.extractTransactions(file.getBytes());
-
-                // Convert each DTO to TransactionResponseDTO
-                induslndTable.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranchCode(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-                )));
-                break;
-
-            case "ICICI":
-                // 🧩 Extract structured transaction table using Tabula
-                List<ICICIBankTransactionDTO> iciciBankTransactionDTOS = iciciBankStatementService.extractUsingTabula(file.getBytes());
-
-                // ✅ Convert DTO → TransactionResponseDTO
-                iciciBankTransactionDTOS.forEach(tx ->transactions.add( new TransactionResponseDTO(
-                                tx.getTransactionDate(),
-                                tx.getValueDate(),
-                                tx.getChequeNo(),
-                                tx.getBranchCode(),
-                                tx.getDescription(),
-                                tx.getDebit(),
-                                tx.getCredit(),
-                                tx.getBalance(),
-                                tx.getVoucherName(),
-                                tx.getLedgerName()
-                        )));
-
-                break;
-
-
-            case "SBI":
-                // Extract table from PDF
-                List<List<String>> sbiTableRows = stateBankStatementService.extractTableFromPdf(file.getBytes(),password);
-                List<StateBankTransactionDTO> stateBankTransactionDTOS = stateBankStatementService.mapTableToDto(sbiTableRows);
-
-                // Convert each DTO to TransactionResponseDTO
-                stateBankTransactionDTOS.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranchCode(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-                )));
-                break;
-
-            case "CITY_UNION":
-                // Extract table from PDF
-                List<List<String>> cubTableRows = cityUnionBankStatementService.extractTableFromPdf(file.getBytes());
-                List<CityUnionBankTransactionDTO> cityUnionBankTransactionDTOS = cityUnionBankStatementService.mapTableToDto(cubTableRows);
-
-                // Convert each DTO to TransactionResponseDTO
-                cityUnionBankTransactionDTOS.forEach(tx -> transactions.add(new TransactionResponseDTO(
-                        tx.getTransactionDate(),
-                        tx.getValueDate(),
-                        tx.getChequeNo(),
-                        tx.getBranchCode(),
-                        tx.getDescription(),
-                        tx.getDebit(),
-                        tx.getCredit(),
-                        tx.getBalance(),
-                        tx.getVoucherName(),
-                        tx.getLedgerName()
-                )));
-                break;
-
-
-            default:
-                throw new IllegalArgumentException("Unsupported bank: " + bank);
+        try (PdfSource source = pdfSpooler.spool(file)) {
+            return extractTransactionsAsJson(source, bank, password);
         }
+    }
+
+    private ResponseEntity<BankResponse> extractTransactionsAsJson(PdfSource source, String bank, String password) throws Exception {
+        // each bank's own extraction, mapped to the common response row
+        List<TransactionResponseDTO> transactions = parsers.get(bank).extractForResponse(source, password);
 
         // Wrap in BankResponse DTO
         BankResponse response = new BankResponse("success", bank, transactions);
@@ -381,97 +133,132 @@ public class BankStatementController {
 
 
     @PostMapping(value = "/extract/tallyxml", produces = MediaType.APPLICATION_XML_VALUE)
-    public ResponseEntity<byte[]> extractTallyXml(
+    public ResponseEntity<StreamingResponseBody> extractTallyXml(
             @RequestParam("bank") String bank,
             @RequestParam("tableData") String tableDataJson,
             @RequestParam(value ="bankName",required = false) String typeBank) {
 
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            byte[] tallyXml;
+            if (typeBank == null || typeBank.isBlank()) {
+                throw new IllegalArgumentException("bankName (Tally bank ledger) is required");
+            }
+
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_XML);
-
-
-            switch (bank.toUpperCase()) {
-                case "CANARA":
-                    List<TransactionDTO> canaraTransactions =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_Canara.xml").build());
-                    break;
-
-                case "KVB":
-                    List<TransactionDTO> kvbTransactions =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_KVB.xml").build());
-                    break;
-
-                case "FEDERAL":
-                    List<TransactionDTO> federalBankTransactionDTOS =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_Fedaral.xml").build());
-                    break;
-                case "ICICI":
-                    List<TransactionDTO> iciciBankTransactionDTOS  =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_ICICI.xml").build());
-                    break;
-
-                case "SBI":
-                    List<TransactionDTO>  stateBankTransactionDTOS =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_SBI.xml").build());
-                    break;
-
-                case "INDUSLND":
-                    List<TransactionDTO> induslndBankTransactionDTOS  =
-                            mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson, bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment()
-                            .filename("TallyImport_INDUSLND.xml").build());
-                    break;
-
-                case "INDIAN_BANK":
-                    List<TransactionDTO> indianBankTrasactionDTOS = mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson,bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment().filename("TallyImport_Indian_Bank.xml").build());
-                    break;
-
-                case "CITY_UNION":
-                    List<TransactionDTO> cityunionTransactionDTOS = mapper.readValue(tableDataJson, new TypeReference<List<TransactionDTO>>() {});
-                    tallyXml = tallyConversionService.generateTallyXml(tableDataJson,bank,typeBank);
-                    headers.setContentDisposition(ContentDisposition.attachment().filename("TallyImport_City_Union.xml").build());
-                    break;
-
-                default:
-                    throw new IllegalArgumentException("Unsupported bank: " + bank);
-            }
+            headers.setContentDisposition(ContentDisposition.attachment()
+                    .filename(tallyFileName(bank)).build());
+
+            // ✅ Vouchers are parsed and written one at a time, straight to the response
+            StreamingResponseBody tallyXml = out -> bulkheads.run(Engine.EXPORT, () -> {
+                try {
+                    metrics.time(StageRecorder.TALLY_WRITE, bank, ExtractionMetrics.ROUTE_EXPORT,
+                            () -> tallyConversionService.writeTallyXml(new StringReader(tableDataJson), out, bank, typeBank));
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException("Tally XML generation failed: " + e.getMessage(), e);
+                }
+            });
 
             return new ResponseEntity<>(tallyXml, headers, HttpStatus.OK);
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Tally XML export failed for bank {}: {}", bank, e.getMessage(), e);
+            byte[] error = ("<error>" + e.getMessage() + "</error>").getBytes();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(("<error>" + e.getMessage() + "</error>").getBytes());
+                    .body(out -> out.write(error));
         }
     }
 
+    // ===========================================================
+    // 🔹 PDF → Tally XML in one server-side pass (no JSON round trip)
+    // ===========================================================
+    @PostMapping(value = "/extracts/tallyxml", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<StreamingResponseBody> extractPdfToTallyXml(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("bank") String bank,
+            @RequestParam(value = "password", required = false) String password,
+            @RequestParam(value = "accountType", required = false) String accountType,
+            @RequestParam("bankName") String typeBank) throws Exception {
+
+        String fileName = tallyFileName(bank);
+        // spool now: the multipart temp file is gone once the streaming body runs
+        PdfSource source = pdfSpooler.spool(file);
+        // admit before the response is committed, so a shed request still gets 429 + Retry-After
+        Admission admission = admit(source, bank, password, accountType);
+
+        // ✅ Extracted rows go straight into the StAX writer, page by page where the route allows
+        StreamingResponseBody tallyXml = out -> {
+            TallyXmlSink sink = tallyConversionService.openSink(out, bank, typeBank);
+            try (source; admission) {
+                extractor.extractAndParsePdf(source, bank, password, accountType, ExtractionProgressListener.NONE, sink, admission);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("PDF to Tally extraction failed: " + e.getMessage(), e);
+            }
+            int vouchers = metrics.time(StageRecorder.TALLY_WRITE, bank, ExtractionMetrics.ROUTE_EXPORT, sink::finish);
+            log.info("✅ PDF → Tally XML: {} vouchers for {}", vouchers, bank);
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_XML);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        return new ResponseEntity<>(tallyXml, headers, HttpStatus.OK);
+    }
 
+    // ===========================================================
+    // 🔹 PDF → XLSX in one server-side pass, for every universal bank
+    // ===========================================================
+    @PostMapping(value = "/extracts/excel", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> extractPdfToExcel(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("bank") String bank,
+            @RequestParam(value = "password", required = false) String password,
+            @RequestParam(value = "accountType", required = false) String accountType) throws Exception {
+
+        List<StatementWorkbookWriter.Column> columns = parsers.get(bank).excelLayout();
+        // spool now: the multipart temp file is gone once the streaming body runs
+        PdfSource source = pdfSpooler.spool(file);
+        // admit before the response is committed, so a shed request still gets 429 + Retry-After
+        Admission admission = admit(source, bank, password, accountType);
+
+        // ✅ Rows are appended to the SXSSF window as they are extracted; the file is written at the end
+        StreamingResponseBody excel = out -> {
+            try (source; admission; StatementWorkbookWriter writer = StatementWorkbookWriter.open(columns, out)) {
+                extractor.extractAndParsePdf(source, bank, password, accountType, ExtractionProgressListener.NONE, writer, admission);
+                metrics.time(StageRecorder.EXCEL_WRITE, bank, ExtractionMetrics.ROUTE_EXPORT, () -> {
+                    writer.finish();
+                    return null;
+                });
+                log.info("✅ PDF → Excel: {} rows for {}", writer.getRowCount(), bank);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("PDF to Excel extraction failed: " + e.getMessage(), e);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + bank + "_BankStatement.xlsx")
+                .contentType(MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(excel);
+    }
 
+    private Admission admit(PdfSource source, String bank, String password, String accountType) throws Exception {
+        try {
+            return extractor.admit(source, bank, password, accountType);
+        } catch (Exception e) {
+            source.close();
+            throw e;
+        }
+    }
 
-
-
-
+    private String tallyFileName(String bank) {
+        return parsers.get(bank).tallyFileName();
+    }
 
 //    @PostMapping(value = "/extract/tallyxml", produces = MediaType.APPLICATION_XML_VALUE)
 //    public ResponseEntity<byte[]> extractTallyXml(
@@ -526,12 +313,49 @@ public class BankStatementController {
                                                        @RequestParam(value = "password",required = false)String password,
                                                        @RequestParam(value = "accountType",required = false)String accountType) throws Exception {
 
-        List<TransactionDTO> transactions = extractor.extractAndParsePdf(file, bank,password,accountType);
+        TransactionBatch transactions = extractor.extractAndParsePdf(file, bank,password,accountType);
 
         UniverseResponse response = new UniverseResponse("success", bank, transactions);
         return ResponseEntity.ok(response);
     }
 
+    // ===========================================================
+    // 🔹 Streaming variant of /extracts → one TransactionDTO per line (NDJSON)
+    // ===========================================================
+    @PostMapping(value = "/extracts/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPdf(@RequestParam("file") MultipartFile file,
+                                                           @RequestParam("bank") String bank,
+                                                           @RequestParam(value = "password",required = false)String password,
+                                                           @RequestParam(value = "accountType",required = false)String accountType) throws Exception {
+
+        // spool now: the multipart temp file is gone once the streaming body runs
+        PdfSource source = pdfSpooler.spool(file);
+        // admit before the response is committed, so a shed request still gets 429 + Retry-After
+        Admission admission = admit(source, bank, password, accountType);
+        ObjectMapper mapper = new ObjectMapper();
+
+        StreamingResponseBody body = out -> {
+            try (source; admission) {
+                extractor.extractAndParsePdf(source, bank, password, accountType, ExtractionProgressListener.NONE, rows -> {
+                    for (TransactionDTO tx : rows) {
+                        out.write(mapper.writeValueAsBytes(tx));
+                        out.write('\n');
+                    }
+                    out.flush();
+                }, admission);
+            } catch (Exception e) {
+                // status is already committed → report the failure as the last line
+                log.error("❌ Streaming extraction failed for bank {}: {}", bank, e.getMessage(), e);
+                out.write(mapper.writeValueAsBytes(Map.of("error", String.valueOf(e.getMessage()))));
+                out.write('\n');
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
 
 
 }
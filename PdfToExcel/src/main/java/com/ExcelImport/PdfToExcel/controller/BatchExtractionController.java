@@ -0,0 +1,138 @@
+package com.ExcelImport.PdfToExcel.controller;
+
+import com.ExcelImport.PdfToExcel.dto.Response.BatchFileResult;
+import com.ExcelImport.PdfToExcel.dto.Response.BatchResponse;
+import com.ExcelImport.PdfToExcel.service.JobService.BatchExtractionService;
+import com.ExcelImport.PdfToExcel.service.JobService.BatchExtractionService.Batch;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+@CrossOrigin("*")
+@RestController
+@Log4j2
+@RequestMapping("/api/pdf/batch")
+public class BatchExtractionController {
+
+    private final BatchExtractionService batchService;
+
+    public BatchExtractionController(BatchExtractionService batchService) {
+        this.batchService = batchService;
+    }
+
+    // ===========================================================
+    // 🔹 Many PDFs (multipart "files" and/or a "zip") → one result per file
+    //    bank/password/accountType are defaults; a manifest (JSON array of
+    //    {fileName, bank, password, accountType}, or manifest.json in the ZIP) overrides per file
+    // ===========================================================
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchResponse> extractBatch(@RequestParam(value = "files", required = false) MultipartFile[] files,
+                                                      @RequestParam(value = "zip", required = false) MultipartFile zip,
+                                                      @RequestParam(value = "manifest", required = false) String manifest,
+                                                      @RequestParam(value = "bank", required = false) String bank,
+                                                      @RequestParam(value = "password", required = false) String password,
+                                                      @RequestParam(value = "accountType", required = false) String accountType) throws Exception {
+
+        try (Batch batch = collect(files, zip, manifest, bank, password, accountType)) {
+            List<Future<BatchFileResult>> results = submit(batch);
+            try {
+                List<BatchFileResult> fileResults = new ArrayList<>(results.size());
+                for (Future<BatchFileResult> result : results) {
+                    fileResults.add(batchService.await(result, results));
+                }
+                int succeeded = (int) fileResults.stream().filter(r -> "success".equals(r.getStatus())).count();
+                return ResponseEntity.ok(new BatchResponse(fileResults.size(), succeeded,
+                        fileResults.size() - succeeded, fileResults));
+            } finally {
+                batchService.cancel(results);
+            }
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Many PDFs → one XLSX (a sheet per statement + "Batch Summary")
+    // ===========================================================
+    @PostMapping(value = "/excel", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> extractBatchToExcel(@RequestParam(value = "files", required = false) MultipartFile[] files,
+                                                                     @RequestParam(value = "zip", required = false) MultipartFile zip,
+                                                                     @RequestParam(value = "manifest", required = false) String manifest,
+                                                                     @RequestParam(value = "bank", required = false) String bank,
+                                                                     @RequestParam(value = "password", required = false) String password,
+                                                                     @RequestParam(value = "accountType", required = false) String accountType) throws Exception {
+
+        Batch batch = collect(files, zip, manifest, bank, password, accountType);
+        List<Future<BatchFileResult>> results = submit(batch);
+
+        // ✅ Sheets are written in upload order as each statement finishes
+        StreamingResponseBody excel = out -> {
+            try (batch) {
+                batchService.writeMergedExcel(results, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=Batch_BankStatements.xlsx")
+                .contentType(MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(excel);
+    }
+
+    // ===========================================================
+    // 🔹 Many PDFs → one Tally envelope (vouchers of every statement, in upload order)
+    // ===========================================================
+    @PostMapping(value = "/tallyxml", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<StreamingResponseBody> extractBatchToTallyXml(@RequestParam(value = "files", required = false) MultipartFile[] files,
+                                                                        @RequestParam(value = "zip", required = false) MultipartFile zip,
+                                                                        @RequestParam(value = "manifest", required = false) String manifest,
+                                                                        @RequestParam(value = "bank", required = false) String bank,
+                                                                        @RequestParam(value = "password", required = false) String password,
+                                                                        @RequestParam(value = "accountType", required = false) String accountType,
+                                                                        @RequestParam("bankName") String typeBank) throws Exception {
+
+        Batch batch = collect(files, zip, manifest, bank, password, accountType);
+        List<Future<BatchFileResult>> results = submit(batch);
+
+        StreamingResponseBody tallyXml = out -> {
+            try (batch) {
+                batchService.writeMergedTallyXml(results, out, typeBank);
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_XML);
+        headers.setContentDisposition(ContentDisposition.attachment().filename("TallyImport_Batch.xml").build());
+        return new ResponseEntity<>(tallyXml, headers, HttpStatus.OK);
+    }
+
+    private List<Future<BatchFileResult>> submit(Batch batch) {
+        try {
+            return batchService.submit(batch);
+        } catch (RejectedExecutionException e) {
+            batch.close();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Batch queue is full — retry later");
+        }
+    }
+
+    private Batch collect(MultipartFile[] files, MultipartFile zip, String manifest,
+                          String bank, String password, String accountType) throws Exception {
+        try {
+            Batch batch = batchService.collect(files, zip, manifest, bank, password, accountType);
+            log.info("📚 Batch of {} statements received", batch.items().size());
+            return batch;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
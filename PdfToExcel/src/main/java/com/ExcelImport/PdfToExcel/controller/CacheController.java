@@ -0,0 +1,24 @@
+package com.ExcelImport.PdfToExcel.controller;
+
+import com.ExcelImport.PdfToExcel.dto.Response.CacheStatsResponse;
+import com.ExcelImport.PdfToExcel.service.CacheService.ExtractionResultCache;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin("*")
+@RestController
+@RequestMapping("/api/pdf/cache")
+public class CacheController {
+
+    private final ExtractionResultCache resultCache;
+
+    public CacheController(ExtractionResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @GetMapping(value = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStatsResponse> stats() {
+        return ResponseEntity.ok(resultCache.stats());
+    }
+}
@@ -0,0 +1,118 @@
+package com.ExcelImport.PdfToExcel.controller;
+
+import com.ExcelImport.PdfToExcel.dto.Response.JobProgressEvent;
+import com.ExcelImport.PdfToExcel.dto.Response.JobStatusResponse;
+import com.ExcelImport.PdfToExcel.dto.Response.UniverseResponse;
+import com.ExcelImport.PdfToExcel.service.JobService.ExtractionJob;
+import com.ExcelImport.PdfToExcel.service.JobService.ExtractionJobService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+@CrossOrigin("*")
+@RestController
+@Log4j2
+@RequestMapping("/api/pdf/jobs")
+public class ExtractionJobController {
+
+    private final ExtractionJobService jobService;
+    private final long sseTimeoutMs;
+
+    public ExtractionJobController(ExtractionJobService jobService,
+                                   @Value("${extraction.jobs.events-timeout-minutes:30}") long sseTimeoutMinutes) {
+        this.jobService = jobService;
+        this.sseTimeoutMs = sseTimeoutMinutes * 60_000;
+    }
+
+    // ===========================================================
+    // 🔹 Submit a PDF → 202 Accepted with the job id
+    // ===========================================================
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobStatusResponse> submit(@RequestParam("file") MultipartFile file,
+                                                    @RequestParam("bank") String bank,
+                                                    @RequestParam(value = "password", required = false) String password,
+                                                    @RequestParam(value = "accountType", required = false) String accountType) throws Exception {
+        try {
+            ExtractionJob job = jobService.submit(file, bank, password, accountType);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/api/pdf/jobs/" + job.getId())
+                    .body(job.toStatus());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Poll status (stage + page progress)
+    // ===========================================================
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobStatusResponse> status(@PathVariable String jobId) {
+        return jobService.find(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatus()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ===========================================================
+    // 🔹 Live progress as Server-Sent Events (stage, pages, rows, decision, status)
+    // ===========================================================
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable String jobId) {
+        ExtractionJob job = jobService.find(jobId).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Consumer<JobProgressEvent> subscriber = event -> {
+            try {
+                emitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+                if ("status".equals(event.getType()) && job.isFinished()) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client disconnected — stop publishing to it
+                emitter.completeWithError(e);
+            }
+        };
+        emitter.onCompletion(() -> job.unsubscribe(subscriber));
+        emitter.onTimeout(() -> job.unsubscribe(subscriber));
+        emitter.onError(e -> job.unsubscribe(subscriber));
+
+        job.subscribe(subscriber);
+        // current state first; a job that already finished closes the stream right away
+        subscriber.accept(job.snapshot("status", null));
+        return ResponseEntity.ok(emitter);
+    }
+
+    // ===========================================================
+    // 🔹 Fetch the result once COMPLETED (409 with the status otherwise)
+    // ===========================================================
+    @GetMapping(value = "/{jobId}/result", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> result(@PathVariable String jobId) {
+        return jobService.find(jobId)
+                .<ResponseEntity<?>>map(job -> job.getStatus() == ExtractionJob.Status.COMPLETED
+                        ? ResponseEntity.ok(new UniverseResponse("success", job.getBank(), job.getTransactions()))
+                        : ResponseEntity.status(HttpStatus.CONFLICT).body(job.toStatus()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ===========================================================
+    // 🔹 Cancel a queued or running job
+    // ===========================================================
+    @DeleteMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobStatusResponse> cancel(@PathVariable String jobId) {
+        return jobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatus()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
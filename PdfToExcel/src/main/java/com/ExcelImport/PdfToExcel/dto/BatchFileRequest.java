@@ -0,0 +1,20 @@
+package com.ExcelImport.PdfToExcel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One manifest entry of a batch upload: which bank/password/account type to
+ * use for the PDF named {@code fileName}. Missing fields fall back to the
+ * request-level defaults.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFileRequest {
+    private String fileName;
+    private String bank;
+    private String password;
+    private String accountType;
+}
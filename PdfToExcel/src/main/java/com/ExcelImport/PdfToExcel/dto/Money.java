@@ -0,0 +1,278 @@
+package com.ExcelImport.PdfToExcel.dto;
+
+/**
+ * Rupee amount held as a whole number of paise, so sums, differences and
+ * balance comparisons are exact (no {@code double} rounding).
+ * <p>
+ * {@link #parsePaise} reads statement amounts as printed — Indian or western
+ * digit grouping ("1,00,000.00", "100,000.00"), an optional sign, an optional
+ * INR / Rs / ₹ prefix and an optional Cr/Dr suffix (Dr is negative) — without
+ * allocating. Formatting gives the plain ("100000.00"), western grouped
+ * ("100,000.00", as {@code %,.2f}) or Indian grouped ("1,00,000.00") form.
+ */
+public record Money(long paise) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * {@link #parsePaise} result for blank, "-" or anything that is not an amount.
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    // largest rupee part: rupees * 100 + paise, rounded up, still fits a long and is never NONE when negated
+    static final long MAX_RUPEES = Long.MAX_VALUE / 100 - 1;
+
+    // sign, 17 rupee digits, 8 commas, point, 2 paise digits
+    static final int MAX_FORMATTED = 29;
+
+    public static Money ofPaise(long paise) {
+        return paise == 0 ? ZERO : new Money(paise);
+    }
+
+    /**
+     * Parsed amount, or {@code null} for blank, "-" or anything that is not an amount.
+     */
+    public static Money parse(CharSequence text) {
+        long paise = parsePaise(text);
+        return paise == NONE ? null : ofPaise(paise);
+    }
+
+    /**
+     * Like {@link #parsePaise}, but fails like {@link Double#parseDouble} on
+     * anything that is not an amount.
+     */
+    public static long paiseOf(CharSequence text) {
+        long paise = parsePaise(text);
+        if (paise == NONE) {
+            throw new NumberFormatException("Not an amount: \"" + text + "\"");
+        }
+        return paise;
+    }
+
+    /**
+     * Amount in paise, or {@link #NONE}. Fractions beyond two digits are
+     * rounded half up; amounts beyond {@code MAX_RUPEES} are {@link #NONE}.
+     */
+    public static long parsePaise(CharSequence text) {
+        if (text == null) return NONE;
+        int i = 0;
+        int end = text.length();
+        while (i < end && Character.isWhitespace(text.charAt(i))) i++;
+        while (end > i && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (i == end) return NONE;
+
+        // 1️⃣ sign and currency, in either order ("- INR 32.00", "INR -32.00")
+        boolean negative = false;
+        boolean signed = false;
+        boolean currency = false;
+        while (i < end) {
+            char c = text.charAt(i);
+            int next;
+            if (!signed && (c == '-' || c == '+')) {
+                negative = c == '-';
+                signed = true;
+                next = i + 1;
+            } else if (!currency && (next = skipCurrency(text, i, end)) > i) {
+                currency = true;
+            } else {
+                break;
+            }
+            i = skipSpaces(text, next, end);
+        }
+
+        // 2️⃣ rupees, commas only between digits
+        long rupees = 0;
+        int digits = 0;
+        boolean comma = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (rupees > (MAX_RUPEES - (c - '0')) / 10) return NONE;
+                rupees = rupees * 10 + (c - '0');
+                digits++;
+                comma = false;
+            } else if (c == ',' && digits > 0 && !comma) {
+                comma = true;
+            } else {
+                break;
+            }
+        }
+        if (comma) return NONE;
+
+        // 3️⃣ paise
+        long paise = 0;
+        int fraction = 0;
+        boolean roundUp = false;
+        if (i < end && text.charAt(i) == '.') {
+            for (i++; i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++, fraction++) {
+                int d = text.charAt(i) - '0';
+                if (fraction < 2) {
+                    paise = paise * 10 + d;
+                } else if (fraction == 2) {
+                    roundUp = d >= 5;
+                }
+            }
+            if (fraction == 1) paise *= 10;
+        }
+        if (digits == 0 && fraction == 0) return NONE;
+
+        // 4️⃣ Cr / Dr
+        i = skipSpaces(text, i, end);
+        if (end - i >= 2) {
+            char c = Character.toLowerCase(text.charAt(i));
+            char r = Character.toLowerCase(text.charAt(i + 1));
+            if ((c == 'c' || c == 'd') && r == 'r') {
+                negative |= c == 'd';
+                i += 2;
+                if (i < end && text.charAt(i) == '.') i++;
+            }
+        }
+        if (i != end) return NONE;
+
+        long amount = rupees * 100 + paise + (roundUp ? 1 : 0);
+        if (amount / 100 > MAX_RUPEES) return NONE; // rounded past the largest amount
+        return negative ? -amount : amount;
+    }
+
+    private static int skipSpaces(CharSequence text, int i, int end) {
+        while (i < end && Character.isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+
+    /**
+     * Index after an INR / Rs / Rs. / ₹ prefix at {@code i}, or {@code i}.
+     */
+    private static int skipCurrency(CharSequence text, int i, int end) {
+        char c = text.charAt(i);
+        if (c == '₹') return i + 1;
+        if (end - i >= 3 && (c == 'I' || c == 'i')
+                && Character.toLowerCase(text.charAt(i + 1)) == 'n'
+                && Character.toLowerCase(text.charAt(i + 2)) == 'r') {
+            return i + 3;
+        }
+        if (end - i >= 2 && (c == 'R' || c == 'r') && Character.toLowerCase(text.charAt(i + 1)) == 's') {
+            return end - i >= 3 && text.charAt(i + 2) == '.' ? i + 3 : i + 2;
+        }
+        return i;
+    }
+
+    // ===========================================================
+    // 🔹 Arithmetic
+    // ===========================================================
+    public Money plus(Money other) {
+        return ofPaise(Math.addExact(paise, other.paise));
+    }
+
+    public Money minus(Money other) {
+        return ofPaise(Math.subtractExact(paise, other.paise));
+    }
+
+    public Money abs() {
+        return paise < 0 ? ofPaise(-paise) : this;
+    }
+
+    public int signum() {
+        return Long.signum(paise);
+    }
+
+    public boolean isZero() {
+        return paise == 0;
+    }
+
+    /**
+     * Rupees as a double, for spreadsheet cells.
+     */
+    public double toDouble() {
+        return paise / 100.0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(paise, other.paise);
+    }
+
+    // ===========================================================
+    // 🔹 Formatting
+    // ===========================================================
+
+    /**
+     * "-1234.50", as Tally and {@code %.2f} write amounts.
+     */
+    public String toPlainString() {
+        return toPlainString(paise);
+    }
+
+    /**
+     * "1,234,567.50", as {@code %,.2f} writes amounts.
+     */
+    public String format() {
+        return format(paise);
+    }
+
+    /**
+     * "12,34,567.50", the grouping printed on Indian statements.
+     */
+    public String formatIndian() {
+        return formatIndian(paise);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+
+    public static String toPlainString(long paise) {
+        return format(paise, 0, 0);
+    }
+
+    public static String format(long paise) {
+        return format(paise, 3, 3);
+    }
+
+    public static String formatIndian(long paise) {
+        return format(paise, 3, 2);
+    }
+
+    private static String format(long paise, int first, int rest) {
+        char[] out = new char[MAX_FORMATTED];
+        return new String(out, 0, format(paise, first, rest, out));
+    }
+
+    /**
+     * Rupees grouped {@code first} digits from the right, then every
+     * {@code rest} digits (0 = no grouping), and two paise digits, written
+     * into {@code out} (at least {@link #MAX_FORMATTED} chars).
+     *
+     * @return number of chars written
+     * @throws IllegalArgumentException for {@link #NONE}, which is not an amount
+     */
+    static int format(long paise, int first, int rest, char[] out) {
+        if (paise == NONE) {
+            throw new IllegalArgumentException("Money.NONE is not an amount");
+        }
+        long magnitude = Math.abs(paise);
+        long rupees = magnitude / 100;
+        long cents = magnitude % 100;
+
+        // right to left: paise, point, then rupee digits with their separators
+        int end = MAX_FORMATTED;
+        int i = end;
+        out[--i] = (char) ('0' + cents % 10);
+        out[--i] = (char) ('0' + cents / 10);
+        out[--i] = '.';
+        int digits = 0;
+        do {
+            if (first > 0 && (digits == first || (digits > first && (digits - first) % rest == 0))) {
+                out[--i] = ',';
+            }
+            out[--i] = (char) ('0' + rupees % 10);
+            rupees /= 10;
+            digits++;
+        } while (rupees > 0);
+        if (paise < 0) out[--i] = '-';
+
+        int length = end - i;
+        System.arraycopy(out, i, out, 0, length);
+        return length;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ExcelImport.PdfToExcel.dto.Response;
+
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFileResult {
+
+    private String fileName;
+    private String bank;
+    private String status;
+    private String error;
+    private long elapsedMs;
+    private TransactionBatch transactions;
+}
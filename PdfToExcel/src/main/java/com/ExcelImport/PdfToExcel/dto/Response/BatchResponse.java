@@ -0,0 +1,18 @@
+package com.ExcelImport.PdfToExcel.dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private int files;
+    private int succeeded;
+    private int failed;
+    private List<BatchFileResult> results;
+}
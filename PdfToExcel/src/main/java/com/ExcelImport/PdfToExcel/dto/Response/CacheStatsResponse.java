@@ -0,0 +1,21 @@
+package com.ExcelImport.PdfToExcel.dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private boolean enabled;
+    private int heapEntries;
+    private long heapRows;
+    private long maxHeapRows;
+    private long heapHits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private boolean diskTierEnabled;
+}
@@ -0,0 +1,26 @@
+package com.ExcelImport.PdfToExcel.dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One Server-Sent Event of an extraction job. {@code type} is the SSE event
+ * name: stage, pages, rows, decision or status; {@code elapsedMs} is the time
+ * since the job started running, so slow stages show up as gaps.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobProgressEvent {
+
+    private String type;
+    private String jobId;
+    private String status;
+    private String stage;
+    private int pagesProcessed;
+    private int totalPages;
+    private int rowsFound;
+    private String message;
+    private long elapsedMs;
+}
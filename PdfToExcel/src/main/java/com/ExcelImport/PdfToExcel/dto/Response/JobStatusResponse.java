@@ -0,0 +1,26 @@
+package com.ExcelImport.PdfToExcel.dto.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResponse {
+
+    private String jobId;
+    private String status;
+    private String bank;
+    private String stage;
+    private int pagesProcessed;
+    private int totalPages;
+    private Integer transactionCount;
+    private List<String> decisions;
+    private String error;
+    private Instant submittedAt;
+    private Instant finishedAt;
+}
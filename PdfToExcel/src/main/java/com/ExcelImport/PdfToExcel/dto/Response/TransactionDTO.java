@@ -1,5 +1,7 @@
 package com.ExcelImport.PdfToExcel.dto.Response;
 
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,4 +19,19 @@ public class TransactionDTO {
     private String voucherType;
     private String valueDate;
 
+    // amounts stay strings on the wire (as printed); these read them as paise, null when blank or "-"
+    @JsonIgnore
+    public Money getDebitAmount() {
+        return Money.parse(debit);
+    }
+
+    @JsonIgnore
+    public Money getCreditAmount() {
+        return Money.parse(credit);
+    }
+
+    @JsonIgnore
+    public Money getBalanceAmount() {
+        return Money.parse(balance);
+    }
 }
@@ -0,0 +1,554 @@
+package com.ExcelImport.PdfToExcel.dto;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The transactions of one statement, stored by column: dates as epoch days,
+ * amounts as paise, and all text (descriptions, voucher types, anything
+ * that is not a plain date or amount) in one shared char buffer with offsets.
+ * A 50k-row result is a handful of arrays instead of 400k small objects.
+ * <p>
+ * Every field reads back exactly as it was added — a date or amount is only
+ * stored compactly when re-rendering it gives the same text ("01-04-2024",
+ * "1,01,747.08"), otherwise the text is kept as is. JSON is written
+ * straight from the columns, in the same shape as a {@code TransactionDTO}
+ * array; {@link #get} / {@link #asList} build DTOs only where an API needs them.
+ * <p>
+ * Immutable once built, so one batch can be shared by the result cache,
+ * jobs and concurrent exports.
+ */
+@JsonSerialize(using = TransactionBatch.JsonWriter.class)
+@JsonDeserialize(using = TransactionBatch.JsonReader.class)
+public final class TransactionBatch {
+
+    public static final TransactionBatch EMPTY = new Builder(0).build();
+
+    /**
+     * {@link #epochDay} result for a missing or non-numeric date.
+     */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /**
+     * The {@code TransactionDTO} fields, in JSON order.
+     */
+    public enum Field {
+        TRANSACTION_DATE("transactionDate"),
+        DESCRIPTION("description"),
+        DEBIT("debit"),
+        CREDIT("credit"),
+        BALANCE("balance"),
+        VOUCHER_TYPE("voucherType"),
+        VALUE_DATE("valueDate");
+
+        private final String jsonName;
+        private final SerializedString encodedName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+            this.encodedName = new SerializedString(jsonName);
+        }
+
+        public String jsonName() {
+            return jsonName;
+        }
+
+        public boolean isAmount() {
+            return this == DEBIT || this == CREDIT || this == BALANCE;
+        }
+
+        public boolean isDate() {
+            return this == TRANSACTION_DATE || this == VALUE_DATE;
+        }
+
+        public String of(TransactionDTO tx) {
+            switch (this) {
+                case TRANSACTION_DATE:
+                    return tx.getTransactionDate();
+                case DESCRIPTION:
+                    return tx.getDescription();
+                case DEBIT:
+                    return tx.getDebit();
+                case CREDIT:
+                    return tx.getCredit();
+                case BALANCE:
+                    return tx.getBalance();
+                case VOUCHER_TYPE:
+                    return tx.getVoucherType();
+                default:
+                    return tx.getValueDate();
+            }
+        }
+
+        private static Field byJsonName(String name) {
+            for (Field field : FIELDS) {
+                if (field.jsonName.equals(name)) return field;
+            }
+            return null;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final int WIDTH = FIELDS.length;
+
+    // how a field is stored, per row and field
+    private static final byte NULL = 0;
+    private static final byte TEXT = 1;
+    private static final byte DATE_DASH = 2;   // dd-MM-yyyy
+    private static final byte DATE_SLASH = 3;  // dd/MM/yyyy
+    private static final byte AMOUNT_PLAIN = 4;    // 100000.00
+    private static final byte AMOUNT_WESTERN = 5;  // 100,000.00
+    private static final byte AMOUNT_INDIAN = 6;   // 1,00,000.00
+
+    private final int size;
+    private final byte[] styles;      // row * WIDTH + field
+    private final int[] textEnds;     // row * WIDTH + field → end of its text; starts where the previous slot ended
+    private final char[] text;
+    private final int[] transactionDates;
+    private final int[] valueDates;
+    private final long[] debits;
+    private final long[] credits;
+    private final long[] balances;
+
+    private TransactionBatch(Builder builder) {
+        this.size = builder.size;
+        this.styles = Arrays.copyOf(builder.styles, size * WIDTH);
+        this.textEnds = Arrays.copyOf(builder.textEnds, size * WIDTH);
+        this.text = Arrays.copyOf(builder.text, builder.textLength);
+        this.transactionDates = Arrays.copyOf(builder.transactionDates, size);
+        this.valueDates = Arrays.copyOf(builder.valueDates, size);
+        this.debits = Arrays.copyOf(builder.debits, size);
+        this.credits = Arrays.copyOf(builder.credits, size);
+        this.balances = Arrays.copyOf(builder.balances, size);
+    }
+
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public static TransactionBatch of(List<TransactionDTO> transactions) {
+        Builder builder = new Builder(transactions.size());
+        for (TransactionDTO tx : transactions) {
+            builder.add(tx);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ===========================================================
+    // 🔹 Column access
+    // ===========================================================
+    public boolean isNull(int row, Field field) {
+        return style(row, field) == NULL;
+    }
+
+    /**
+     * The field as it was added.
+     */
+    public String text(int row, Field field) {
+        byte style = style(row, field);
+        switch (style) {
+            case NULL:
+                return null;
+            case TEXT:
+                int slot = row * WIDTH + field.ordinal();
+                int start = slot == 0 ? 0 : textEnds[slot - 1];
+                return new String(text, start, textEnds[slot] - start);
+            default:
+                char[] out = new char[Money.MAX_FORMATTED];
+                return new String(out, 0, render(row, field, style, out));
+        }
+    }
+
+    /**
+     * Length of {@link #text} without building it (0 for null).
+     */
+    public int length(int row, Field field) {
+        byte style = style(row, field);
+        switch (style) {
+            case NULL:
+                return 0;
+            case TEXT:
+                int slot = row * WIDTH + field.ordinal();
+                return textEnds[slot] - (slot == 0 ? 0 : textEnds[slot - 1]);
+            case DATE_DASH:
+            case DATE_SLASH:
+                return 10;
+            default:
+                return amountLength(amountColumn(field)[row], style);
+        }
+    }
+
+    /**
+     * Amount field in paise, or {@link Money#NONE} when it is missing or not
+     * an amount; text amounts ("1,234.50 Dr") are parsed on the way out.
+     */
+    public long paise(int row, Field field) {
+        if (!field.isAmount()) {
+            throw new IllegalArgumentException("Not an amount field: " + field);
+        }
+        byte style = style(row, field);
+        switch (style) {
+            case NULL:
+                return Money.NONE;
+            case TEXT:
+                int slot = row * WIDTH + field.ordinal();
+                int start = slot == 0 ? 0 : textEnds[slot - 1];
+                return Money.parsePaise(CharBuffer.wrap(text, start, textEnds[slot] - start));
+            default:
+                return amountColumn(field)[row];
+        }
+    }
+
+    /**
+     * Date field as an epoch day, or {@link #NO_DATE} unless it was a
+     * dd-MM-yyyy or dd/MM/yyyy date.
+     */
+    public int epochDay(int row, Field field) {
+        if (!field.isDate()) {
+            throw new IllegalArgumentException("Not a date field: " + field);
+        }
+        byte style = style(row, field);
+        return style == DATE_DASH || style == DATE_SLASH ? dateColumn(field)[row] : NO_DATE;
+    }
+
+    /**
+     * Whether the field is held as an epoch day or paise rather than text.
+     */
+    boolean isCompact(int row, Field field) {
+        return style(row, field) > TEXT;
+    }
+
+    // ===========================================================
+    // 🔹 DTOs, only where an API needs them
+    // ===========================================================
+    public TransactionDTO get(int row) {
+        return new TransactionDTO(
+                text(row, Field.TRANSACTION_DATE),
+                text(row, Field.DESCRIPTION),
+                text(row, Field.DEBIT),
+                text(row, Field.CREDIT),
+                text(row, Field.BALANCE),
+                text(row, Field.VOUCHER_TYPE),
+                text(row, Field.VALUE_DATE));
+    }
+
+    /**
+     * Read-only list view; each {@code get} builds a fresh DTO.
+     */
+    public List<TransactionDTO> asList() {
+        return new AbstractList<>() {
+            @Override
+            public TransactionDTO get(int row) {
+                return TransactionBatch.this.get(row);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private byte style(int row, Field field) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return styles[row * WIDTH + field.ordinal()];
+    }
+
+    private int[] dateColumn(Field field) {
+        return field == Field.TRANSACTION_DATE ? transactionDates : valueDates;
+    }
+
+    private long[] amountColumn(Field field) {
+        switch (field) {
+            case DEBIT:
+                return debits;
+            case CREDIT:
+                return credits;
+            default:
+                return balances;
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Compact forms: encode only what renders back identically
+    // ===========================================================
+    private static int parseDate(String value) {
+        if (value.length() != 10 || value.charAt(2) != value.charAt(5)) return NO_DATE;
+        int day = twoDigits(value, 0);
+        int month = twoDigits(value, 3);
+        int year = twoDigits(value, 6) * 100 + twoDigits(value, 8);
+        if (day < 0 || month < 0 || year < 1000) return NO_DATE;
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return NO_DATE;
+        }
+    }
+
+    private static int twoDigits(String value, int i) {
+        char tens = value.charAt(i);
+        char units = value.charAt(i + 1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') return Integer.MIN_VALUE;
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    /**
+     * Compact date or amount written into {@code out}; returns its length.
+     */
+    private int render(int row, Field field, byte style, char[] out) {
+        switch (style) {
+            case DATE_DASH:
+            case DATE_SLASH:
+                LocalDate date = LocalDate.ofEpochDay(dateColumn(field)[row]);
+                char separator = style == DATE_DASH ? '-' : '/';
+                int year = date.getYear();
+                out[0] = digit(date.getDayOfMonth() / 10);
+                out[1] = digit(date.getDayOfMonth() % 10);
+                out[2] = separator;
+                out[3] = digit(date.getMonthValue() / 10);
+                out[4] = digit(date.getMonthValue() % 10);
+                out[5] = separator;
+                out[6] = digit(year / 1000);
+                out[7] = digit(year / 100 % 10);
+                out[8] = digit(year / 10 % 10);
+                out[9] = digit(year % 10);
+                return 10;
+            case AMOUNT_WESTERN:
+                return Money.format(amountColumn(field)[row], 3, 3, out);
+            case AMOUNT_INDIAN:
+                return Money.format(amountColumn(field)[row], 3, 2, out);
+            default:
+                return Money.format(amountColumn(field)[row], 0, 0, out);
+        }
+    }
+
+    private static char digit(int d) {
+        return (char) ('0' + d);
+    }
+
+    private static byte amountStyle(String value, long paise) {
+        if (value.indexOf(',') < 0) {
+            return value.equals(Money.toPlainString(paise)) ? AMOUNT_PLAIN : TEXT;
+        }
+        if (value.equals(Money.format(paise))) return AMOUNT_WESTERN;
+        if (value.equals(Money.formatIndian(paise))) return AMOUNT_INDIAN;
+        return TEXT;
+    }
+
+    private static int amountLength(long paise, byte style) {
+        long rupees = Math.abs(paise / 100);
+        int digits = 1;
+        while (rupees >= 10) {
+            rupees /= 10;
+            digits++;
+        }
+        int commas;
+        switch (style) {
+            case AMOUNT_WESTERN:
+                commas = (digits - 1) / 3;
+                break;
+            case AMOUNT_INDIAN:
+                commas = digits > 3 ? 1 + (digits - 4) / 2 : 0;
+                break;
+            default:
+                commas = 0;
+        }
+        return (paise < 0 ? 1 : 0) + digits + commas + 3;
+    }
+
+    // ===========================================================
+    // 🔹 Builder (append-only, not thread-safe)
+    // ===========================================================
+    public static final class Builder {
+
+        private int size;
+        private byte[] styles;
+        private int[] textEnds;
+        private char[] text;
+        private int textLength;
+        private int[] transactionDates;
+        private int[] valueDates;
+        private long[] debits;
+        private long[] credits;
+        private long[] balances;
+
+        private Builder(int expectedRows) {
+            int rows = Math.max(expectedRows, 1);
+            this.styles = new byte[rows * WIDTH];
+            this.textEnds = new int[rows * WIDTH];
+            this.text = new char[rows * 48];
+            this.transactionDates = new int[rows];
+            this.valueDates = new int[rows];
+            this.debits = new long[rows];
+            this.credits = new long[rows];
+            this.balances = new long[rows];
+        }
+
+        public Builder add(TransactionDTO tx) {
+            return add(tx.getTransactionDate(), tx.getDescription(), tx.getDebit(), tx.getCredit(),
+                    tx.getBalance(), tx.getVoucherType(), tx.getValueDate());
+        }
+
+        public Builder addAll(List<TransactionDTO> transactions) {
+            for (TransactionDTO tx : transactions) {
+                add(tx);
+            }
+            return this;
+        }
+
+        public Builder add(String transactionDate, String description, String debit, String credit,
+                           String balance, String voucherType, String valueDate) {
+            if (size == transactionDates.length) {
+                grow();
+            }
+            put(Field.TRANSACTION_DATE, transactionDate);
+            put(Field.DESCRIPTION, description);
+            put(Field.DEBIT, debit);
+            put(Field.CREDIT, credit);
+            put(Field.BALANCE, balance);
+            put(Field.VOUCHER_TYPE, voucherType);
+            put(Field.VALUE_DATE, valueDate);
+            size++;
+            return this;
+        }
+
+        private void put(Field field, String value) {
+            int slot = size * WIDTH + field.ordinal();
+            byte style = value == null ? NULL : TEXT;
+
+            if (value != null && field.isDate()) {
+                int epochDay = parseDate(value);
+                if (epochDay != NO_DATE) {
+                    (field == Field.TRANSACTION_DATE ? transactionDates : valueDates)[size] = epochDay;
+                    style = value.charAt(2) == '-' ? DATE_DASH : value.charAt(2) == '/' ? DATE_SLASH : TEXT;
+                }
+            } else if (value != null && field.isAmount()) {
+                long paise = Money.parsePaise(value);
+                if (paise != Money.NONE) {
+                    style = amountStyle(value, paise);
+                    (field == Field.DEBIT ? debits : field == Field.CREDIT ? credits : balances)[size] = paise;
+                }
+            }
+
+            if (style == TEXT) {
+                int length = value.length();
+                if (textLength + length > text.length) {
+                    text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+                }
+                value.getChars(0, length, text, textLength);
+                textLength += length;
+            }
+            styles[slot] = style;
+            textEnds[slot] = textLength;
+        }
+
+        private void grow() {
+            int rows = transactionDates.length * 2;
+            styles = Arrays.copyOf(styles, rows * WIDTH);
+            textEnds = Arrays.copyOf(textEnds, rows * WIDTH);
+            transactionDates = Arrays.copyOf(transactionDates, rows);
+            valueDates = Arrays.copyOf(valueDates, rows);
+            debits = Arrays.copyOf(debits, rows);
+            credits = Arrays.copyOf(credits, rows);
+            balances = Arrays.copyOf(balances, rows);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public TransactionBatch build() {
+            return new TransactionBatch(this);
+        }
+    }
+
+    // ===========================================================
+    // 🔹 JSON: the TransactionDTO array shape, straight from the columns
+    // ===========================================================
+    static final class JsonWriter extends JsonSerializer<TransactionBatch> {
+
+        @Override
+        public void serialize(TransactionBatch batch, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            char[] scratch = new char[Money.MAX_FORMATTED];
+            gen.writeStartArray(batch, batch.size);
+            for (int row = 0; row < batch.size; row++) {
+                gen.writeStartObject();
+                for (Field field : FIELDS) {
+                    gen.writeFieldName(field.encodedName);
+                    int slot = row * WIDTH + field.ordinal();
+                    byte style = batch.styles[slot];
+                    switch (style) {
+                        case NULL:
+                            gen.writeNull();
+                            break;
+                        case TEXT:
+                            int start = slot == 0 ? 0 : batch.textEnds[slot - 1];
+                            gen.writeString(batch.text, start, batch.textEnds[slot] - start);
+                            break;
+                        default:
+                            gen.writeString(scratch, 0, batch.render(row, field, style, scratch));
+                    }
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class JsonReader extends JsonDeserializer<TransactionBatch> {
+
+        @Override
+        public TransactionBatch deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return (TransactionBatch) context.handleUnexpectedToken(TransactionBatch.class, parser);
+            }
+            Builder builder = builder();
+            String[] values = new String[WIDTH];
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Arrays.fill(values, null);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Field field = Field.byJsonName(parser.currentName());
+                    JsonToken value = parser.nextToken();
+                    if (value.isStructStart()) {
+                        parser.skipChildren();
+                    } else if (field != null && value != JsonToken.VALUE_NULL) {
+                        values[field.ordinal()] = parser.getValueAsString();
+                    }
+                }
+                builder.add(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+            }
+            return builder.build();
+        }
+    }
+}
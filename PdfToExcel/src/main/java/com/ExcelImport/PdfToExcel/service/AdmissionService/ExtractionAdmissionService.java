@@ -0,0 +1,245 @@
+package com.ExcelImport.PdfToExcel.service.AdmissionService;
+
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PageStructure;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TesseractEnginePool;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParser;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParser.Route;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParserRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.rendering.ImageType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control in front of every universal extraction.
+ * <p>
+ * The extraction loads the document once and prices it before any stage
+ * runs: a structure scan of the page resources (pages that carry an image but
+ * no fonts, page size; no rendering, no text extraction), the file size and
+ * the bank's route give an estimate of peak heap and CPU time. An
+ * extraction is admitted while the estimates of all running extractions fit
+ * the memory budget ({@code extraction.admission.memory-budget-mb}) and CPU
+ * budget ({@code extraction.admission.cpu-budget-seconds}) and the live heap
+ * has room for it. Otherwise it waits in a bounded queue; if the queue is full
+ * or the wait expires it is rejected with 429 and {@code Retry-After}. A lone
+ * extraction is always admitted, so oversized statements still run when the
+ * server is otherwise idle. Background work (batch files, async jobs) is never shed: it
+ * waits outside the queue limit until the budgets have room.
+ */
+@Log4j2
+@Service
+public class ExtractionAdmissionService {
+
+    // per-page CPU costs are the route's and the format's cost hints (BankStatementParser)
+    private static final long PAGE_WORKING_BYTES = 256 * 1024;
+    private static final int PARSED_BYTES_PER_FILE_BYTE = 3;
+    private static final double LIVE_HEAP_HIGH_WATER = 0.9;
+    // live heap can drop (GC) without a release, so waiters re-check at least this often
+    private static final long RECHECK_MS = 500;
+
+    private final BankStatementParserRegistry parsers;
+    private final long memoryBudgetBytes;
+    private final double cpuBudgetSeconds;
+    private final int maxQueued;
+    private final long maxWaitMs;
+    private final int ocrImagesInFlight;
+    private final int ocrMaxDpi;
+    private final int ocrBytesPerPixel;
+
+    // a lock rather than synchronized: waiting virtual threads must not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition capacityFreed = lock.newCondition();
+    private long reservedBytes;
+    private double reservedCpuSeconds;
+    private int running;
+    private int queued;
+
+    public ExtractionAdmissionService(TesseractEnginePool enginePool, BankStatementParserRegistry parsers,
+                                      @Value("${extraction.admission.memory-budget-mb:0}") long memoryBudgetMb,
+                                      @Value("${extraction.admission.cpu-budget-seconds:0}") double cpuBudgetSeconds,
+                                      @Value("${extraction.admission.max-queued:10}") int maxQueued,
+                                      @Value("${extraction.admission.max-wait-seconds:30}") long maxWaitSeconds,
+                                      @Value("${ocr.render.max-dpi:500}") int ocrMaxDpi,
+                                      @Value("${ocr.render.image-type:GRAY}") ImageType ocrImageType) {
+        this.parsers = parsers;
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        this.memoryBudgetBytes = memoryBudgetMb > 0 ? memoryBudgetMb * 1024 * 1024 : (long) (maxHeap * 0.6);
+        this.cpuBudgetSeconds = cpuBudgetSeconds > 0 ? cpuBudgetSeconds : Runtime.getRuntime().availableProcessors() * 60.0;
+        this.maxQueued = maxQueued;
+        this.maxWaitMs = TimeUnit.SECONDS.toMillis(maxWaitSeconds);
+        this.ocrImagesInFlight = enginePool.size();
+        this.ocrMaxDpi = ocrMaxDpi;
+        this.ocrBytesPerPixel = ocrImageType == ImageType.GRAY || ocrImageType == ImageType.BINARY ? 1 : 4;
+        log.info("🛂 Admission control ready — memory budget {} MB, CPU budget {} s, queue {}, max wait {} s",
+                this.memoryBudgetBytes / (1024 * 1024), this.cpuBudgetSeconds, maxQueued, maxWaitSeconds);
+    }
+
+    /**
+     * Reservation held for the duration of one extraction; closing releases it.
+     */
+    public final class AdmissionTicket implements AutoCloseable {
+
+        private final JobCostEstimate estimate;
+        private final boolean background;
+        private boolean released;
+
+        private AdmissionTicket(JobCostEstimate estimate, boolean background) {
+            this.estimate = estimate;
+            this.background = background;
+        }
+
+        public JobCostEstimate getEstimate() {
+            return estimate;
+        }
+
+        /**
+         * Admitted by {@link #admitWaiting}; the stages wait for their bulkheads too.
+         */
+        public boolean isBackground() {
+            return background;
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!released) {
+                    released = true;
+                    release(estimate);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Pre-stage: estimate → admit, queue or reject
+    // ===========================================================
+    public AdmissionTicket admit(PDDocument document, long fileBytes, String bank) throws IOException, InterruptedException {
+        JobCostEstimate estimate = estimate(document, fileBytes, bank);
+        long deadline = System.currentTimeMillis() + maxWaitMs;
+
+        lock.lock();
+        try {
+            if (!fits(estimate)) {
+                if (queued >= maxQueued) {
+                    log.warn("🚫 Admission queue full — rejecting {} extraction: {}", bank, estimate);
+                    throw new AdmissionRejectedException("Server is at capacity — admission queue full", retryAfterSeconds());
+                }
+                queued++;
+                try {
+                    log.info("⏳ Extraction queued for admission ({} running): {}", running, estimate);
+                    long remaining;
+                    while (!fits(estimate) && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        capacityFreed.await(Math.min(remaining, RECHECK_MS), TimeUnit.MILLISECONDS);
+                    }
+                    if (!fits(estimate)) {
+                        log.warn("⌛ Admission wait expired — rejecting {} extraction: {}", bank, estimate);
+                        throw new AdmissionRejectedException("Server is at capacity — estimated cost " + estimate,
+                                retryAfterSeconds());
+                    }
+                } finally {
+                    queued--;
+                }
+            }
+
+            return reserve(estimate, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Background admission (batch files, async jobs): waits until the estimate fits, with
+     * no queue limit and no deadline; only an interrupt (a cancelled batch) ends the wait.
+     */
+    public AdmissionTicket admitWaiting(PDDocument document, long fileBytes, String bank) throws IOException, InterruptedException {
+        JobCostEstimate estimate = estimate(document, fileBytes, bank);
+
+        lock.lock();
+        try {
+            if (!fits(estimate)) {
+                log.info("⏳ Background extraction waiting for admission ({} running): {}", running, estimate);
+                while (!fits(estimate)) {
+                    capacityFreed.await(RECHECK_MS, TimeUnit.MILLISECONDS);
+                }
+            }
+            return reserve(estimate, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AdmissionTicket reserve(JobCostEstimate estimate, boolean background) {
+        running++;
+        reservedBytes += estimate.memoryBytes();
+        reservedCpuSeconds += estimate.cpuSeconds();
+        log.info("🛂 Extraction admitted ({} running, {} MB reserved): {}",
+                running, reservedBytes / (1024 * 1024), estimate);
+        return new AdmissionTicket(estimate, background);
+    }
+
+    private boolean fits(JobCostEstimate estimate) {
+        if (running == 0) {
+            return true;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        return reservedBytes + estimate.memoryBytes() <= memoryBudgetBytes
+                && reservedCpuSeconds + estimate.cpuSeconds() <= cpuBudgetSeconds
+                && usedHeap + estimate.memoryBytes() <= runtime.maxMemory() * LIVE_HEAP_HIGH_WATER;
+    }
+
+    private void release(JobCostEstimate estimate) {
+        running--;
+        reservedBytes -= estimate.memoryBytes();
+        reservedCpuSeconds -= estimate.cpuSeconds();
+        capacityFreed.signalAll();
+    }
+
+    /**
+     * Time for the admitted work to drain across all cores, clamped to 1–300 s.
+     */
+    private long retryAfterSeconds() {
+        double drain = reservedCpuSeconds / Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(300, (long) Math.ceil(drain)));
+    }
+
+    // ===========================================================
+    // 🔹 Estimate: structure scan of the loaded document (no rendering, no text)
+    // ===========================================================
+    public JobCostEstimate estimate(PDDocument document, long fileBytes, String bank) throws IOException {
+        int imageOnlyPages = 0;
+        double largestImagePageArea = 0; // in points²
+
+        for (PDPage page : document.getPages()) {
+            if (PageStructure.isScanned(page)) {
+                imageOnlyPages++;
+                largestImagePageArea = Math.max(largestImagePageArea, PageStructure.area(page));
+            }
+        }
+        return estimate(parsers.get(bank), document.getNumberOfPages(), imageOnlyPages, largestImagePageArea, fileBytes);
+    }
+
+    private JobCostEstimate estimate(BankStatementParser<?> parser, int pages, int imageOnlyPages,
+                                     double largestImagePageArea, long fileBytes) {
+        int textPages = pages - imageOnlyPages;
+        double cpuSeconds = textPages * parser.textPageCpuSeconds() + imageOnlyPages * Route.OCR.pageCpuSeconds();
+
+        long memoryBytes = fileBytes * PARSED_BYTES_PER_FILE_BYTE + (long) pages * PAGE_WORKING_BYTES;
+        if (imageOnlyPages > 0) {
+            double pixels = largestImagePageArea * (ocrMaxDpi / 72.0) * (ocrMaxDpi / 72.0);
+            memoryBytes += (long) (Math.min(imageOnlyPages, ocrImagesInFlight) * pixels * ocrBytesPerPixel);
+        }
+
+        return new JobCostEstimate(pages, imageOnlyPages, fileBytes, parser.preferredRoute().name(), memoryBytes, cpuSeconds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ExcelImport.PdfToExcel.service.AdmissionService;
+
+/**
+ * Up-front cost of one extraction, from a structural scan of the PDF.
+ *
+ * @param pages          page count
+ * @param imageOnlyPages pages with an image and no fonts — they will be OCR'd
+ * @param fileBytes      size of the spooled upload
+ * @param route          TABULA, TEXT or OCR — the bank's first extraction stage
+ * @param memoryBytes    estimated peak heap of the extraction
+ * @param cpuSeconds     estimated CPU time of the extraction
+ */
+public record JobCostEstimate(int pages, int imageOnlyPages, long fileBytes, String route,
+                              long memoryBytes, double cpuSeconds) {
+
+    public double imageOnlyRatio() {
+        return pages == 0 ? 0 : (double) imageOnlyPages / pages;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d pages (%d image-only), %d KB, %s route → ~%d MB heap, ~%.1f s CPU",
+                pages, imageOnlyPages, fileBytes / 1024, route, memoryBytes / (1024 * 1024), cpuSeconds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ExcelImport.PdfToExcel.service.BulkheadService;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * An engine bulkhead had no free slot: its wait queue was full or the wait
+ * timed out. Synchronous requests answer 429 so clients can retry later.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class BulkheadFullException extends RuntimeException {
+
+    private final EngineBulkheads.Engine engine;
+
+    public BulkheadFullException(EngineBulkheads.Engine engine, String message) {
+        super(message);
+        this.engine = engine;
+    }
+
+    public EngineBulkheads.Engine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,177 @@
+package com.ExcelImport.PdfToExcel.service.BulkheadService;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Separate concurrency limits and wait queues per extraction engine.
+ * <p>
+ * Requests run on virtual threads, so Tomcat no longer limits how many
+ * extractions run at once; these bulkheads do. Each engine has its own
+ * permits ({@code extraction.bulkhead.<engine>.concurrency}), a bounded
+ * number of waiters ({@code .queue}) and a maximum wait
+ * ({@code .max-wait-seconds}). A saturated OCR bulkhead therefore only
+ * delays other OCR work — digital Tabula/text extractions take their own
+ * permits and keep their latency. A full queue or an expired wait throws
+ * {@link BulkheadFullException}; background work (batch files) instead waits
+ * for its permit outside the queue limit.
+ */
+@Log4j2
+@Component
+public class EngineBulkheads {
+
+    public enum Engine {
+        OCR(2, 20, 600),
+        TABULA(0, 100, 120),
+        TEXT(0, 100, 120),
+        EXPORT(0, 100, 120);
+
+        private final int defaultConcurrency; // 0 = CPU count
+        private final int defaultQueue;
+        private final long defaultMaxWaitSeconds;
+
+        Engine(int defaultConcurrency, int defaultQueue, long defaultMaxWaitSeconds) {
+            this.defaultConcurrency = defaultConcurrency;
+            this.defaultQueue = defaultQueue;
+            this.defaultMaxWaitSeconds = defaultMaxWaitSeconds;
+        }
+    }
+
+    /**
+     * Work that writes to a response stream.
+     */
+    @FunctionalInterface
+    public interface IoWork {
+        void run() throws IOException;
+    }
+
+    private final Map<Engine, Bulkhead> bulkheads = new EnumMap<>(Engine.class);
+
+    public EngineBulkheads(Environment environment) {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        for (Engine engine : Engine.values()) {
+            String prefix = "extraction.bulkhead." + engine.name().toLowerCase() + ".";
+            int concurrency = environment.getProperty(prefix + "concurrency", Integer.class, engine.defaultConcurrency);
+            int queue = environment.getProperty(prefix + "queue", Integer.class, engine.defaultQueue);
+            long maxWaitSeconds = environment.getProperty(prefix + "max-wait-seconds", Long.class, engine.defaultMaxWaitSeconds);
+
+            Bulkhead bulkhead = new Bulkhead(engine, concurrency > 0 ? concurrency : cpus, queue, maxWaitSeconds);
+            bulkheads.put(engine, bulkhead);
+            log.info("🚧 {} bulkhead — {} concurrent, {} queued, max wait {}s",
+                    engine, bulkhead.concurrency, queue, maxWaitSeconds);
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Run work inside an engine's bulkhead
+    // ===========================================================
+    public <T> T call(Engine engine, Callable<T> work) throws Exception {
+        Bulkhead bulkhead = bulkheads.get(engine);
+        bulkhead.acquire();
+        try {
+            return work.call();
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    /**
+     * Background work: waits for a permit however long the queue is; only an
+     * interrupt ends the wait.
+     */
+    public <T> T callWaiting(Engine engine, Callable<T> work) throws Exception {
+        Bulkhead bulkhead = bulkheads.get(engine);
+        bulkhead.acquireWaiting();
+        try {
+            return work.call();
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    public void run(Engine engine, IoWork work) throws IOException {
+        Bulkhead bulkhead = bulkheads.get(engine);
+        try {
+            bulkhead.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for the " + engine + " bulkhead", e);
+        }
+        try {
+            work.run();
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    public int getActive(Engine engine) {
+        Bulkhead bulkhead = bulkheads.get(engine);
+        return bulkhead.concurrency - bulkhead.permits.availablePermits();
+    }
+
+    public int getWaiting(Engine engine) {
+        return bulkheads.get(engine).waiting.get();
+    }
+
+    public int getConcurrency(Engine engine) {
+        return bulkheads.get(engine).concurrency;
+    }
+
+    private static final class Bulkhead {
+
+        private final Engine engine;
+        private final int concurrency;
+        private final Semaphore permits;
+        private final int maxQueued;
+        private final long maxWaitMs;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Bulkhead(Engine engine, int concurrency, int maxQueued, long maxWaitSeconds) {
+            this.engine = engine;
+            this.concurrency = concurrency;
+            this.permits = new Semaphore(concurrency, true);
+            this.maxQueued = maxQueued;
+            this.maxWaitMs = TimeUnit.SECONDS.toMillis(maxWaitSeconds);
+        }
+
+        private void acquire() throws InterruptedException {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            if (waiting.incrementAndGet() > maxQueued) {
+                waiting.decrementAndGet();
+                log.warn("🚫 {} bulkhead queue full ({} waiting)", engine, maxQueued);
+                throw new BulkheadFullException(engine, engine + " engine is busy — queue full, retry later");
+            }
+            try {
+                if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                    log.warn("⌛ {} bulkhead wait timed out after {} ms", engine, maxWaitMs);
+                    throw new BulkheadFullException(engine, engine + " engine is busy — wait timed out, retry later");
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        private void acquireWaiting() throws InterruptedException {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            waiting.incrementAndGet();
+            try {
+                permits.acquire();
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.ExcelImport.PdfToExcel.service.CacheService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.CacheStatsResponse;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of extraction results, so re-uploading the same
+ * statement (preview, then Excel, then Tally) skips the whole pipeline.
+ * <p>
+ * Keys are the SHA-256 of the PDF bytes plus bank, account type, a hash of the
+ * password (an encrypted statement must not be served to a caller without
+ * it) and {@link #EXTRACTOR_VERSION}. The heap tier is an LRU bounded by the
+ * total number of cached rows, each entry an immutable columnar
+ * {@link TransactionBatch}; the optional disk tier stores JSON files under
+ * {@code extraction.cache.disk.dir}. Both tiers expire entries after the TTL.
+ * <p>
+ * Hits, misses, evictions and the heap tier's size are Micrometer meters
+ * ({@code pdf.extraction.cache.*}), next to the extraction meters.
+ */
+@Log4j2
+@Service
+public class ExtractionResultCache {
+
+    /**
+     * Bump whenever a parser change alters extraction output or the cached
+     * representation, so stale results (including those on disk) are never
+     * served. 2: single-pass line classifier, 3: running-balance direction,
+     * 4: paise amounts, 5: columnar TransactionBatch entries.
+     */
+    public static final String EXTRACTOR_VERSION = "5";
+
+    private final boolean enabled;
+    private final long maxHeapRows;
+    private final Duration ttl;
+    private final Path diskDir;
+    private final int maxDiskEntries;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final LinkedHashMap<String, Entry> heap = new LinkedHashMap<>(64, 0.75f, true);
+    private long heapRows;
+
+    private final AtomicLong heapHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ExtractionResultCache(@Value("${extraction.cache.enabled:true}") boolean enabled,
+                                 @Value("${extraction.cache.max-heap-rows:200000}") long maxHeapRows,
+                                 @Value("${extraction.cache.ttl-minutes:240}") long ttlMinutes,
+                                 @Value("${extraction.cache.disk.dir:}") String diskDir,
+                                 @Value("${extraction.cache.disk.max-entries:500}") int maxDiskEntries,
+                                 MeterRegistry registry) throws IOException {
+        this.enabled = enabled;
+        this.maxHeapRows = maxHeapRows;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxDiskEntries = maxDiskEntries;
+        this.diskDir = diskDir.isBlank() ? null : Files.createDirectories(Path.of(diskDir));
+        registerMeters(registry);
+        log.info("🗄️ Extraction result cache {} — heap {} rows, TTL {} min, disk tier: {}",
+                enabled ? "enabled" : "disabled", maxHeapRows, ttlMinutes, this.diskDir != null ? this.diskDir : "off");
+    }
+
+    private record Entry(TransactionBatch transactions, long createdAt) {
+    }
+
+    // ===========================================================
+    // 🔹 Cache key
+    // ===========================================================
+    public String key(PdfSource source, String bank, String accountType, String password) throws IOException {
+        return source.sha256()
+                + "|" + bank.toUpperCase()
+                + "|" + (accountType == null ? "" : accountType.toUpperCase())
+                + "|" + (password == null || password.isEmpty() ? "" : sha256(password.getBytes(StandardCharsets.UTF_8)))
+                + "|v" + EXTRACTOR_VERSION;
+    }
+
+    /**
+     * Whether {@link #get} would hit, without counting a hit or miss or
+     * promoting a disk entry.
+     */
+    public boolean contains(String key) {
+        if (!enabled) {
+            return false;
+        }
+        synchronized (this) {
+            Entry entry = heap.get(key);
+            if (entry != null && !isExpired(entry.createdAt())) {
+                return true;
+            }
+        }
+        if (diskDir == null) {
+            return false;
+        }
+        try {
+            Path file = diskFile(key);
+            return Files.exists(file) && !isExpired(Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Lookup: heap → disk (promoted back to heap)
+    // ===========================================================
+    public Optional<TransactionBatch> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            Entry entry = heap.get(key);
+            if (entry != null && !isExpired(entry.createdAt())) {
+                heapHits.incrementAndGet();
+                return Optional.of(entry.transactions());
+            }
+            if (entry != null) {
+                removeFromHeap(key);
+            }
+        }
+
+        Optional<Entry> fromDisk = readFromDisk(key);
+        if (fromDisk.isPresent()) {
+            diskHits.incrementAndGet();
+            synchronized (this) {
+                putInHeap(key, fromDisk.get());
+            }
+            return Optional.of(fromDisk.get().transactions());
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Store a successful extraction. Empty results are never cached, since
+     * they usually mean extraction failed.
+     */
+    public void put(String key, TransactionBatch transactions) {
+        if (!enabled || transactions == null || transactions.isEmpty()) {
+            return;
+        }
+
+        Entry entry = new Entry(transactions, System.currentTimeMillis());
+        synchronized (this) {
+            putInHeap(key, entry);
+        }
+        writeToDisk(key, entry);
+    }
+
+    public synchronized CacheStatsResponse stats() {
+        return new CacheStatsResponse(enabled, heap.size(), heapRows, maxHeapRows,
+                heapHits.get(), diskHits.get(), misses.get(), evictions.get(), diskDir != null);
+    }
+
+    private void registerMeters(MeterRegistry registry) {
+        FunctionCounter.builder("pdf.extraction.cache.requests", heapHits, AtomicLong::get)
+                .description("Cache lookups").tag("result", "heap_hit").register(registry);
+        FunctionCounter.builder("pdf.extraction.cache.requests", diskHits, AtomicLong::get)
+                .description("Cache lookups").tag("result", "disk_hit").register(registry);
+        FunctionCounter.builder("pdf.extraction.cache.requests", misses, AtomicLong::get)
+                .description("Cache lookups").tag("result", "miss").register(registry);
+        FunctionCounter.builder("pdf.extraction.cache.evictions", evictions, AtomicLong::get)
+                .description("Entries evicted from the heap or disk tier").register(registry);
+        Gauge.builder("pdf.extraction.cache.heap.entries", this, cache -> cache.heapSize(false))
+                .description("Results in the heap tier").register(registry);
+        Gauge.builder("pdf.extraction.cache.heap.rows", this, cache -> cache.heapSize(true))
+                .description("Transactions in the heap tier").register(registry);
+    }
+
+    private synchronized double heapSize(boolean rows) {
+        return rows ? heapRows : heap.size();
+    }
+
+    // ===========================================================
+    // 🔹 Heap tier (LRU bounded by total rows; caller holds the lock)
+    // ===========================================================
+    private void putInHeap(String key, Entry entry) {
+        removeFromHeap(key);
+        if (entry.transactions().size() > maxHeapRows) {
+            return; // larger than the whole tier — disk only
+        }
+
+        heap.put(key, entry);
+        heapRows += entry.transactions().size();
+
+        Iterator<Map.Entry<String, Entry>> eldest = heap.entrySet().iterator();
+        while (heapRows > maxHeapRows && eldest.hasNext()) {
+            heapRows -= eldest.next().getValue().transactions().size();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void removeFromHeap(String key) {
+        Entry removed = heap.remove(key);
+        if (removed != null) {
+            heapRows -= removed.transactions().size();
+        }
+    }
+
+    private boolean isExpired(long createdAt) {
+        return System.currentTimeMillis() - createdAt > ttl.toMillis();
+    }
+
+    // ===========================================================
+    // 🔹 Disk tier (JSON per entry; file age is the entry age)
+    // ===========================================================
+    private Optional<Entry> readFromDisk(String key) {
+        if (diskDir == null) {
+            return Optional.empty();
+        }
+
+        Path file = diskFile(key);
+        try {
+            if (!Files.exists(file)) {
+                return Optional.empty();
+            }
+            long createdAt = Files.getLastModifiedTime(file).toMillis();
+            if (isExpired(createdAt)) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            TransactionBatch transactions = mapper.readValue(file.toFile(), TransactionBatch.class);
+            return Optional.of(new Entry(transactions, createdAt));
+        } catch (IOException e) {
+            log.warn("⚠️ Could not read cached result {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String key, Entry entry) {
+        if (diskDir == null) {
+            return;
+        }
+
+        Path file = diskFile(key);
+        try {
+            Path tmp = Files.createTempFile(diskDir, "entry", ".tmp");
+            mapper.writeValue(tmp.toFile(), entry.transactions());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            trimDisk();
+        } catch (IOException e) {
+            log.warn("⚠️ Could not write cached result {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void trimDisk() throws IOException {
+        try (Stream<Path> files = Files.list(diskDir)) {
+            List<Path> entries = files.filter(p -> p.toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(this::lastModified).reversed())
+                    .toList();
+            for (Path stale : entries.subList(Math.min(maxDiskEntries, entries.size()), entries.size())) {
+                Files.deleteIfExists(stale);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private Path diskFile(String key) {
+        return diskDir.resolve(sha256(key.getBytes(StandardCharsets.UTF_8)) + ".json");
+    }
+
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(sha256Digest().digest(bytes));
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ExcelImport.PdfToExcel.service.ExcelService;
+
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch.Field;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+
+import java.util.List;
+
+/**
+ * Column layouts of the statement workbooks; each bank's parser picks its own.
+ * Banks without a dedicated layout get {@link #GENERIC}, which carries every
+ * transaction field.
+ */
+public final class StatementExcelLayouts {
+
+    public static final List<Column> KVB = List.of(
+            Column.text("Transaction Date", Field.TRANSACTION_DATE),
+            Column.text("Value Date", Field.VALUE_DATE),
+            Column.blank("Branch"),
+            Column.blank("Cheque No"),
+            Column.text("Description", Field.DESCRIPTION),
+            Column.amount("Debit", Field.DEBIT),
+            Column.amount("Credit", Field.CREDIT),
+            Column.amount("Balance", Field.BALANCE)
+    );
+
+    public static final List<Column> CANARA = List.of(
+            Column.text("Txn Date", Field.TRANSACTION_DATE),
+            Column.text("Value Date", Field.VALUE_DATE),
+            Column.blank("BranchCode"),
+            Column.blank("Cheque No"),
+            Column.text("Description", Field.DESCRIPTION),
+            Column.amount("Debit", Field.DEBIT),
+            Column.amount("Credit", Field.CREDIT),
+            Column.amount("Balance", Field.BALANCE)
+    );
+
+    public static final List<Column> ICICI = List.of(
+            Column.text("Transaction Date", Field.TRANSACTION_DATE),
+            Column.text("Description", Field.DESCRIPTION),
+            Column.amount("Debit", Field.DEBIT),
+            Column.amount("Credit", Field.CREDIT),
+            Column.amount("Balance", Field.BALANCE)
+    );
+
+    public static final List<Column> SBI = List.of(
+            Column.text("Txn Date", Field.TRANSACTION_DATE),
+            Column.text("Value Date", Field.VALUE_DATE),
+            Column.text("Description", Field.DESCRIPTION),
+            Column.blank("Cheque No"),
+            Column.blank("BranchCode"),
+            Column.amount("Debit", Field.DEBIT),
+            Column.amount("Credit", Field.CREDIT),
+            Column.amount("Balance", Field.BALANCE)
+    );
+
+    public static final List<Column> GENERIC = List.of(
+            Column.text("Transaction Date", Field.TRANSACTION_DATE),
+            Column.text("Value Date", Field.VALUE_DATE),
+            Column.text("Description", Field.DESCRIPTION),
+            Column.amount("Debit", Field.DEBIT),
+            Column.amount("Credit", Field.CREDIT),
+            Column.amount("Balance", Field.BALANCE),
+            Column.text("Voucher Type", Field.VOUCHER_TYPE)
+    );
+
+    private StatementExcelLayouts() {
+    }
+}
@@ -0,0 +1,243 @@
+package com.ExcelImport.PdfToExcel.service.ExcelService;
+
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch.Field;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TransactionSink;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Streaming statement workbook shared by the bank Excel services.
+ * <p>
+ * Built on {@link SXSSFWorkbook}: only the last {@code rowWindow} rows stay in
+ * memory, older rows are flushed to a compressed temp file. Column widths are
+ * estimated from the text length seen while appending (no
+ * {@code autoSizeColumn} pass over every cell), styles are created once per
+ * workbook, and amounts that parse as numbers are written as numeric cells.
+ * <p>
+ * Lifecycle: {@link #open} → {@link #append} (any number of times) →
+ * {@link #finish} writes the file to the output stream → {@link #close}
+ * removes the temp files.
+ */
+public class StatementWorkbookWriter implements TransactionSink, AutoCloseable {
+
+    public static final int DEFAULT_ROW_WINDOW = 100;
+    private static final int MAX_COLUMN_CHARS = 60;
+
+    /**
+     * One sheet column: header text and the transaction field it shows
+     * ({@code null} for columns the DTO has no value for).
+     */
+    public record Column(String header, Field field, boolean amount) {
+
+        public static Column text(String header, Field field) {
+            return new Column(header, field, false);
+        }
+
+        public static Column amount(String header, Field field) {
+            return new Column(header, field, true);
+        }
+
+        public static Column blank(String header) {
+            return new Column(header, null, false);
+        }
+    }
+
+    private final SXSSFWorkbook workbook;
+    private final OutputStream out;
+    private final CellStyle headerStyle;
+    private final CellStyle amountStyle;
+    private Sheet sheet;
+    private List<Column> columns;
+    private int[] widthChars;
+    private int rowNum;
+
+    private StatementWorkbookWriter(String sheetName, List<Column> columns, OutputStream out, int rowWindow) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(rowWindow);
+        this.workbook.setCompressTempFiles(true);
+
+        this.amountStyle = workbook.createCellStyle();
+        this.amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+
+        this.headerStyle = workbook.createCellStyle();
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        this.headerStyle.setFont(bold);
+
+        startSheet(sheetName, columns);
+    }
+
+    /**
+     * Continue in a new sheet (e.g. one per statement in a batch); the name is
+     * made Excel-safe and unique.
+     */
+    public void startSheet(String name, List<Column> columns) {
+        applyWidths();
+
+        String safeName = WorkbookUtil.createSafeSheetName(name);
+        for (int n = 2; workbook.getSheet(safeName) != null; n++) {
+            String suffix = " (" + n + ")";
+            safeName = WorkbookUtil.createSafeSheetName(name.substring(0, Math.min(name.length(), 31 - suffix.length())) + suffix);
+        }
+
+        this.sheet = workbook.createSheet(safeName);
+        this.columns = columns;
+        this.widthChars = new int[columns.size()];
+        this.rowNum = 0;
+
+        Row headerRow = sheet.createRow(rowNum++);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(columns.get(i).header());
+            cell.setCellStyle(headerStyle);
+            track(i, columns.get(i).header().length());
+        }
+    }
+
+    public static StatementWorkbookWriter open(List<Column> columns, OutputStream out) {
+        return open(columns, out, DEFAULT_ROW_WINDOW);
+    }
+
+    public static StatementWorkbookWriter open(List<Column> columns, OutputStream out, int rowWindow) {
+        return new StatementWorkbookWriter("Bank Statement", columns, out, rowWindow);
+    }
+
+    public static StatementWorkbookWriter open(String sheetName, List<Column> columns, OutputStream out) {
+        return new StatementWorkbookWriter(sheetName, columns, out, DEFAULT_ROW_WINDOW);
+    }
+
+    /**
+     * Extraction sink: rows are appended as the extractor produces them.
+     */
+    @Override
+    public void accept(List<TransactionDTO> transactions) {
+        append(transactions);
+    }
+
+    @Override
+    public void accept(TransactionBatch transactions) {
+        append(transactions);
+    }
+
+    public void append(List<TransactionDTO> transactions) {
+        for (TransactionDTO tx : transactions) {
+            append(tx);
+        }
+    }
+
+    public void append(TransactionDTO tx) {
+        Row row = sheet.createRow(rowNum++);
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            if (column.field() == null) {
+                continue;
+            }
+
+            String value = column.field().of(tx);
+            if (value == null) {
+                continue;
+            }
+
+            Cell cell = row.createCell(i);
+            long paise = column.amount() ? Money.parsePaise(value) : Money.NONE;
+            if (paise != Money.NONE) {
+                cell.setCellValue(paise / 100.0);
+                cell.setCellStyle(amountStyle);
+            } else {
+                cell.setCellValue(value);
+            }
+            track(i, value.length());
+        }
+    }
+
+    /**
+     * Rows read straight from the columns: amounts go in as paise, no DTOs
+     * or amount strings are built.
+     */
+    public void append(TransactionBatch transactions) {
+        for (int r = 0; r < transactions.size(); r++) {
+            Row row = sheet.createRow(rowNum++);
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                Field field = column.field();
+                if (field == null || transactions.isNull(r, field)) {
+                    continue;
+                }
+
+                Cell cell = row.createCell(i);
+                long paise = column.amount() ? transactions.paise(r, field) : Money.NONE;
+                if (paise != Money.NONE) {
+                    cell.setCellValue(paise / 100.0);
+                    cell.setCellStyle(amountStyle);
+                    track(i, transactions.length(r, field));
+                } else {
+                    String value = transactions.text(r, field);
+                    cell.setCellValue(value);
+                    track(i, value.length());
+                }
+            }
+        }
+    }
+
+    /**
+     * Plain text row, for sheets that are not transaction lists (e.g. a batch summary).
+     */
+    public void appendTextRow(List<String> values) {
+        Row row = sheet.createRow(rowNum++);
+        for (int i = 0; i < values.size() && i < columns.size(); i++) {
+            if (values.get(i) != null) {
+                row.createCell(i).setCellValue(values.get(i));
+                track(i, values.get(i).length());
+            }
+        }
+    }
+
+    /**
+     * Rows written to the current sheet, header excluded.
+     */
+    public int getRowCount() {
+        return rowNum - 1;
+    }
+
+    /**
+     * Apply the estimated column widths and write the workbook to the stream.
+     */
+    public void finish() throws IOException {
+        applyWidths();
+        workbook.write(out);
+        out.flush();
+    }
+
+    private void applyWidths() {
+        if (sheet == null) {
+            return;
+        }
+        for (int i = 0; i < widthChars.length; i++) {
+            sheet.setColumnWidth(i, (widthChars[i] + 2) * 256);
+        }
+    }
+
+    private void track(int column, int length) {
+        int chars = Math.min(length, MAX_COLUMN_CHARS);
+        if (chars > widthChars[column]) {
+            widthChars[column] = chars;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.CanaraBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.stereotype.Service;
 import technology.tabula.ObjectExtractor;
@@ -9,7 +10,6 @@ import technology.tabula.RectangularTextContainer;
 import technology.tabula.Table;
 import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -22,10 +22,10 @@ public class CanaraBankStatementService {
     /**
      * Extract raw table data from PDF using Tabula
      */
-    public List<List<String>> extractTableFromPdf(byte[] pdfBytes) throws Exception {
+    public List<List<String>> extractTableFromPdf(PdfSource source) throws Exception {
         List<List<String>> tableData = new ArrayList<>();
 
-        PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes));
+        PDDocument pdfDocument = source.load(null);
         ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
         SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
 
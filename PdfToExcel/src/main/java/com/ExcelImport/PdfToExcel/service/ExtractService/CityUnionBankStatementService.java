@@ -1,6 +1,7 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.CityUnionBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripperByArea;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,6 @@ import technology.tabula.extractors.BasicExtractionAlgorithm;
 import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
 import java.awt.geom.Rectangle2D;
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,9 +22,9 @@ public class CityUnionBankStatementService {
     /**
      * Extract raw table data from PDF using Tabula
      */
-    public List<List<String>> extractTableFromPdf(byte[] pdfBytes) throws Exception {
+    public List<List<String>> extractTableFromPdf(PdfSource source) throws Exception {
         List<List<String>> allRows = new ArrayList<>();
-        try (PDDocument pdf = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
+        try (PDDocument pdf = source.load(null)) {
             ObjectExtractor extractor = new ObjectExtractor(pdf);
 
             for (int i = 1; i <= pdf.getNumberOfPages(); i++) {
@@ -1,6 +1,7 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.FederalBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.stereotype.Service;
 import technology.tabula.ObjectExtractor;
@@ -9,17 +10,16 @@ import technology.tabula.RectangularTextContainer;
 import technology.tabula.Table;
 import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class FederalBankStatementService {
 
-    public List<List<String>> extractTableFromPdf(byte[] pdfBytes,String password) throws Exception {
+    public List<List<String>> extractTableFromPdf(PdfSource source,String password) throws Exception {
         List<List<String>> tableData = new ArrayList<>();
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
+        try (PDDocument pdfDocument = source.load(password)) {
             ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
             SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
 
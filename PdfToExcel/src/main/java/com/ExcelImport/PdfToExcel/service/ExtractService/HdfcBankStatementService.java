@@ -1,19 +1,20 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.HdfcBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class HdfcBankStatementService {
 
-    public String extractTextFromPdf(byte[] pdfBytes, String password) throws Exception {
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes), password)) {
+    public String extractTextFromPdf(PdfSource source, String password) throws Exception {
+        try (PDDocument document = source.load(password)) {
             PDFTextStripper pdfStripper = new PDFTextStripper();
             pdfStripper.setSortByPosition(true); // Keep text in reading order
             return pdfStripper.getText(document);
@@ -46,8 +47,8 @@ public class HdfcBankStatementService {
         HdfcBankTransactionDTO currentTx = null;
         StringBuilder descBuilder = new StringBuilder();
 
-        double openingBalance = 0.0;
-        List<List<Double>> transactionNumbers = new ArrayList<>();
+        long openingBalance = 0;
+        List<List<Long>> transactionNumbers = new ArrayList<>();
         boolean inTransactionTable = false;
 
         for (String line : lines) {
@@ -95,7 +96,7 @@ public class HdfcBankStatementService {
                 }
                 currentTx.setValueDate(valueDate != null ? valueDate : parts[0]);
 
-                List<Double> nums = new ArrayList<>();
+                List<Long> nums = new ArrayList<>();
                 String chequeNo = "-";
 
                  // Iterate over each part of the line
@@ -114,7 +115,7 @@ public class HdfcBankStatementService {
                     }
                     // Numeric amounts (Withdrawal, Deposit, Balance)
                     else if (clean.matches("\\d+(\\.\\d+)?")) {
-                        nums.add(Double.parseDouble(clean));
+                        nums.add(Money.paiseOf(clean));
                     }
                 }
 
@@ -154,20 +155,20 @@ public class HdfcBankStatementService {
             transactions.add(currentTx);
         }
 
-        // Step 3: Infer debit/credit/balance
-        double prevBalance = openingBalance;
+        // Step 3: Infer debit/credit/balance (in paise)
+        long prevBalance = openingBalance;
         for (int i = 0; i < transactions.size(); i++) {
             HdfcBankTransactionDTO tx = transactions.get(i);
-            List<Double> nums = (i < transactionNumbers.size()) ? transactionNumbers.get(i) : new ArrayList<>();
-            double debit = 0, credit = 0, balance = prevBalance;
+            List<Long> nums = (i < transactionNumbers.size()) ? transactionNumbers.get(i) : new ArrayList<>();
+            long debit = 0, credit = 0, balance = prevBalance;
 
             if (nums.size() == 3) {
                 debit = nums.get(0);
                 credit = nums.get(1);
                 balance = nums.get(2);
             } else if (nums.size() == 2) {
-                double first = nums.get(0);
-                double second = nums.get(1);
+                long first = nums.get(0);
+                long second = nums.get(1);
                 if (second > prevBalance) {
                     credit = second - prevBalance;
                     balance = second;
@@ -178,7 +179,7 @@ public class HdfcBankStatementService {
                     balance = second;
                 }
             } else if (nums.size() == 1) {
-                double first = nums.get(0);
+                long first = nums.get(0);
                 if (first < prevBalance) {
                     debit = prevBalance - first;
                     balance = first;
@@ -188,9 +189,9 @@ public class HdfcBankStatementService {
                 }
             }
 
-            tx.setDebit(debit == 0 ? "-" : String.format("%.2f", debit));
-            tx.setCredit(credit == 0 ? "-" : String.format("%.2f", credit));
-            tx.setBalance(String.format("%.2f", balance));
+            tx.setDebit(debit == 0 ? "-" : Money.toPlainString(debit));
+            tx.setCredit(credit == 0 ? "-" : Money.toPlainString(credit));
+            tx.setBalance(Money.toPlainString(balance));
 
             prevBalance = balance;
         }
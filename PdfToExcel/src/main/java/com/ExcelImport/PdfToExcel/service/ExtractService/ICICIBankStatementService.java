@@ -1,6 +1,8 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.ICICIBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import net.sourceforge.tess4j.ITesseract;
 import net.sourceforge.tess4j.Tesseract;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -14,7 +16,6 @@ import technology.tabula.Table;
 import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -25,14 +26,14 @@ import java.util.stream.Collectors;
 @Service
 public class ICICIBankStatementService {
 
-    public List<ICICIBankTransactionDTO> extractUsingTabula(byte[] pdfBytes) {
+    public List<ICICIBankTransactionDTO> extractUsingTabula(PdfSource source) {
         List<ICICIBankTransactionDTO> transactions = new ArrayList<>();
 
         Pattern datePattern = Pattern.compile("^\\d{2}-\\d{2}-\\d{4}$");
         Pattern maybeNumeric = Pattern.compile(".*[0-9].*");
         Pattern balancePattern = Pattern.compile("^-?\\s*[0-9,]+(?:\\.\\d{1,2})?\\s*(Cr|DR|Dr|cr|dr)?$");
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
+        try (PDDocument pdfDocument = source.load(null)) {
             ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
             SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
 
@@ -90,25 +91,14 @@ public class ICICIBankStatementService {
                                 .map(cells::get)
                                 .collect(Collectors.toList());
 
-                        double withdrawals = 0.0, deposits = 0.0, autosweep = 0.0, reverseSweep = 0.0;
-
-                        // helper for numeric parsing
-                        java.util.function.Function<String, Double> toNum = (s) -> {
-                            if (s == null) return 0.0;
-                            String cleaned = s.replaceAll("[^0-9.\\-]", "");
-                            if (cleaned.isBlank()) return 0.0;
-                            try {
-                                return Double.parseDouble(cleaned);
-                            } catch (Exception ex) {
-                                return 0.0;
-                            }
-                        };
+                        long withdrawals = 0, deposits = 0, autosweep = 0, reverseSweep = 0;
 
                         // align from right: reverseSweep, autosweep, deposits, withdrawals
+                        // (paise; a column cell is a magnitude, anything that is not an amount counts as 0)
                         for (int i = 0; i < amountCells.size(); i++) {
                             int fromRightIndex = amountCells.size() - 1 - i;
-                            String val = amountCells.get(fromRightIndex);
-                            double num = toNum.apply(val);
+                            long num = Money.parsePaise(amountCells.get(fromRightIndex));
+                            num = num == Money.NONE ? 0 : Math.abs(num);
 
                             if (i == 0) reverseSweep = num;
                             else if (i == 1) autosweep = num;
@@ -134,15 +124,15 @@ public class ICICIBankStatementService {
                         String description = desc.length() > 0 ? desc.toString().trim() : (cells.size() > 1 ? cells.get(1) : "-");
 
                         // combine autosweep into debit, reverseSweep into credit
-                        double debit = withdrawals + autosweep;
-                        double credit = deposits + reverseSweep;
+                        long debit = withdrawals + autosweep;
+                        long credit = deposits + reverseSweep;
 
                         ICICIBankTransactionDTO tx = new ICICIBankTransactionDTO();
                         tx.setTransactionDate(first);
                         tx.setDescription(description);
                         tx.setChequeNo(chequeNo);
-                        tx.setDebit(debit > 0 ? String.format("%.2f", debit) : "-");
-                        tx.setCredit(credit > 0 ? String.format("%.2f", credit) : "-");
+                        tx.setDebit(debit > 0 ? Money.toPlainString(debit) : "-");
+                        tx.setCredit(credit > 0 ? Money.toPlainString(credit) : "-");
                         tx.setBalance(balance);
 
                         if (debit > 0)
@@ -3,12 +3,12 @@ package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 
 import com.ExcelImport.PdfToExcel.dto.IndianBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
 
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -18,11 +18,11 @@ import java.util.regex.Pattern;
 @Service
 public class IndianBankStatementService {
 
-    public List<IndianBankTransactionDTO> extractTransactionsAsDTO(byte[] pdfBytes) throws Exception {
+    public List<IndianBankTransactionDTO> extractTransactionsAsDTO(PdfSource source) throws Exception {
         List<IndianBankTransactionDTO> transactions = new ArrayList<>();
 
         // 1️⃣ Load PDF and extract full text
-        PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes));
+        PDDocument document = source.load(null);
         PDFTextStripper stripper = new PDFTextStripper();
         String text = stripper.getText(document);
         document.close();
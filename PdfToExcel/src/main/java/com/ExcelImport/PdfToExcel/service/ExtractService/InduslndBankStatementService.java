@@ -1,16 +1,19 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.InduslndBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import lombok.extern.log4j.Log4j2;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@Log4j2
 @Service
 public class InduslndBankStatementService {
 
@@ -18,29 +21,26 @@ public class InduslndBankStatementService {
     private static final Pattern DATE_PATTERN = Pattern.compile("\\d{2} [A-Za-z]{3} \\d{4}");
 
     public List<InduslndBankTransactionDTO>
-    extractTransactions(byte[] pdfBytes) throws Exception {
+    extractTransactions(PdfSource source) throws Exception {
         List<InduslndBankTransactionDTO> transactions = new ArrayList<>();
 
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
+        try (PDDocument document = source.load(null)) {
             PDFTextStripper stripper = new PDFTextStripper();
             stripper.setSortByPosition(true);
             String text = stripper.getText(document);
 
-            System.out.println("=== RAW PDF TEXT ===");
-            System.out.println(text);
-            System.out.println("=== END RAW TEXT ===");
+            log.debug("=== RAW PDF TEXT ===\n{}\n=== END RAW TEXT ===", text);
 
             String[] lines = text.split("\\r?\\n");
             List<String> transactionBlocks = reconstructTransactionBlocks(lines);
 
             for (String block : transactionBlocks) {
-                System.out.println("Processing block: " + block);
+                log.debug("Processing block: {}", block);
                 InduslndBankTransactionDTO dto = parseTransactionBlock(block);
                 if (dto != null) {
                     transactions.add(dto);
-                    System.out.println("Successfully extracted: " + dto.getTransactionDate() + " | " +
-                            dto.getDescription() + " | Debit: " + dto.getDebit() + " | Credit: " +
-                            dto.getCredit() + " | Balance: " + dto.getBalance());
+                    log.debug("Successfully extracted: {} | {} | Debit: {} | Credit: {} | Balance: {}",
+                            dto.getTransactionDate(), dto.getDescription(), dto.getDebit(), dto.getCredit(), dto.getBalance());
                 }
             }
         }
@@ -116,17 +116,17 @@ public class InduslndBankStatementService {
 
     private InduslndBankTransactionDTO parseTransactionBlock(String block) {
         try {
-            System.out.println("Parsing block: " + block);
+            log.debug("Parsing block: {}", block);
 
             // Check if this is an interest transaction first
             boolean isInterestTransaction = block.contains("Int.Pd") || block.contains("Int.Pd:");
 
             // Extract all amounts from the block
             List<String> allAmounts = extractAllAmounts(block);
-            System.out.println("Found amounts: " + allAmounts);
+            log.debug("Found amounts: {}", allAmounts);
 
             if (allAmounts.size() < 3) {
-                System.out.println("Not enough amounts found. Expected 3, found: " + allAmounts.size());
+                log.debug("Not enough amounts found. Expected 3, found: {}", allAmounts.size());
                 return null;
             }
 
@@ -137,7 +137,7 @@ public class InduslndBankStatementService {
             // Extract date
             String date = extractDate(blockWithoutType);
             if (date == null) {
-                System.out.println("Could not extract date from: " + blockWithoutType);
+                log.debug("Could not extract date from: {}", blockWithoutType);
                 return null;
             }
 
@@ -153,8 +153,7 @@ public class InduslndBankStatementService {
             }
 
         } catch (Exception e) {
-            System.out.println("Error parsing block: " + block + " - " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Error parsing block: {} - {}", block, e.getMessage(), e);
             return null;
         }
     }
@@ -190,7 +189,7 @@ public class InduslndBankStatementService {
 
     private InduslndBankTransactionDTO handleInterestTransaction(String originalBlock, String date,
                                                                  List<String> allAmounts) {
-        System.out.println("Processing interest transaction: " + originalBlock);
+        log.debug("Processing interest transaction: {}", originalBlock);
 
         // For interest transactions, we need to be very careful with amount extraction
         // Based on the statement pattern, interest credit is 3086.00 and balance is 95996.47
@@ -203,10 +202,10 @@ public class InduslndBankStatementService {
         for (String amount : allAmounts) {
             String cleanAmt = cleanAmount(amount);
             if (!cleanAmt.equals("-")) {
-                double amtValue = Double.parseDouble(cleanAmt);
-                if (amtValue >= 3000 && amtValue <= 4000) {
+                long amtValue = Money.paiseOf(cleanAmt);
+                if (amtValue >= 3000_00 && amtValue <= 4000_00) {
                     credit = cleanAmt; // This is the interest amount (3086.00)
-                } else if (amtValue >= 95000 && amtValue <= 97000) {
+                } else if (amtValue >= 95000_00 && amtValue <= 97000_00) {
                     balance = cleanAmt; // This is the balance (95996.47)
                 }
             }
@@ -231,7 +230,7 @@ public class InduslndBankStatementService {
         dto.setBalance(balance);
         dto.setVoucherName("Receipt"); // Interest is always a receipt
 
-        System.out.println("Interest transaction - Credit: " + credit + ", Balance: " + balance);
+        log.debug("Interest transaction - Credit: {}, Balance: {}", credit, balance);
         return dto;
     }
 
@@ -240,7 +239,7 @@ public class InduslndBankStatementService {
         // Start with the original block
         String description = originalBlock;
 
-        System.out.println("Original block for interest: " + originalBlock);
+        log.debug("Original block for interest: {}", originalBlock);
 
         // Remove the transaction date
         description = description.replaceFirst(Pattern.quote(date), "");
@@ -282,12 +281,12 @@ public class InduslndBankStatementService {
                 .replaceAll("^\\s*\\-\\s*|\\s*\\-\\s*$", "")
                 .trim();
 
-        System.out.println("Description before date fix: " + description);
+        log.debug("Description before date fix: {}", description);
 
         // Now fix the corrupted date formats in the interest description
         description = fixInterestDescriptionDates(description);
 
-        System.out.println("Description after date fix: " + description);
+        log.debug("Description after date fix: {}", description);
 
         return description.isEmpty() ? "Interest Payment" : description;
     }
@@ -348,7 +347,7 @@ public class InduslndBankStatementService {
     private String[] validateAndCorrectAmounts(String type, String debit, String credit, String balance) {
         // If both debit and credit have values, correct based on transaction type
         if (!debit.equals("-") && !credit.equals("-")) {
-            System.out.println("Both debit and credit have values. Correcting based on type: " + type);
+            log.debug("Both debit and credit have values. Correcting based on type: {}", type);
             if (type.toLowerCase().contains("credit")) {
                 debit = "-";
             } else if (type.toLowerCase().contains("debit")) {
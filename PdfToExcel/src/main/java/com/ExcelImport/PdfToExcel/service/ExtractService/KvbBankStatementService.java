@@ -1,40 +1,33 @@
 package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.KvbTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Money;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
-import net.sourceforge.tess4j.ITesseract;
-import net.sourceforge.tess4j.Tesseract;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.rendering.PDFRenderer;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads.Engine;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 
-import java.awt.image.BufferedImage;
-import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class KvbBankStatementService {
 
-    // Step 1: Run OCR and return extracted text
-    public String extractTextFromScannedPdf(byte[] pdfBytes) throws Exception {
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
-            PDFRenderer pdfRenderer = new PDFRenderer(document);
+    @Autowired
+    private OcrExtractService ocrExtractService;
 
-            ITesseract tesseract = new Tesseract();
-            tesseract.setDatapath("E:/PdfExtract/PdfToExcel/PdfToExcel/src/main/java/com/ExcelImport/PdfToExcel/tessdata");
-            tesseract.setLanguage("eng");
+    @Autowired
+    private EngineBulkheads bulkheads;
 
-            StringBuilder fullText = new StringBuilder();
-
-            for (int page = 0; page < document.getNumberOfPages(); ++page) {
-                BufferedImage image = pdfRenderer.renderImageWithDPI(page, 500);
-                String extractedText = tesseract.doOCR(image);
-                fullText.append(extractedText).append("\n");
-            }
-
-            return fullText.toString();
+    // Step 1: Run OCR and return extracted text (page-parallel, pooled engines)
+    public String extractTextFromScannedPdf(PdfSource source) throws Exception {
+        try (PdfDocumentContext context = PdfDocumentContext.open(source, null)) {
+            return bulkheads.call(Engine.OCR, () -> ocrExtractService.extractTextFromScannedPdf(context));
         }
     }
 
@@ -158,13 +151,13 @@ public class KvbBankStatementService {
                 if (i == 0 && amounts.size() >= 2) {
                     tx.setCredit(amounts.get(0));
                 } else if (previousBalance != null) {
-                    double prev = Double.parseDouble(previousBalance.replaceAll(",", ""));
-                    double curr = Double.parseDouble(balance.replaceAll(",", ""));
+                    long prev = Money.paiseOf(previousBalance);
+                    long curr = Money.paiseOf(balance);
 
                     if (curr > prev) {
-                        tx.setCredit(String.format("%.2f", curr - prev));
+                        tx.setCredit(Money.toPlainString(curr - prev));
                     } else if (curr < prev) {
-                        tx.setDebit(String.format("%.2f", prev - curr));
+                        tx.setDebit(Money.toPlainString(prev - curr));
                     }
                 }
                 previousBalance = balance;
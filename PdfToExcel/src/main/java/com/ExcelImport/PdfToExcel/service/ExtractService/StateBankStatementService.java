@@ -2,6 +2,7 @@ package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.CanaraBankTransactionDTO;
 import com.ExcelImport.PdfToExcel.dto.StateBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.stereotype.Service;
 import technology.tabula.ObjectExtractor;
@@ -10,7 +11,6 @@ import technology.tabula.RectangularTextContainer;
 import technology.tabula.Table;
 import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
-import java.io.ByteArrayInputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -23,10 +23,10 @@ public class StateBankStatementService {
     /**
      * Extract raw table data from PDF using Tabula
      */
-    public List<List<String>> extractTableFromPdf(byte[] pdfBytes,String password) throws Exception {
+    public List<List<String>> extractTableFromPdf(PdfSource source,String password) throws Exception {
         List<List<String>> tableData = new ArrayList<>();
 
-        PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes),password);
+        PDDocument pdfDocument = source.load(password);
         ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
         SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
 
@@ -3,27 +3,46 @@ package com.ExcelImport.PdfToExcel.service.ExtractService;
 
 
 
+import com.ExcelImport.PdfToExcel.dto.Money;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.AdmissionService.ExtractionAdmissionService;
+import com.ExcelImport.PdfToExcel.service.AdmissionService.ExtractionAdmissionService.AdmissionTicket;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads.Engine;
+import com.ExcelImport.PdfToExcel.service.CacheService.ExtractionResultCache;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.ExtractionProgressListener;
 import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
-import com.ExcelImport.PdfToExcel.service.MainExtractService.TextBasedExtractorService;
-import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSpooler;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.RunningBalance;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Kind;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Noise;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StageRecorder;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TransactionSink;
+import com.ExcelImport.PdfToExcel.service.MetricsService.ExtractionMetrics;
+import com.ExcelImport.PdfToExcel.service.MetricsService.ExtractionMetrics.DocumentRecorder;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParser;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParser.Route;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParserRegistry;
+import com.ExcelImport.PdfToExcel.service.ParserService.OcrRoute;
+import com.ExcelImport.PdfToExcel.service.ParserService.PagedTableRoute;
+import com.ExcelImport.PdfToExcel.service.ParserService.TablePageParser;
+import com.ExcelImport.PdfToExcel.service.ParserService.TableRoute;
+import com.ExcelImport.PdfToExcel.service.ParserService.TextRoute;
 import lombok.extern.log4j.Log4j2;
-import org.apache.pdfbox.io.MemoryUsageSetting;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import technology.tabula.ObjectExtractor;
-import technology.tabula.Page;
 import technology.tabula.RectangularTextContainer;
-import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 import technology.tabula.Table;
 
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.regex.*;
 import java.util.stream.Collectors;
 
@@ -33,38 +52,218 @@ public class UniverselExtractorService {
 
 
     @Autowired
-    private TabulaExtractorService tabulaExtractorService;
+    private BankStatementParserRegistry parsers;
 
     @Autowired
-    private FederalBankStatementService federalBankStatementService;
+    private OcrExtractService ocrExtractService;
 
     @Autowired
-    private TextBasedExtractorService textBasedExtractorService;
+    private ExtractionResultCache resultCache;
 
     @Autowired
-    private OcrExtractService ocrExtractService;
+    private PdfSpooler pdfSpooler;
+
+    @Autowired
+    private EngineBulkheads bulkheads;
 
     @Autowired
-    private ICICIBankStatementService iciciBankStatementService;
+    private ExtractionAdmissionService admissionService;
+
+    @Autowired
+    private ExtractionMetrics metrics;
+
+    // text clean-up and block parsing patterns, compiled once
+    private static final Pattern HORIZONTAL_SPACE = Pattern.compile("[ \\t]+");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n{2,}");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+    private static final Pattern LEADING_DATE = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+    private static final Pattern DATE = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})");
+    private static final Pattern CHEQUE_WORDS = Pattern.compile("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b");
+    private static final Pattern TIME = Pattern.compile("\\b\\d{1,2}:\\d{2}:\\d{2}\\b");
+    private static final Pattern AMOUNT = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
+    private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
+    private static final Pattern TRAILING_AMOUNTS = Pattern.compile("(\\s*|-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
 
 
     // ===========================================================
 // 🔹 Main entry point – Hybrid Universal Extractor (Smart Fallback)
 // ===========================================================
-    public List<TransactionDTO> extractAndParsePdf(MultipartFile pdfBytes, String bank,String password,String accountType) throws Exception {
+    public TransactionBatch extractAndParsePdf(MultipartFile pdfFile, String bank,String password,String accountType) throws Exception {
+        assert pdfFile != null;
+        try (PdfSource source = pdfSpooler.spool(pdfFile)) {
+            return extractAndParsePdf(source, bank, password, accountType, ExtractionProgressListener.NONE);
+        }
+    }
+
+    public TransactionBatch extractAndParsePdf(PdfSource source, String bank, String password, String accountType,
+                                               ExtractionProgressListener progress) throws Exception {
+        return extractAndParsePdf(source, bank, password, accountType, progress, TransactionSink.NONE);
+    }
+
+    /**
+     * Same pipeline, handing transactions to {@code sink} as soon as they are
+     * final: page by page on the row-local Tabula routes, per stage otherwise.
+     */
+    public TransactionBatch extractAndParsePdf(PdfSource source, String bank, String password, String accountType,
+                                               ExtractionProgressListener progress, TransactionSink sink) throws Exception {
+        progress.onStage("ADMISSION");
+        try (Admission admission = admit(source, bank, password, accountType)) {
+            return extractAndParsePdf(source, bank, password, accountType, progress, sink, admission);
+        }
+    }
+
+    /**
+     * Extraction as background work (batch files, async jobs): admission
+     * waits for capacity instead of rejecting, and the stages wait for their
+     * bulkheads too.
+     */
+    public TransactionBatch extractInBackground(PdfSource source, String bank, String password, String accountType,
+                                                ExtractionProgressListener progress, TransactionSink sink) throws Exception {
+        progress.onStage("ADMISSION");
+        try (Admission admission = admit(source, bank, password, accountType, true)) {
+            return extractAndParsePdf(source, bank, password, accountType, progress, sink, admission);
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Admission: load once, price the loaded document, admit
+    // ===========================================================
+    /**
+     * An admitted extraction: the document loaded (and priced) for admission,
+     * kept for the extraction itself, and its admission ticket. Nothing is
+     * loaded when the result was cached at admission time. Closing releases
+     * the reservation and the document.
+     */
+    public static final class Admission implements AutoCloseable {
+
+        private final String cacheKey;
+        private final boolean background;
+        private final DocumentRecorder stages;
+        private PdfDocumentContext context;
+        private AdmissionTicket ticket;
+
+        private Admission(String cacheKey, boolean background, DocumentRecorder stages) {
+            this.cacheKey = cacheKey;
+            this.background = background;
+            this.stages = stages;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (PdfDocumentContext loaded = context; AdmissionTicket reserved = ticket) {
+                context = null;
+                ticket = null;
+            }
+        }
+    }
+
+    /**
+     * Admission pre-stage on its own: load the document, estimate its cost and
+     * admit, queue or reject with 429 + Retry-After. Streaming endpoints call
+     * this before the response is committed. A cached result skips admission;
+     * should the entry be gone by the time the extraction looks it up, the
+     * extraction is admitted then.
+     */
+    public Admission admit(PdfSource source, String bank, String password, String accountType) throws Exception {
+        return admit(source, bank, password, accountType, false);
+    }
+
+    private Admission admit(PdfSource source, String bank, String password, String accountType,
+                            boolean background) throws Exception {
+        Admission admission = new Admission(resultCache.key(source, bank, accountType, password), background,
+                metrics.forDocument(bank));
+        if (!resultCache.contains(admission.cacheKey)) {
+            load(admission, source, bank, password);
+        }
+        return admission;
+    }
+
+    private void load(Admission admission, PdfSource source, String bank, String password) throws Exception {
+        PdfDocumentContext context = admission.stages.time(StageRecorder.PDF_LOAD, () -> PdfDocumentContext.open(source, password));
+        try {
+            admission.ticket = admission.background
+                    ? admissionService.admitWaiting(context.getDocument(), source.size(), bank)
+                    : admissionService.admit(context.getDocument(), source.size(), bank);
+        } catch (Exception e) {
+            context.close();
+            throw e;
+        }
+        admission.context = context;
+    }
+
+    /**
+     * Extraction that already went through {@link #admit}; the caller closes the admission.
+     * The stages hand over DTO pages; the finished result is kept (and
+     * cached) as one columnar {@link TransactionBatch}.
+     */
+    public TransactionBatch extractAndParsePdf(PdfSource source, String bank, String password, String accountType,
+                                               ExtractionProgressListener progress, TransactionSink sink,
+                                               Admission admission) throws Exception {
         log.info("🚀 Starting extraction for bank: {}", bank.toUpperCase());
-        log.info("📦 PDF size: {} bytes", pdfBytes != null ? pdfBytes.getSize() : 0);
+        log.info("📦 PDF size: {} bytes", source.size());
 
         // ===========================================================
-        // 1️⃣ Detect PDF Type
+        // 1️⃣ Loaded once at admission → Detect PDF Type
         // ===========================================================
-        assert pdfBytes != null;
-        boolean isDigital = isDigitalPdf(pdfBytes.getBytes(),password);
-        boolean isTable   = hasTransactionTableLayout(pdfBytes.getBytes(),password);
+        DocumentRecorder stages = admission.stages;
+        long started = System.nanoTime();
+        Optional<TransactionBatch> cached = resultCache.get(admission.cacheKey);
+        if (cached.isPresent()) {
+            log.info("⚡ Cache hit — returning {} cached transactions for bank: {}", cached.get().size(), bank);
+            stages.setRoute(ExtractionMetrics.ROUTE_CACHE);
+            stages.recordExtraction(System.nanoTime() - started, cached.get().size(), ExtractionMetrics.OUTCOME_CACHED);
+            progress.onStage("CACHED");
+            progress.onDecision("Cache hit — extraction skipped");
+            progress.onRowsFound(cached.get().size());
+            sink.accept(cached.get());
+            return cached.get();
+        }
+
+        TransactionBatch transactions = null;
+        try {
+            if (admission.context == null) {
+                // admission was skipped for a result that was cached then; it has expired or been evicted since
+                progress.onStage("LOADING");
+                load(admission, source, bank, password);
+            }
+            PdfDocumentContext context = admission.context;
+            progress.onDecision("Admitted — estimated " + admission.ticket.getEstimate());
+            context.setProgressListener(progress);
+            context.setStageRecorder(stages);
+            context.setBackground(admission.ticket.isBackground());
+            int[] rowsFound = {0};
+            TransactionSink counting = rows -> {
+                rowsFound[0] += rows.size();
+                progress.onRowsFound(rowsFound[0]);
+                sink.accept(rows);
+            };
+            transactions = TransactionBatch.of(extractAndParsePdf(context, bank, accountType, counting));
+            resultCache.put(admission.cacheKey, transactions);
+            return transactions;
+        } finally {
+            stages.recordExtraction(System.nanoTime() - started, transactions == null ? 0 : transactions.size(),
+                    transactions == null ? StageRecorder.ERROR : transactions.isEmpty() ? StageRecorder.EMPTY : StageRecorder.SUCCESS);
+        }
+    }
+
+    private List<TransactionDTO> extractAndParsePdf(PdfDocumentContext context, String bank, String accountType,
+                                                    TransactionSink sink) throws Exception {
+        BankStatementParser<?> parser = parsers.get(bank);
+        ExtractionProgressListener progress = context.getProgressListener();
+        StageRecorder stages = context.getStageRecorder();
+        progress.onStage("DETECTING");
+        boolean isDigital = inBulkhead(context, Engine.TEXT, () -> stages.time(StageRecorder.DIGITAL_DETECTION, () -> isDigitalPdf(context)));
+        // a table layout only matters to formats with a table parser; the others skip the Tabula pass
+        boolean isTable   = parser.supports(Route.TABULA)
+                && inBulkhead(context, Engine.TABULA, () -> stages.time(StageRecorder.TABLE_DETECTION, () -> hasTransactionTableLayout(context)));
 
         log.info("📄 PDF Type Detected → {}", isDigital ? "Digital Text-Based" : "Possibly Scanned (Image-based)");
         log.info("📊 Table Structure Detected → {}", isTable ? "Table-Based" : "No Table Structure");
+        progress.onDecision("Detected " + (isDigital ? "digital text-based" : "scanned") + " PDF, "
+                + (isTable ? "table layout" : "no table structure") + ", "
+                + context.getImageOnlyPages().size() + " image-only page(s)");
 
 
         List<TransactionDTO> transactions = new ArrayList<>();
@@ -72,165 +271,180 @@ public class UniverselExtractorService {
         // ===========================================================
         // 2️⃣ If Table → Use Tabula Extraction
         // ===========================================================
-        if (isTable) {
+        if (isTable && parser instanceof TableRoute tables) {
             log.info("🔹 Table structure detected — attempting Tabula extraction...");
-            List<List<String>> rawTable = tabulaExtractorService.extractTableFromPdf(pdfBytes.getBytes(),password);
-
-            switch (bank.toUpperCase()) {
-                case "CANARA":
-                    transactions = tabulaExtractorService.CanaraBankMapDto(rawTable);
-                    break;
-                case "SBI":
-                    transactions = tabulaExtractorService.statebankMapDto(rawTable);
-                    break;
-                case "CITY_UNION":
-                    transactions = tabulaExtractorService.cityUnionBankMapDto(rawTable);
-                    break;
-                case "FEDERAL":
-                    List<List<String>> federalExtract = tabulaExtractorService.extractTableFederal(pdfBytes.getBytes(),password);
-                    transactions = tabulaExtractorService.FederalBankMapDto(federalExtract);
-                    break;
-                case "ICICI":
-                    transactions = tabulaExtractorService.extractUsingTabula(pdfBytes.getBytes());
-                    break;
-                case "INDUSLND":
-                    transactions = tabulaExtractorService.extractUsingTabula(pdfBytes.getBytes());
-                    break;
-                default:
-                    throw new IllegalArgumentException("❌ Unsupported bank: " + bank);
-            }
+            progress.onStage("TABULA");
+            stages.setRoute(ExtractionMetrics.ROUTE_TABLE);
+            transactions = inBulkhead(context, parser.engine(Route.TABULA), () -> extractTabulaStage(context, tables, sink));
 
             if (!transactions.isEmpty()) {
                 log.info("✅ Tabula extracted {} structured rows for bank: {}", transactions.size(), bank);
                 return transactions;
             }
             log.warn("⚠️ Tabula extraction returned no transactions — trying text/hybrid extraction...");
+            progress.onDecision("Tabula returned no transactions — trying text/hybrid extraction");
         }
 
         // ===========================================================
         // 3️⃣ If Digital Text-Based → Use Text Extraction
         // ===========================================================
-        if (isDigital && !isTable) {
-            log.info("📜 Detected digital text-based PDF — CANARA using text extraction...");
-            String textData = extractTextFromPdf(pdfBytes.getBytes(),password);
-            switch (bank.toUpperCase()){
-                case "CANARA":
-                    transactions = textBasedExtractorService.parseCanaraBankTransactions(textData);
-                    break;
-                case "INDIAN_BANK":
-                    transactions = textBasedExtractorService.extractTransactions(textData);
-                    break;
-                case "ICICI":
-                    if ("SAVING".equalsIgnoreCase(accountType)) {
-                        // 🟢 Savings account extraction
-                        transactions = textBasedExtractorService.extractICICI(pdfBytes.getBytes());
-                    } else {
-                        // 🔵 Current account extraction
-                        transactions = textBasedExtractorService.extractUsingTabula(pdfBytes.getBytes());
-                    }
-                    break;
-                case "INDUSLND":
-                    String ocrText = ocrExtractService.extractTextFromScannedPdf(pdfBytes.getBytes(),password);
-                    transactions = ocrExtractService.extractTransactions(ocrText);
-                    break;
-//                default:
-//                    transactions = textBasedExtractorService.parseUniversalTransactions(textData);
+        if (isDigital && !isTable && parser instanceof TextRoute textParser) {
+            log.info("📜 Detected digital text-based PDF — {} using text extraction...", bank);
+            progress.onStage("TEXT");
+            stages.setRoute(ExtractionMetrics.ROUTE_TEXT);
+            // pages the text route reads from OCR (scanned cover/annexure) are OCR'd under the OCR bulkhead first;
+            // the text stage then merges them from the context without holding OCR work on a TEXT permit
+            List<Integer> imagePages = textParser.ocrPages(context, accountType);
+            if (!imagePages.isEmpty()) {
+                inBulkhead(context, Engine.OCR, () -> ocrExtractService.ocrPages(context, imagePages));
             }
+            transactions = inBulkhead(context, parser.engine(Route.TEXT), () -> extractTextStage(context, textParser, accountType));
 
             if (!transactions.isEmpty()) {
                 log.info("✅ Successfully parsed {} transactions from text content.", transactions.size());
+                sink.accept(transactions);
                 return transactions;
             }
             log.warn("⚠️ Text-based extraction returned no results — checking for OCR pages...");
+            progress.onDecision("Text extraction returned no transactions — falling back to OCR");
         }
 
         // ===========================================================
-        // 5️⃣ Fallback → Full OCR Extraction
+        // 5️⃣ Fallback → OCR Extraction (image-only pages first)
         // ===========================================================
-        log.warn("⚠️ Falling back to full OCR extraction (scanned PDF)...");
-        String ocrData = ocrExtractService.extractTextFromScannedPdf(pdfBytes.getBytes(),password);
-        switch (bank.toUpperCase()) {
-            case "KVB":
-                  transactions = ocrExtractService.extractTransactions(ocrData);
-                  break;
-            case "INDUSLND":
-                  transactions = ocrExtractService.extractTransactions(pdfBytes.getBytes());
-                  break;
-//            case "CANARA":
-////                String textData = extractTextFromPdf(pdfBytes.getBytes(),password);
-//                transactions = textBasedExtractorService.extractCanaraBankTransaction(ocrData);
-//                break;
-
-
-            default:
-                transactions = ocrExtractService.ocrBasedTransactions(ocrData);
-        }
+        log.warn("⚠️ Falling back to OCR extraction — OCR on image-only pages, text layer elsewhere...");
+        progress.onDecision("OCR extraction on image-only pages, text layer elsewhere");
+        progress.onStage("OCR");
+        stages.setRoute(ExtractionMetrics.ROUTE_OCR);
+        transactions = inBulkhead(context, parser.engine(Route.OCR), () -> parseOcrText(context, parser, ocrExtractService.extractHybridText(context)));
         if (!transactions.isEmpty()) {
             log.info("✅ OCR extraction successful — {} transactions extracted.", transactions.size());
+            sink.accept(transactions);
             return transactions;
         }
 
+        if (context.hasTextPages() && parser.fullOcrFallback()) {
+            // text layer may be unusable (e.g. fonts without unicode mapping) → OCR every page
+            log.warn("⚠️ Hybrid text gave no transactions — falling back to full OCR extraction...");
+            progress.onDecision("Hybrid text returned no transactions — falling back to full OCR");
+            transactions = inBulkhead(context, parser.engine(Route.OCR), () -> parseOcrText(context, parser, ocrExtractService.extractTextFromScannedPdf(context)));
+            if (!transactions.isEmpty()) {
+                log.info("✅ Full OCR extraction successful — {} transactions extracted.", transactions.size());
+                sink.accept(transactions);
+                return transactions;
+            }
+        }
+
         // ===========================================================
         // 6️⃣ Final Fallback
         // ===========================================================
         log.error("❌ Extraction failed — no valid data found for bank: {}", bank);
+        progress.onDecision("No valid transactions found by any stage");
         return transactions;
     }
 
+    // ===========================================================
+    // 🔹 Bulkhead of a stage: shed when saturated, waited for in the background
+    // ===========================================================
+    private <T> T inBulkhead(PdfDocumentContext context, Engine engine, Callable<T> work) throws Exception {
+        return context.isBackground() ? bulkheads.callWaiting(engine, work) : bulkheads.call(engine, work);
+    }
+
+    // ===========================================================
+    // 🔹 Tabula stage (runs inside the TABULA bulkhead)
+    // ===========================================================
+    private List<TransactionDTO> extractTabulaStage(PdfDocumentContext context, TableRoute tables,
+                                                    TransactionSink sink) throws Exception {
+        if (tables instanceof PagedTableRoute paged) {
+            // row-local mappers → rows are emitted page by page
+            return extractTabulaPageByPage(context, paged.tablePageParser(), sink);
+        }
+        List<TransactionDTO> transactions = tables.parseTables(context);
+        sink.accept(transactions);
+        return transactions;
+    }
+
+    // ===========================================================
+    // 🔹 Text stage (runs inside the TEXT bulkhead)
+    // ===========================================================
+    private List<TransactionDTO> extractTextStage(PdfDocumentContext context, TextRoute text,
+                                                  String accountType) throws Exception {
+        String textData = extractTextFromPdf(context);
+        return context.getStageRecorder().time(StageRecorder.REGEX_PARSE, () -> text.parseText(context, textData, accountType));
+    }
+
+
+
+    // ===========================================================
+    // 🔹 Tabula page by page (row-local mappers) → emit each page
+    // ===========================================================
+    private List<TransactionDTO> extractTabulaPageByPage(PdfDocumentContext context, TablePageParser pages,
+                                                         TransactionSink sink) throws Exception {
+        List<TransactionDTO> transactions = new ArrayList<>();
+
+        for (int page = 1; page <= context.getPageCount(); page++) {
+            List<TransactionDTO> pageTransactions = pages.parsePage(context, page);
+            if (!pageTransactions.isEmpty()) {
+                transactions.addAll(pageTransactions);
+                sink.accept(pageTransactions);
+            }
+        }
+
+        List<TransactionDTO> heldBack = pages.finish();
+        if (!heldBack.isEmpty()) {
+            transactions.addAll(heldBack);
+            sink.accept(heldBack);
+        }
+        return transactions;
+    }
+
+
+
+    // ===========================================================
+    // 🔹 Parse OCR / hybrid text with the bank-specific OCR parser
+    // ===========================================================
+    private List<TransactionDTO> parseOcrText(PdfDocumentContext context, BankStatementParser<?> parser, String ocrData) throws Exception {
+        return context.getStageRecorder().time(StageRecorder.REGEX_PARSE, () -> parser instanceof OcrRoute ocr
+                ? ocr.parseOcr(context, ocrData)
+                : ocrExtractService.ocrBasedTransactions(ocrData));
+    }
+
 
 
     // ===========================================================
     // 🔹 Extract text from digital PDF
     // ===========================================================
-    public String extractTextFromPdf(byte[] pdfBytes,String password) throws Exception {
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes),password, MemoryUsageSetting.setupTempFileOnly())) {
-
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
-            stripper.setStartPage(1);
-            stripper.setEndPage(document.getNumberOfPages());
-
-            // Step 1️⃣: Raw text extraction
-            String rawText = stripper.getText(document);
-
-            // Step 2️⃣: Normalize spacing and clean up layout
-            String normalized = rawText
-                    .replaceAll("[ \\t]+", " ")     // replace multiple spaces/tabs
-                    .replaceAll("\\r", "")          // remove carriage returns
-                    .replaceAll("\\n{2,}", "\n")    // collapse multiple newlines
-                    .trim();
-
-            // Step 3️⃣: Intelligent filtering of unwanted lines
-            StringBuilder sb = new StringBuilder();
-            String[] lines = normalized.split("\\n");
-
-            for (String line : lines) {
-                String trimmed = line.trim();
-                if (trimmed.isEmpty()) continue;
-
-                // Skip generic headers/footers/disclaimers (no bank name hardcoded)
-                if (trimmed.matches("(?i).*page\\s*\\d+\\s*(of)?\\s*\\d+.*")) continue; // Page X of Y
-                if (trimmed.matches("(?i).*confidential.*")) continue;
-                if (trimmed.matches("(?i).*statement generated on.*")) continue;
-                if (trimmed.matches("(?i).*this is a system generated.*")) continue;
-                if (trimmed.matches("(?i).*do not reply.*")) continue;
-                if (trimmed.matches("(?i).*for any queries.*")) continue;
-                if (trimmed.matches("(?i).*customer service.*")) continue;
-                if (trimmed.matches("(?i).*end of statement.*")) continue;
-                if (trimmed.matches("(?i).*(www\\.|http).*")) continue; // websites
-                if (trimmed.matches("(?i).*helpline.*")) continue;
-                if (trimmed.matches("(?i).*contact us.*")) continue;
-                if (trimmed.matches("(?i).*email us at.*")) continue;
-                if (trimmed.matches("(?i).*branch code.*")) continue;
-                if (trimmed.matches("(?i).*issued by.*")) continue;
-
-                // keep valid lines
-                sb.append(trimmed).append("\n");
+    public String extractTextFromPdf(PdfDocumentContext context) throws Exception {
+        // Step 1️⃣: Raw text extraction (stripped once, shared with detection);
+        // OCR text of image-only pages (already OCR'd by the pipeline) is merged in page order
+        String rawText = ocrExtractService.extractHybridText(context);
+
+        // Step 2️⃣: Normalize spacing and clean up layout
+        String normalized = HORIZONTAL_SPACE.matcher(rawText).replaceAll(" "); // replace multiple spaces/tabs
+        normalized = normalized.replace("\r", "");                              // remove carriage returns
+        normalized = BLANK_LINES.matcher(normalized).replaceAll("\n").trim();   // collapse multiple newlines
+
+        // Step 3️⃣: Intelligent filtering of unwanted lines
+        StringBuilder sb = new StringBuilder(normalized.length());
+        String[] lines = normalized.split("\n");
+
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) continue;
+
+            // Skip generic headers/footers/disclaimers (no bank name hardcoded), one pass over the line
+            Noise noise = StatementLineRules.NOISE.classify(trimmed);
+            if (noise != null) {
+                log.trace("🧹 Dropped {} line: {}", noise, trimmed);
+                continue;
             }
 
-            // Step 4️⃣: Final cleanup
-            return sb.toString().trim();
+            // keep valid lines
+            sb.append(trimmed).append("\n");
         }
+
+        // Step 4️⃣: Final cleanup
+        return sb.toString().trim();
     }
 
 
@@ -240,13 +454,9 @@ public class UniverselExtractorService {
     /**
      * Detect if the PDF is digital (text-based) or scanned (image-only)
      */
-    private boolean isDigitalPdf(byte[] pdfBytes,String password) {
-        if (pdfBytes == null || pdfBytes.length == 0) return false;
-
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
-            String text = stripper.getText(document);
+    private boolean isDigitalPdf(PdfDocumentContext context) {
+        try {
+            String text = context.getFullText();
 
             // ✅ If extracted text length > threshold, it's a digital PDF
             if (text != null && text.trim().length() > 50) {
@@ -265,18 +475,12 @@ public class UniverselExtractorService {
     // ===========================================================
 // 🔹 Check if PDF has Table Layout specifically for Transaction Section
 // ===========================================================
-private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
-    try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
-
-        ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
-        SpreadsheetExtractionAlgorithm spreadsheetExtractor = new SpreadsheetExtractionAlgorithm();
-
-        int pagesToCheck = Math.min(pdfDocument.getNumberOfPages(), 3);
-        PDFTextStripper textStripper = new PDFTextStripper();
+private boolean hasTransactionTableLayout(PdfDocumentContext context) {
+    try {
+        int pagesToCheck = Math.min(context.getPageCount(), 3);
 
         for (int i = 1; i <= pagesToCheck; i++) {
-            Page page = extractor.extract(i);
-            List<Table> tables = spreadsheetExtractor.extract(page);
+            List<Table> tables = context.getSpreadsheetTables(i);
 
             // =============================================================
             // 🔹 1️⃣ Case 1: Headings + Rows are in table cells
@@ -305,7 +509,7 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
                     );
 
                     if (headerLike || rowLike) {
-                        System.out.println("📊 Table structure detected on page " + i + " (header or rows).");
+                        log.debug("📊 Table structure detected on page {} (header or rows).", i);
                         return true;
                     }
                 }
@@ -314,29 +518,23 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
             // =============================================================
             // 🔹 2️⃣ Case 2: Headings plain text, but table rows exist
             // =============================================================
-            String text = extractTextFromPage(pdfDocument, textStripper, i);
+            String text = context.getPageText(i);
             if (text.matches("(?is).*txn\\s*date.*debit.*credit.*balance.*")) {
                 // Check if lines look aligned (columns aligned)
                 if (looksLikeTabularText(text)) {
-                    System.out.println("📄 Text-based table rows detected on page " + i);
+                    log.debug("📄 Text-based table rows detected on page {}", i);
                     return true;
                 }
             }
         }
 
-        System.out.println("⚠️ No table-like structure detected.");
+        log.debug("⚠️ No table-like structure detected.");
     } catch (Exception e) {
-        System.err.println("❌ hasTransactionTableLayout failed: " + e.getMessage());
+        log.error("❌ hasTransactionTableLayout failed: {}", e.getMessage(), e);
     }
     return false;
 }
 
-    private String extractTextFromPage(PDDocument doc, PDFTextStripper stripper, int page) throws IOException {
-        stripper.setStartPage(page);
-        stripper.setEndPage(page);
-        return stripper.getText(doc);
-    }
-
     private boolean looksLikeTabularText(String text) {
         String[] lines = text.split("\\r?\\n");
         int count = 0;
@@ -358,11 +556,11 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
             return transactions;
         }
 
-        String[] lines = text.split("\\r?\\n");
-        Pattern datePattern = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+        String[] lines = LINE_BREAK.split(text);
 
         List<String> headers = null;
         StringBuilder currentBlock = new StringBuilder();
+        RunningBalance runningBalance = new RunningBalance();
 
         log.info("📄 Starting universal transaction parsing... Total lines: {}", lines.length);
 
@@ -370,50 +568,28 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
             String line = rawLine.trim();
             if (line.isEmpty()) continue;
 
+            long kinds = StatementLineRules.UNIVERSAL.match(line);
+
             // Detect header
-            String lower = line.toLowerCase();
-            if (headers == null && (lower.contains("date") &&
-                    (lower.contains("cheque") || lower.contains("chq.no") || lower.contains("mode") ||
-                            lower.contains("particular")||lower.contains("particulars") || lower.contains("description") || lower.contains("transaction details")))) {
+            if (headers == null && StatementLineRules.UNIVERSAL.fired(kinds, Kind.HEADER)) {
                 headers = splitRowIntoCells(line);
                 log.info("🧭 Detected header columns: {}", headers);
                 continue;
             }
 
-            // Skip obvious summary/header lines
-            if (lower.matches(".*(opening balance|closing balance|account summary|page no|statement|total|grand total|cheque|mode).*")) {
-                continue;
-            }
-
-            // ❌ Skip known footer/legend/summary sections
-            if (lower.contains("legends for transactions")
-                    || lower.contains("sincerely,")
-                    || lower.contains("team icici")
-                    || lower.contains("summary of account")
-                    || lower.contains("category of service")
-                    || lower.contains("regd address")
-                    || lower.contains("page total")
-                    || lower.contains("this is a system-generated")
-                    || lower.contains("your details with us")
-                    || lower.contains("your base branch")
-                    || lower.contains("registration no")
-                    || lower.contains("page ")
-                    || lower.contains("total ")
-                    || lower.contains("statement of transactions")
-                    || lower.contains("vat/mat/nfs - cash withdrawal")
-                    || lower.contains("eba - transaction on icici direct")
-                    || lower.contains("vps/ips - debit card transaction")
-                    || lower.contains("top - mobile recharge")) {
+            // Skip obvious summary/header lines and known footer/legend/summary sections
+            if (StatementLineRules.UNIVERSAL.fired(kinds, Kind.SUMMARY)
+                    || StatementLineRules.UNIVERSAL.fired(kinds, Kind.FOOTER)) {
                 continue; // skip these lines completely
             }
 
 
-            Matcher matcher = datePattern.matcher(line);
+            Matcher matcher = LEADING_DATE.matcher(line);
             if (matcher.find()) {
                 // New transaction starts
                 if (currentBlock.length() > 0) {
                     log.debug("🧩 Transaction block ready for parse:\n{}", currentBlock);
-                    TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString());
+                    TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString(), runningBalance);
                     if (dto != null) {
                         log.info("✅ Parsed transaction: {}", dto);
                         transactions.add(dto);
@@ -431,7 +607,7 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
         // Final block
         if (currentBlock.length() > 0) {
             log.debug("🧩 Final transaction block:\n{}", currentBlock);
-            TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString());
+            TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString(), runningBalance);
             if (dto != null) {
                 log.info("✅ Parsed final transaction: {}", dto);
                 transactions.add(dto);
@@ -464,38 +640,38 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
     private String unescapeMarker(String s) {
         return s;
     }
-    private static double lastBalanceValue = -1; // place this as a class-level static variable
 
 
     /**
      * parseTransactionBlockToDto now accepts chequeNo (may be null).
      * It will remove the chequeNo from description if provided, while preserving IMPS/UPI IDs.
+     * Debit/credit is inferred from the previous row's balance in {@code runningBalance}.
      */
-    private TransactionDTO parseTransactionBlockToDto(String block) {
+    private TransactionDTO parseTransactionBlockToDto(String block, RunningBalance runningBalance) {
         if (block == null || block.trim().isEmpty()) return null;
 
         TransactionDTO dto = new TransactionDTO();
 
         // 1️⃣ Extract and remove first date (main transaction date)
-        Matcher dateMatcher = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})").matcher(block);
+        Matcher dateMatcher = DATE.matcher(block);
         if (dateMatcher.find()) {
             String firstDate = dateMatcher.group(1);
             dto.setTransactionDate(firstDate);
-            block = block.replaceFirst(Pattern.quote(firstDate), " ");
+            // the first match is the first occurrence of its text
+            block = block.substring(0, dateMatcher.start()) + " " + block.substring(dateMatcher.end());
         }
 
         // 2️⃣ Remove cheque-related or header-like words
-        block = block.replaceAll("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b", " ");
-        block = block.replaceAll("\\b\\d{1,2}:\\d{2}:\\d{2}\\b", " "); // remove time like 13:45:21
-        block = block.replaceAll("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})", " "); // remove remaining dates
+        block = CHEQUE_WORDS.matcher(block).replaceAll(" ");
+        block = TIME.matcher(block).replaceAll(" "); // remove time like 13:45:21
+        block = DATE.matcher(block).replaceAll(" "); // remove remaining dates
 
         // 3️⃣ Extract all valid monetary amounts (₹-like patterns)
-        Pattern amountPattern = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
-        Matcher amtMatcher = amountPattern.matcher(block);
+        Matcher amtMatcher = AMOUNT.matcher(block);
         List<String> amounts = new ArrayList<>();
         while (amtMatcher.find()) {
             String amt = amtMatcher.group(1).trim();
-            String digitsOnly = amt.replaceAll("[^0-9]", "");
+            String digitsOnly = NON_DIGIT.matcher(amt).replaceAll("");
             if (amt.contains(",") || amt.contains(".") | digitsOnly.length() >= 4)
                 amounts.add(amt);
         }
@@ -507,32 +683,31 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
             if (!amounts.isEmpty()) {
                 // Get the current balance (last value)
                 balance = amounts.get(amounts.size() - 1);
-                double currentBalance = Double.parseDouble(balance.replaceAll(",", ""));
+                long currentBalance = Money.paiseOf(balance);
 
                 // Transaction amount (previous number, if any)
-                double txnAmount = 0;
+                long txnAmount = 0;
                 if (amounts.size() >= 2) {
-                    String amt = amounts.get(amounts.size() - 2);
-                    txnAmount = Double.parseDouble(amt.replaceAll(",", ""));
+                    txnAmount = Money.paiseOf(amounts.get(amounts.size() - 2));
                 }
 
-                // Compare with previous balance (if available)
-                if (lastBalanceValue != -1) {
-                    if (currentBalance > lastBalanceValue) {
+                // Compare with previous balance (if available) and store this one
+                switch (runningBalance.advance(currentBalance)) {
+                    case CREDIT:
                         // ✅ Balance increased → Credit
-                        credit = String.format("%,.2f", txnAmount);
+                        credit = Money.format(txnAmount);
                         debit = "-";
                         dto.setVoucherType("Receipt");
-                    } else if (currentBalance < lastBalanceValue) {
+                        break;
+                    case DEBIT:
                         // ✅ Balance decreased → Debit
-                        debit = String.format("%,.2f", txnAmount);
+                        debit = Money.format(txnAmount);
                         credit = "-";
                         dto.setVoucherType("Payment");
-                    }
+                        break;
+                    default:
+                        break;
                 }
-
-                // Update stored last balance
-                lastBalanceValue = currentBalance;
             }
         } catch (Exception e) {
             log.warn("⚠️ Smart credit/debit comparison failed: {}", e.getMessage());
@@ -545,12 +720,10 @@ private boolean hasTransactionTableLayout(byte[] pdfBytes,String password) {
 
         // 🧹 STEP: Clean up extra numeric columns at end of line (debit/credit/balance)
 // Removes up to last 3 numbers like 1,00,000.00 or -7,445.00 at the end
-        String cleanedBlock = block.replaceAll(
-                "(\\s*|-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$",
-                "").trim();
+        String cleanedBlock = TRAILING_AMOUNTS.matcher(block).replaceAll("").trim();
 
 // 🧹 Also remove any lingering multiple spaces
-        cleanedBlock = cleanedBlock.replaceAll("\\s+", " ").trim();
+        cleanedBlock = WHITESPACE.matcher(cleanedBlock).replaceAll(" ").trim();
 
 // ✅ Log before & after cleaning (for debugging)
         log.info("🧾 Before clean: {}", block);
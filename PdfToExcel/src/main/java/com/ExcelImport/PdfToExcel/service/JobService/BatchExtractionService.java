@@ -0,0 +1,387 @@
+package com.ExcelImport.PdfToExcel.service.JobService;
+
+import com.ExcelImport.PdfToExcel.dto.BatchFileRequest;
+import com.ExcelImport.PdfToExcel.dto.Response.BatchFileResult;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.ExtractionProgressListener;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSpooler;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TransactionSink;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParserRegistry;
+import com.ExcelImport.PdfToExcel.service.TallyService.TallyXmlWriter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts many statements per request (month-end uploads of a whole client
+ * group) on one shared worker pool.
+ * <p>
+ * Uploaded PDFs — a multipart set or the PDFs of a ZIP — are spooled to temp
+ * files first, so only documents that are being extracted are on the heap.
+ * Files run concurrently on {@code extraction.batch.threads} workers, with at
+ * most {@code extraction.batch.queue-capacity} files waiting for a worker
+ * (more is rejected, 429). Batch files are background work: they wait for
+ * admission and for each engine bulkhead instead of being shed, and share the
+ * OCR, Tabula and text limits with interactive requests. Results always come
+ * back in upload order, as per-file results or merged into one XLSX / Tally XML.
+ */
+@Log4j2
+@Service
+public class BatchExtractionService {
+
+    private static final String MANIFEST_ENTRY = "manifest.json";
+    private static final List<Column> SUMMARY_COLUMNS = List.of(
+            Column.blank("File"), Column.blank("Bank"), Column.blank("Status"),
+            Column.blank("Transactions"), Column.blank("Error"));
+
+    private final UniverselExtractorService extractor;
+    private final PdfSpooler pdfSpooler;
+    private final BankStatementParserRegistry parsers;
+    private final ExecutorService workers;
+    private final int maxFiles;
+    private final long maxFileBytes;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public BatchExtractionService(UniverselExtractorService extractor, PdfSpooler pdfSpooler,
+                                  BankStatementParserRegistry parsers,
+                                  @Value("${extraction.batch.threads:0}") int threads,
+                                  @Value("${extraction.batch.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${extraction.batch.max-files:500}") int maxFiles,
+                                  @Value("${extraction.batch.max-file-mb:50}") long maxFileMb) {
+        this.extractor = extractor;
+        this.pdfSpooler = pdfSpooler;
+        this.parsers = parsers;
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileMb * 1024 * 1024;
+
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r, "batch-worker-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        log.info("📚 Batch extraction pool ready — {} workers, {} queued files, max {} files per batch",
+                size, queueCapacity, maxFiles);
+    }
+
+    /**
+     * One spooled statement of a batch with its resolved bank/password/account type.
+     */
+    public record BatchItem(String fileName, Path pdfFile, String bank, String password, String accountType) {
+    }
+
+    /**
+     * Spooled files of one batch; closing deletes them.
+     */
+    public static final class Batch implements AutoCloseable {
+
+        private final Path dir;
+        private final List<BatchItem> items;
+
+        private Batch(Path dir, List<BatchItem> items) {
+            this.dir = dir;
+            this.items = items;
+        }
+
+        public List<BatchItem> items() {
+            return items;
+        }
+
+        @Override
+        public void close() {
+            if (!Files.exists(dir)) {
+                return;
+            }
+            try (var files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(dir);
+            } catch (IOException e) {
+                log.warn("⚠️ Could not delete batch spool {}: {}", dir, e.getMessage());
+            }
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Collect PDFs (multipart set and/or ZIP) + manifest → spooled batch
+    // ===========================================================
+    public Batch collect(MultipartFile[] files, MultipartFile zip, String manifestJson,
+                         String defaultBank, String defaultPassword, String defaultAccountType) throws IOException {
+        Path dir = Files.createTempDirectory("pdf-batch-");
+        Map<String, Path> pdfs = new LinkedHashMap<>();
+        String manifestSource = manifestJson;
+
+        try {
+            if (files != null) {
+                for (MultipartFile file : files) {
+                    if (file.isEmpty()) continue;
+                    if (file.getSize() > maxFileBytes) {
+                        throw new IllegalArgumentException("File too large: " + file.getOriginalFilename());
+                    }
+                    Path spooled = spoolPath(dir, pdfs.size());
+                    file.transferTo(spooled);
+                    pdfs.put(uniqueName(pdfs, baseName(file.getOriginalFilename())), spooled);
+                    checkFileCount(pdfs.size());
+                }
+            }
+
+            if (zip != null && !zip.isEmpty()) {
+                try (ZipInputStream in = new ZipInputStream(zip.getInputStream())) {
+                    ZipEntry entry;
+                    while ((entry = in.getNextEntry()) != null) {
+                        String name = baseName(entry.getName());
+                        if (entry.isDirectory() || entry.getName().startsWith("__MACOSX")) continue;
+
+                        if (MANIFEST_ENTRY.equalsIgnoreCase(name) && manifestSource == null) {
+                            manifestSource = new String(in.readNBytes((int) Math.min(maxFileBytes, Integer.MAX_VALUE - 8)));
+                        } else if (name.toLowerCase().endsWith(".pdf")) {
+                            Path spooled = spoolPath(dir, pdfs.size());
+                            copyLimited(in, spooled, name);
+                            pdfs.put(uniqueName(pdfs, name), spooled);
+                            checkFileCount(pdfs.size());
+                        }
+                    }
+                }
+            }
+
+            if (pdfs.isEmpty()) {
+                throw new IllegalArgumentException("No PDF files in the batch");
+            }
+
+            Map<String, BatchFileRequest> manifest = parseManifest(manifestSource);
+            List<BatchItem> items = new ArrayList<>(pdfs.size());
+            for (Map.Entry<String, Path> pdf : pdfs.entrySet()) {
+                BatchFileRequest entry = manifest.getOrDefault(pdf.getKey(), new BatchFileRequest());
+                String bank = entry.getBank() != null ? entry.getBank() : defaultBank;
+                if (bank == null || bank.isBlank()) {
+                    throw new IllegalArgumentException("No bank given for " + pdf.getKey());
+                }
+                items.add(new BatchItem(pdf.getKey(), pdf.getValue(), bank,
+                        entry.getPassword() != null ? entry.getPassword() : defaultPassword,
+                        entry.getAccountType() != null ? entry.getAccountType() : defaultAccountType));
+            }
+
+            log.info("📥 Batch collected — {} PDFs spooled to {}", items.size(), dir);
+            return new Batch(dir, items);
+        } catch (IOException | RuntimeException e) {
+            new Batch(dir, List.of()).close();
+            throw e;
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Schedule on the shared pool → futures in upload order
+    //    (a full pool queue rejects the whole batch)
+    // ===========================================================
+    public List<Future<BatchFileResult>> submit(Batch batch) {
+        List<Future<BatchFileResult>> results = new ArrayList<>(batch.items().size());
+        try {
+            for (BatchItem item : batch.items()) {
+                results.add(workers.submit(() -> extractOne(item)));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("🚫 Batch pool queue full — rejecting batch of {} files", batch.items().size());
+            cancel(results);
+            throw e;
+        }
+        return results;
+    }
+
+    private BatchFileResult extractOne(BatchItem item) {
+        long start = System.nanoTime();
+        PdfSource source = pdfSpooler.wrap(item.pdfFile());
+        try {
+            TransactionBatch transactions = extractor.extractInBackground(source, item.bank(), item.password(),
+                    item.accountType(), ExtractionProgressListener.NONE, TransactionSink.NONE);
+            log.info("✅ Batch file {} → {} transactions", item.fileName(), transactions.size());
+            return new BatchFileResult(item.fileName(), item.bank(), "success", null, elapsedMs(start), transactions);
+        } catch (Exception e) {
+            log.error("❌ Batch file {} failed: {}", item.fileName(), e.getMessage());
+            return new BatchFileResult(item.fileName(), item.bank(), "failed", e.getMessage(), elapsedMs(start), TransactionBatch.EMPTY);
+        }
+    }
+
+    /**
+     * Wait for one file; a cancelled or interrupted wait cancels the rest of the batch.
+     */
+    public BatchFileResult await(Future<BatchFileResult> result, List<Future<BatchFileResult>> all) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(all);
+            throw new IOException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            cancel(all);
+            throw new IOException("Batch extraction failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public void cancel(List<Future<BatchFileResult>> results) {
+        results.forEach(result -> result.cancel(true));
+    }
+
+    // ===========================================================
+    // 🔹 Merged outputs (written in upload order as files finish)
+    // ===========================================================
+    public void writeMergedExcel(List<Future<BatchFileResult>> results, OutputStream out) throws IOException {
+        List<BatchFileResult> summary = new ArrayList<>(results.size());
+        StatementWorkbookWriter writer = null;
+
+        try {
+            for (Future<BatchFileResult> future : results) {
+                BatchFileResult result = await(future, results);
+                summary.add(result);
+                if (result.getTransactions().isEmpty()) continue;
+
+                String sheetName = result.getFileName().replaceFirst("(?i)\\.pdf$", "");
+                List<Column> columns = parsers.get(result.getBank()).excelLayout();
+                if (writer == null) {
+                    writer = StatementWorkbookWriter.open(sheetName, columns, out);
+                } else {
+                    writer.startSheet(sheetName, columns);
+                }
+                writer.append(result.getTransactions());
+            }
+
+            if (writer == null) {
+                writer = StatementWorkbookWriter.open("Batch Summary", SUMMARY_COLUMNS, out);
+            } else {
+                writer.startSheet("Batch Summary", SUMMARY_COLUMNS);
+            }
+            for (BatchFileResult result : summary) {
+                writer.appendTextRow(List.of(result.getFileName(), result.getBank(), result.getStatus(),
+                        String.valueOf(result.getTransactions().size()),
+                        result.getError() == null ? "" : result.getError()));
+            }
+            writer.finish();
+        } finally {
+            if (writer != null) writer.close();
+            cancel(results);
+        }
+    }
+
+    public void writeMergedTallyXml(List<Future<BatchFileResult>> results, OutputStream out, String typeBank) throws IOException {
+        try {
+            TallyXmlWriter writer = null;
+            for (Future<BatchFileResult> future : results) {
+                BatchFileResult result = await(future, results);
+                if (writer == null) {
+                    writer = TallyXmlWriter.open(out, result.getBank(), typeBank);
+                } else {
+                    writer.setBank(result.getBank(), typeBank);
+                }
+                TransactionBatch transactions = result.getTransactions();
+                for (int row = 0; row < transactions.size(); row++) {
+                    writer.append(transactions, row);
+                }
+                out.flush();
+            }
+            if (writer != null) {
+                writer.finish();
+                log.info("🧾 Batch Tally XML written — {} vouchers from {} files", writer.getVoucherCount(), results.size());
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Tally XML generation failed: " + e.getMessage(), e);
+        } finally {
+            cancel(results);
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Helpers
+    // ===========================================================
+    private Map<String, BatchFileRequest> parseManifest(String manifestJson) throws IOException {
+        Map<String, BatchFileRequest> manifest = new LinkedHashMap<>();
+        if (manifestJson == null || manifestJson.isBlank()) {
+            return manifest;
+        }
+        List<BatchFileRequest> entries = mapper.readValue(manifestJson, new TypeReference<List<BatchFileRequest>>() {});
+        for (BatchFileRequest entry : entries) {
+            if (entry.getFileName() != null) {
+                manifest.put(baseName(entry.getFileName()), entry);
+            }
+        }
+        return manifest;
+    }
+
+    private void copyLimited(InputStream in, Path target, String name) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[64 * 1024];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileBytes) {
+                    throw new IllegalArgumentException("File too large in ZIP: " + name);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void checkFileCount(int count) {
+        if (count > maxFiles) {
+            throw new IllegalArgumentException("Too many files in batch (max " + maxFiles + ")");
+        }
+    }
+
+    private static Path spoolPath(Path dir, int index) {
+        return dir.resolve("statement-" + index + ".pdf");
+    }
+
+    private static String baseName(String name) {
+        if (name == null) return "statement.pdf";
+        String normalized = name.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    private static String uniqueName(Map<String, Path> taken, String name) {
+        String unique = name;
+        for (int n = 2; taken.containsKey(unique); n++) {
+            unique = n + "_" + name;
+        }
+        return unique;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
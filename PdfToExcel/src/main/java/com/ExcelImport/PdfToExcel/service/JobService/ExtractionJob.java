@@ -0,0 +1,218 @@
+package com.ExcelImport.PdfToExcel.service.JobService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.JobProgressEvent;
+import com.ExcelImport.PdfToExcel.dto.Response.JobStatusResponse;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.ExtractionProgressListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * One submitted extraction: its lifecycle, live progress and, once finished,
+ * its transactions or error. Progress is written by the job thread (and OCR
+ * workers) and read by polling requests, hence the volatile fields. Every
+ * change is also pushed to subscribers (the SSE endpoint) as a
+ * {@link JobProgressEvent}.
+ */
+public class ExtractionJob implements ExtractionProgressListener {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private final String id;
+    private final String bank;
+    private final String accountType;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String stage;
+    private volatile int pagesDone;
+    private volatile int totalPages;
+    private volatile TransactionBatch transactions;
+    private volatile String error;
+    private volatile Instant finishedAt;
+    private volatile Future<?> future;
+    private volatile int rowsFound;
+    private volatile long startedNanos;
+    private final List<String> decisions = new CopyOnWriteArrayList<>();
+    private final List<Consumer<JobProgressEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    ExtractionJob(String id, String bank, String accountType) {
+        this.id = id;
+        this.bank = bank;
+        this.accountType = accountType;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getBank() {
+        return bank;
+    }
+
+    public String getAccountType() {
+        return accountType;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public TransactionBatch getTransactions() {
+        return transactions;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    // ===========================================================
+    // 🔹 Progress callbacks from the extraction
+    // ===========================================================
+    @Override
+    public void onStage(String stage) {
+        this.stage = stage;
+        this.pagesDone = 0;
+        this.totalPages = 0;
+        publish("stage", null);
+    }
+
+    @Override
+    public void onPageProgress(int pagesDone, int totalPages) {
+        this.pagesDone = pagesDone;
+        this.totalPages = totalPages;
+        publish("pages", null);
+    }
+
+    @Override
+    public void onRowsFound(int rowsSoFar) {
+        this.rowsFound = rowsSoFar;
+        publish("rows", null);
+    }
+
+    @Override
+    public void onDecision(String decision) {
+        decisions.add(decision);
+        publish("decision", decision);
+    }
+
+    // ===========================================================
+    // 🔹 Event subscribers (SSE)
+    // ===========================================================
+    public void subscribe(Consumer<JobProgressEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<JobProgressEvent> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    public JobProgressEvent snapshot(String type, String message) {
+        long elapsedMs = startedNanos == 0 ? 0 : (System.nanoTime() - startedNanos) / 1_000_000;
+        return new JobProgressEvent(type, id, status.name(), stage, pagesDone, totalPages, rowsFound, message, elapsedMs);
+    }
+
+    private void publish(String type, String message) {
+        send(event(type, message));
+    }
+
+    /** Snapshot for subscribers, or null when nobody listens. */
+    private JobProgressEvent event(String type, String message) {
+        return subscribers.isEmpty() ? null : snapshot(type, message);
+    }
+
+    private void send(JobProgressEvent event) {
+        if (event != null) {
+            subscribers.forEach(subscriber -> subscriber.accept(event));
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Lifecycle transitions (job thread and cancel requests)
+    // ===========================================================
+    // State changes under the monitor; the event is snapshotted there and
+    // sent after it is released, so a slow SSE client never holds up a
+    // cancel request or the job thread.
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    boolean markRunning() {
+        JobProgressEvent event;
+        synchronized (this) {
+            if (status != Status.QUEUED) {
+                return false;
+            }
+            status = Status.RUNNING;
+            startedNanos = System.nanoTime();
+            event = event("status", null);
+        }
+        send(event);
+        return true;
+    }
+
+    void complete(TransactionBatch transactions) {
+        JobProgressEvent event;
+        synchronized (this) {
+            if (status != Status.RUNNING) {
+                return;
+            }
+            this.transactions = transactions;
+            event = finish(Status.COMPLETED);
+        }
+        send(event);
+    }
+
+    void fail(String error) {
+        JobProgressEvent event;
+        synchronized (this) {
+            if (status != Status.RUNNING) {
+                return;
+            }
+            this.error = error;
+            event = finish(Status.FAILED);
+        }
+        send(event);
+    }
+
+    /**
+     * Cancel unless already finished; returns the status it was cancelled
+     * from (QUEUED or RUNNING), or null when there was nothing to cancel.
+     */
+    Status cancel() {
+        Status cancelledFrom;
+        JobProgressEvent event;
+        synchronized (this) {
+            if (isFinished()) {
+                return null;
+            }
+            cancelledFrom = status;
+            event = finish(Status.CANCELLED);
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+        send(event);
+        return cancelledFrom;
+    }
+
+    private JobProgressEvent finish(Status finalStatus) {
+        status = finalStatus;
+        finishedAt = Instant.now();
+        return event("status", error);
+    }
+
+    public JobStatusResponse toStatus() {
+        TransactionBatch rows = transactions;
+        return new JobStatusResponse(id, status.name(), bank, stage, pagesDone, totalPages,
+                rows != null ? rows.size() : rowsFound, List.copyOf(decisions), error, submittedAt, finishedAt);
+    }
+}
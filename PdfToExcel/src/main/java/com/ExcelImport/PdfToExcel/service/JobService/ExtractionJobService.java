@@ -0,0 +1,141 @@
+package com.ExcelImport.PdfToExcel.service.JobService;
+
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSpooler;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TransactionSink;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs universal extractions as background jobs so large (OCR) statements do
+ * not hold a Tomcat thread and connection for minutes.
+ * <p>
+ * Jobs run on a fixed number of threads with a bounded queue; once the queue
+ * is full {@link #submit} throws {@link RejectedExecutionException}. Finished
+ * jobs are kept for {@code extraction.jobs.retention-minutes} and then dropped.
+ */
+@Log4j2
+@Service
+public class ExtractionJobService {
+
+    private final UniverselExtractorService extractor;
+    private final PdfSpooler pdfSpooler;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<String, ExtractionJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, PdfSource> spooled = new ConcurrentHashMap<>();
+
+    public ExtractionJobService(UniverselExtractorService extractor, PdfSpooler pdfSpooler,
+                                @Value("${extraction.jobs.threads:2}") int threads,
+                                @Value("${extraction.jobs.queue-capacity:20}") int queueCapacity,
+                                @Value("${extraction.jobs.retention-minutes:30}") long retentionMinutes) {
+        this.extractor = extractor;
+        this.pdfSpooler = pdfSpooler;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "extraction-job-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("🧵 Extraction job executor ready — {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    // ===========================================================
+    // 🔹 Submit → returns immediately with the queued job
+    // ===========================================================
+    public ExtractionJob submit(MultipartFile file, String bank, String password, String accountType) throws IOException {
+        purgeExpired();
+
+        // spool now: the multipart temp file is deleted when the request ends
+        PdfSource source = pdfSpooler.spool(file);
+        ExtractionJob job = new ExtractionJob(UUID.randomUUID().toString(), bank, accountType);
+
+        jobs.put(job.getId(), job);
+        spooled.put(job.getId(), source);
+        try {
+            job.attach(executor.submit(() -> run(job, source, password)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            spooled.remove(job.getId());
+            source.close();
+            log.warn("🚫 Extraction queue full — rejected job for bank: {}", bank);
+            throw e;
+        }
+
+        log.info("📥 Queued extraction job {} for bank: {} ({} bytes)", job.getId(), bank, source.size());
+        return job;
+    }
+
+    private void run(ExtractionJob job, PdfSource source, String password) {
+        try (source) {
+            if (!job.markRunning()) {
+                return; // cancelled while queued
+            }
+            // a job already answered 202: admission and the stages wait for capacity instead of shedding
+            job.complete(extractor.extractInBackground(source, job.getBank(), password, job.getAccountType(),
+                    job, TransactionSink.NONE));
+            log.info("✅ Extraction job {} finished with status {}", job.getId(), job.getStatus());
+        } catch (CancellationException | InterruptedException e) {
+            log.info("🛑 Extraction job {} cancelled", job.getId());
+        } catch (Exception e) {
+            log.error("❌ Extraction job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            spooled.remove(job.getId());
+        }
+    }
+
+    public Optional<ExtractionJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public Optional<ExtractionJob> cancel(String jobId) {
+        ExtractionJob job = jobs.get(jobId);
+        ExtractionJob.Status cancelledFrom = job == null ? null : job.cancel();
+        if (cancelledFrom == ExtractionJob.Status.QUEUED) {
+            executor.purge(); // frees the queue slot of a job cancelled before it started
+            PdfSource source = spooled.remove(jobId);
+            if (source != null) {
+                source.close(); // a purged job never runs, so its upload is deleted here
+            }
+        }
+        // a running job is interrupted and still reads its upload; run() closes it on the way out
+        if (cancelledFrom != null) {
+            log.info("🛑 Cancel requested for extraction job {} ({})", jobId, cancelledFrom);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+/**
+ * Receives progress of one extraction: the stage it is in, how many pages of
+ * that stage are done, rows found so far and the routing/fallback decisions
+ * taken. Page callbacks may arrive from OCR worker threads.
+ */
+public interface ExtractionProgressListener {
+
+    ExtractionProgressListener NONE = new ExtractionProgressListener() {
+    };
+
+    default void onStage(String stage) {
+    }
+
+    default void onPageProgress(int pagesDone, int totalPages) {
+    }
+
+    default void onRowsFound(int rowsSoFar) {
+    }
+
+    default void onDecision(String decision) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies statement lines (headers, footers, summaries, noise) against a
+ * fixed set of rules compiled once.
+ * <p>
+ * All keywords of all rules go into one Aho-Corasick automaton, so a line is
+ * scanned once whatever the number of rules, case-folded on the fly (no
+ * {@code toLowerCase()} copy). Rules that need more than a keyword carry a
+ * precompiled regex, only run when the rule's keyword prefilter hit.
+ * <p>
+ * A rule is any of its clauses firing; a clause fires when each of its keyword
+ * groups has a hit (any keyword of the group) and its regex, if any, is found.
+ * Keywords are ASCII and matched case-insensitively.
+ *
+ * @param <R> rule set; at most 64 rules, reported in declaration order
+ */
+public final class LineClassifier<R extends Enum<R>> {
+
+    private static final int ALPHABET = 128;
+
+    private final R[] rules;
+    private final Clause[] clauses;
+    // automaton: full transition table (state * ALPHABET + char) and keyword groups ending in each state
+    private final int[] delta;
+    private final long[] output;
+
+    private record Clause(int rule, long groups, Pattern regex) {
+    }
+
+    private LineClassifier(R[] rules, Clause[] clauses, int[] delta, long[] output) {
+        this.rules = rules;
+        this.clauses = clauses;
+        this.delta = delta;
+        this.output = output;
+    }
+
+    public static <R extends Enum<R>> Builder<R> builder(Class<R> rules) {
+        return new Builder<>(rules);
+    }
+
+    /**
+     * Every rule the line fires, as a bit set; test it with {@link #fired}.
+     */
+    public long match(CharSequence line) {
+        long groups = 0;
+        int state = 0;
+        for (int i = 0, n = line.length(); i < n; i++) {
+            char c = line.charAt(i);
+            if (c >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            state = delta[state * ALPHABET + c];
+            groups |= output[state];
+        }
+
+        long hits = 0;
+        for (Clause clause : clauses) {
+            long bit = 1L << clause.rule();
+            if ((hits & bit) == 0
+                    && (groups & clause.groups()) == clause.groups()
+                    && (clause.regex() == null || clause.regex().matcher(line).find())) {
+                hits |= bit;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * First rule (in declaration order) the line fires, or {@code null}.
+     */
+    public R classify(CharSequence line) {
+        long hits = match(line);
+        return hits == 0 ? null : rules[Long.numberOfTrailingZeros(hits)];
+    }
+
+    public boolean fired(long hits, R rule) {
+        return (hits & (1L << rule.ordinal())) != 0;
+    }
+
+    // ===========================================================
+    // 🔹 Builder
+    // ===========================================================
+    public static final class Builder<R extends Enum<R>> {
+
+        private final R[] rules;
+        private final List<Clause> clauses = new ArrayList<>();
+        // keyword -> groups it satisfies
+        private final Map<String, Long> keywords = new HashMap<>();
+        private int groupCount;
+
+        private Builder(Class<R> type) {
+            this.rules = type.getEnumConstants();
+            if (rules.length > Long.SIZE) {
+                throw new IllegalArgumentException("At most 64 rules per classifier: " + type.getName());
+            }
+        }
+
+        /**
+         * {@code rule} fires when the line contains any of {@code keywords}.
+         */
+        public Builder<R> anyOf(R rule, String... keywords) {
+            return clause(rule, null, List.of(keywords));
+        }
+
+        /**
+         * {@code rule} fires when the line contains a keyword from every group.
+         */
+        @SafeVarargs
+        public final Builder<R> allOf(R rule, List<String>... groups) {
+            return clause(rule, null, groups);
+        }
+
+        /**
+         * {@code rule} fires when {@code regex} is found (case-insensitive) in
+         * a line containing any of the {@code prefilter} keywords.
+         */
+        public Builder<R> regex(R rule, String regex, String... prefilter) {
+            if (prefilter.length == 0) {
+                throw new IllegalArgumentException("Regex rule " + rule + " needs a keyword prefilter");
+            }
+            return clause(rule, Pattern.compile(regex, Pattern.CASE_INSENSITIVE), List.of(prefilter));
+        }
+
+        @SafeVarargs
+        private Builder<R> clause(R rule, Pattern regex, List<String>... groups) {
+            long mask = 0;
+            for (List<String> group : groups) {
+                if (group.isEmpty()) {
+                    throw new IllegalArgumentException("Empty keyword group for rule " + rule);
+                }
+                if (groupCount == Long.SIZE) {
+                    throw new IllegalArgumentException("At most 64 keyword groups per classifier");
+                }
+                long bit = 1L << groupCount++;
+                for (String keyword : group) {
+                    keywords.merge(normalise(keyword), bit, (a, b) -> a | b);
+                }
+                mask |= bit;
+            }
+            clauses.add(new Clause(rule.ordinal(), mask, regex));
+            return this;
+        }
+
+        private static String normalise(String keyword) {
+            if (keyword.isEmpty() || !keyword.chars().allMatch(c -> c < ALPHABET)) {
+                throw new IllegalArgumentException("Keywords must be non-empty ASCII: '" + keyword + "'");
+            }
+            return keyword.toLowerCase(Locale.ROOT);
+        }
+
+        public LineClassifier<R> build() {
+            // 1️⃣ trie of all keywords
+            List<int[]> next = new ArrayList<>();
+            List<Long> out = new ArrayList<>();
+            next.add(emptyRow());
+            out.add(0L);
+            for (Map.Entry<String, Long> entry : keywords.entrySet()) {
+                int state = 0;
+                for (char c : entry.getKey().toCharArray()) {
+                    if (next.get(state)[c] < 0) {
+                        next.get(state)[c] = next.size();
+                        next.add(emptyRow());
+                        out.add(0L);
+                    }
+                    state = next.get(state)[c];
+                }
+                out.set(state, out.get(state) | entry.getValue());
+            }
+
+            // 2️⃣ failure links, breadth first, folded into a full transition table
+            int states = next.size();
+            int[] delta = new int[states * ALPHABET];
+            long[] output = new long[states];
+            int[] fail = new int[states];
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = next.get(0)[c];
+                if (child > 0) {
+                    delta[c] = child;
+                    queue.add(child);
+                }
+            }
+            output[0] = out.get(0);
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                output[state] = out.get(state) | output[fail[state]];
+                for (int c = 0; c < ALPHABET; c++) {
+                    int child = next.get(state)[c];
+                    int fallback = delta[fail[state] * ALPHABET + c];
+                    if (child > 0) {
+                        fail[child] = fallback;
+                        delta[state * ALPHABET + c] = child;
+                        queue.add(child);
+                    } else {
+                        delta[state * ALPHABET + c] = fallback;
+                    }
+                }
+            }
+
+            return new LineClassifier<>(rules, clauses.toArray(Clause[]::new), delta, output);
+        }
+
+        private static int[] emptyRow() {
+            int[] row = new int[ALPHABET];
+            Arrays.fill(row, -1);
+            return row;
+        }
+    }
+}
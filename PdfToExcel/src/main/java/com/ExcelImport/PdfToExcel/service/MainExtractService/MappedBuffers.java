@@ -0,0 +1,58 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Explicit unmapping of a {@link java.nio.MappedByteBuffer}.
+ * <p>
+ * A mapping is otherwise only released when the buffer is garbage
+ * collected, and until then Windows refuses to delete the mapped file. The JDK
+ * has no public unmap before the FFM API, so this goes through
+ * {@code sun.misc.Unsafe.invokeCleaner} (module {@code jdk.unsupported}).
+ * The buffer and every view of it must not be touched afterwards.
+ */
+@Log4j2
+final class MappedBuffers {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("⚠️ Explicit unmapping unavailable ({}) — mapped PDFs are released by the GC", e.toString());
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private MappedBuffers() {
+    }
+
+    /**
+     * Unmaps {@code buffer} now; returns false when only the GC can release it.
+     */
+    static boolean unmap(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return false;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("⚠️ Could not unmap PDF mapping: {}", e.toString());
+            return false;
+        }
+    }
+}
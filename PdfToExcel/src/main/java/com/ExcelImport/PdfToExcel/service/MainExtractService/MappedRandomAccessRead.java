@@ -0,0 +1,126 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * PDFBox {@link RandomAccessRead} over a memory-mapped file region.
+ * <p>
+ * Seeks only move the buffer position and reads copy straight out of the
+ * mapping, so the parser's jumps between the xref table, objects and content
+ * streams are served from the OS page cache instead of a buffered file
+ * stream or a heap copy. Each instance reads through its own view of the
+ * mapping; closing it tells the owner, which unmaps once no view is open.
+ */
+public class MappedRandomAccessRead implements RandomAccessRead {
+
+    private final ByteBuffer buffer;
+    private final Runnable onClose;
+    private boolean closed;
+
+    public MappedRandomAccessRead(ByteBuffer mapping, Runnable onClose) {
+        this.buffer = mapping.duplicate();
+        this.buffer.rewind();
+        this.onClose = onClose;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int offset, int length) throws IOException {
+        checkClosed();
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int n = Math.min(length, buffer.remaining());
+        buffer.get(b, offset, n);
+        return n;
+    }
+
+    @Override
+    public long getPosition() throws IOException {
+        checkClosed();
+        return buffer.position();
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        checkClosed();
+        if (position < 0) {
+            throw new IOException("Invalid position " + position);
+        }
+        buffer.position((int) Math.min(position, buffer.limit()));
+    }
+
+    @Override
+    public long length() throws IOException {
+        checkClosed();
+        return buffer.limit();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int peek() throws IOException {
+        checkClosed();
+        return buffer.hasRemaining() ? buffer.get(buffer.position()) & 0xFF : -1;
+    }
+
+    @Override
+    public void rewind(int bytes) throws IOException {
+        checkClosed();
+        buffer.position(buffer.position() - bytes);
+    }
+
+    @Override
+    public byte[] readFully(int length) throws IOException {
+        checkClosed();
+        if (buffer.remaining() < length) {
+            throw new EOFException("Premature end of mapped PDF");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean isEOF() throws IOException {
+        checkClosed();
+        return !buffer.hasRemaining();
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkClosed();
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            onClose.run();
+        }
+    }
+
+    private void checkClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Mapped PDF source already closed");
+        }
+    }
+}
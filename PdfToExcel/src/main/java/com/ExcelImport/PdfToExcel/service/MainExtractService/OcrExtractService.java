@@ -2,52 +2,214 @@ package com.ExcelImport.PdfToExcel.service.MainExtractService;
 
 
 
+import com.ExcelImport.PdfToExcel.dto.Money;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Kind;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TesseractEnginePool.Recognition;
 import lombok.extern.log4j.Log4j2;
-import net.sourceforge.tess4j.ITesseract;
-import net.sourceforge.tess4j.Tesseract;
-import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Log4j2
 @Service
 public class OcrExtractService {
 
-    // Step 1: Run OCR and return extracted text
-    public String extractTextFromScannedPdf(byte[] pdfBytes,String password) throws Exception {
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
-            PDFRenderer pdfRenderer = new PDFRenderer(document);
+    private final TesseractEnginePool enginePool;
+    private final boolean adaptiveRender;
+    private final int baseDpi;
+    private final int maxDpi;
+    private final ImageType renderImageType;
+    private final int confidenceThreshold;
+
+    public OcrExtractService(TesseractEnginePool enginePool,
+                             @Value("${ocr.render.mode:adaptive}") String renderMode,
+                             @Value("${ocr.render.base-dpi:300}") int baseDpi,
+                             @Value("${ocr.render.max-dpi:500}") int maxDpi,
+                             @Value("${ocr.render.image-type:GRAY}") ImageType renderImageType,
+                             @Value("${ocr.confidence.threshold:70}") int confidenceThreshold) {
+        this.enginePool = enginePool;
+        this.adaptiveRender = "adaptive".equalsIgnoreCase(renderMode);
+        this.baseDpi = baseDpi;
+        this.maxDpi = maxDpi;
+        this.renderImageType = renderImageType;
+        this.confidenceThreshold = confidenceThreshold;
+    }
+
+    // Step 1: Run OCR on every page and return extracted text (pages are cached
+    // on the context, so no stage ever OCRs the same page twice)
+    public String extractTextFromScannedPdf(PdfDocumentContext context) throws Exception {
+        List<Integer> allPages = IntStream.rangeClosed(1, context.getPageCount()).boxed().toList();
+
+        StringBuilder fullText = new StringBuilder();
+        for (String pageText : ocrPages(context, allPages)) {
+            fullText.append(pageText).append("\n");
+        }
+        return fullText.toString();
+    }
+
+    // ===========================================================
+    // 🔹 Hybrid text: text layer where present, OCR only where needed
+    // ===========================================================
+    /**
+     * Whole-document text in page order, taking text pages from the PDF text
+     * layer and OCRing only the image-only pages. For a fully scanned PDF
+     * this is the same as {@link #extractTextFromScannedPdf}.
+     */
+    public String extractHybridText(PdfDocumentContext context) throws Exception {
+        List<Integer> imagePages = context.getImageOnlyPages();
+        if (imagePages.isEmpty()) {
+            return context.getFullText();
+        }
+
+        log.info("🧩 Hybrid extraction — OCR on {} image-only page(s) {}, text layer for the other {}",
+                imagePages.size(), imagePages, context.getPageCount() - imagePages.size());
+        List<String> ocrTexts = ocrPages(context, imagePages);
+
+        StringBuilder merged = new StringBuilder();
+        int next = 0;
+        for (int page = 1; page <= context.getPageCount(); page++) {
+            if (next < imagePages.size() && imagePages.get(next) == page) {
+                merged.append(ocrTexts.get(next++)).append("\n");
+            } else {
+                merged.append(context.getPageText(page));
+            }
+        }
+        return merged.toString();
+    }
+
+    // ===========================================================
+    // 🔹 Adaptive-resolution OCR
+    // ===========================================================
+    /**
+     * OCR text of the given 1-based pages, in the given order. Pages already
+     * OCR'd for this document are reused.
+     * <p>
+     * Adaptive mode (default) renders pages at {@code ocr.render.base-dpi}
+     * in grayscale — roughly a tenth of the memory of a 500 DPI ARGB page — and
+     * re-renders at {@code ocr.render.max-dpi} only the pages whose mean word
+     * confidence is below {@code ocr.confidence.threshold}, keeping whichever
+     * pass scored higher. Fixed mode renders every page once at max DPI in RGB.
+     */
+    public List<String> ocrPages(PdfDocumentContext context, List<Integer> pageNumbers) throws Exception {
+        List<Integer> pending = pageNumbers.stream()
+                .filter(page -> context.getOcrPageText(page) == null)
+                .toList();
+
+        if (!pending.isEmpty()) {
+            List<Recognition> results = recognise(new PDFRenderer(context.getDocument()), pending,
+                    context.getProgressListener(), context.getStageRecorder());
+            for (int i = 0; i < pending.size(); i++) {
+                context.setOcrPageText(pending.get(i), results.get(i).text());
+            }
+        }
+
+        return pageNumbers.stream().map(context::getOcrPageText).toList();
+    }
+
+    private List<Recognition> recognise(PDFRenderer pdfRenderer, List<Integer> pageNumbers,
+                                        ExtractionProgressListener progress, StageRecorder stages) throws Exception {
+        if (!adaptiveRender) {
+            return recognisePages(pdfRenderer, pageNumbers, maxDpi, ImageType.RGB, progress, stages);
+        }
 
-            ITesseract tesseract = new Tesseract();
-            tesseract.setDatapath("E:/PdfExtract/PdfToExcel/PdfToExcel/src/main/java/com/ExcelImport/PdfToExcel/tessdata");
-            tesseract.setLanguage("eng");
+        List<Recognition> results = new ArrayList<>(recognisePages(pdfRenderer, pageNumbers, baseDpi, renderImageType, progress, stages));
 
-            StringBuilder fullText = new StringBuilder();
+        List<Integer> lowConfidence = IntStream.range(0, results.size())
+                .filter(i -> results.get(i).meanConfidence() < confidenceThreshold)
+                .boxed()
+                .toList();
 
-            for (int page = 0; page < document.getNumberOfPages(); ++page) {
-                BufferedImage image = pdfRenderer.renderImageWithDPI(page, 500);
-                String extractedText = tesseract.doOCR(image);
-                fullText.append(extractedText).append("\n");
+        if (!lowConfidence.isEmpty() && maxDpi > baseDpi) {
+            log.info("🔁 {} of {} pages below {}% OCR confidence at {} DPI — re-rendering at {} DPI",
+                    lowConfidence.size(), pageNumbers.size(), confidenceThreshold, baseDpi, maxDpi);
+
+            List<Integer> retryPages = lowConfidence.stream().map(pageNumbers::get).toList();
+            List<Recognition> sharper = recognisePages(pdfRenderer, retryPages, maxDpi, renderImageType, progress, stages);
+            for (int i = 0; i < lowConfidence.size(); i++) {
+                int position = lowConfidence.get(i);
+                if (sharper.get(i).meanConfidence() >= results.get(position).meanConfidence()) {
+                    results.set(position, sharper.get(i));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Page-parallel OCR pipeline: renders the given pages in order on the
+     * calling thread (PDFBox rendering is not thread-safe per document) while
+     * pooled engines recognise earlier pages. At most one rendered image per
+     * engine is in flight, which bounds heap. Results follow the input order.
+     */
+    private List<Recognition> recognisePages(PDFRenderer pdfRenderer, List<Integer> pageNumbers, int dpi,
+                                             ImageType imageType, ExtractionProgressListener progress,
+                                             StageRecorder stages) throws Exception {
+        Semaphore inFlight = new Semaphore(enginePool.size());
+        List<Future<Recognition>> pages = new ArrayList<>(pageNumbers.size());
+        AtomicInteger recognised = new AtomicInteger();
+        Runnable onPageDone = () -> {
+            inFlight.release();
+            progress.onPageProgress(recognised.incrementAndGet(), pageNumbers.size());
+        };
+
+        try {
+            for (int page : pageNumbers) {
+                inFlight.acquire();
+                BufferedImage image;
+                try {
+                    image = stages.time(StageRecorder.OCR_RENDER, () -> pdfRenderer.renderImageWithDPI(page - 1, dpi, imageType));
+                } catch (Exception e) {
+                    inFlight.release();
+                    throw e;
+                }
+                pages.add(enginePool.submit(image, onPageDone));
             }
 
-            return fullText.toString();
+            List<Recognition> results = new ArrayList<>(pageNumbers.size());
+            for (Future<Recognition> page : pages) {
+                Recognition recognition = page.get();
+                stages.record(StageRecorder.OCR_RECOGNITION, recognition.recognitionNanos(),
+                        recognition.text().isBlank() ? StageRecorder.EMPTY : StageRecorder.SUCCESS);
+                results.add(recognition);
+            }
+            log.info("🔤 OCR completed for {} pages at {} DPI on {} engines", pageNumbers.size(), dpi, enginePool.size());
+            return results;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            pages.forEach(page -> page.cancel(true));
         }
     }
 
     // ===========================================================
 // 🔹 Universal Parser – Handles Text or OCR Extracted PDFs
 // ===========================================================
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+    private static final Pattern LEADING_DATE = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+    private static final Pattern BLOCK_DATE = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})");
+    private static final Pattern CHEQUE_WORDS = Pattern.compile("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b");
+    private static final Pattern TIME = Pattern.compile("\\b\\d{1,2}:\\d{2}:\\d{2}\\b");
+    private static final Pattern BLOCK_AMOUNT = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
+    private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
+    private static final Pattern TRAILING_AMOUNTS = Pattern.compile("(\\s*-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     public List<TransactionDTO> ocrBasedTransactions(String text) {
         List<TransactionDTO> transactions = new ArrayList<>();
         if (text == null || text.trim().isEmpty()) {
@@ -55,8 +217,7 @@ public class OcrExtractService {
             return transactions;
         }
 
-        String[] lines = text.split("\\r?\\n");
-        Pattern datePattern = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+        String[] lines = LINE_BREAK.split(text);
 
         List<String> headers = null;
         StringBuilder currentBlock = new StringBuilder();
@@ -67,45 +228,23 @@ public class OcrExtractService {
             String line = rawLine.trim();
             if (line.isEmpty()) continue;
 
+            long kinds = StatementLineRules.OCR.match(line);
+
             // Detect header
-            String lower = line.toLowerCase();
-            if (headers == null && (lower.contains("date") &&
-                    (lower.contains("cheque") || lower.contains("chq.no") || lower.contains("mode") ||
-                            lower.contains("particular")||lower.contains("particulars") || lower.contains("description")))) {
+            if (headers == null && StatementLineRules.OCR.fired(kinds, Kind.HEADER)) {
                 headers = splitRowIntoCells(line);
                 log.info("🧭 Detected header columns: {}", headers);
                 continue;
             }
 
-            // Skip obvious summary/header lines
-            if (lower.matches(".*(opening balance|closing balance|account summary|page no|statement|total|grand total|cheque|mode).*")) {
-                continue;
-            }
-
-            // ❌ Skip known footer/legend/summary sections
-            if (lower.contains("legends for transactions")
-                    || lower.contains("sincerely,")
-                    || lower.contains("team icici")
-                    || lower.contains("summary of account")
-                    || lower.contains("category of service")
-                    || lower.contains("regd address")
-                    || lower.contains("page total")
-                    || lower.contains("this is a system-generated")
-                    || lower.contains("your details with us")
-                    || lower.contains("your base branch")
-                    || lower.contains("registration no")
-                    || lower.contains("page ")
-                    || lower.contains("total ")
-                    || lower.contains("statement of transactions")
-                    || lower.contains("vat/mat/nfs - cash withdrawal")
-                    || lower.contains("eba - transaction on icici direct")
-                    || lower.contains("vps/ips - debit card transaction")
-                    || lower.contains("top - mobile recharge")) {
+            // Skip obvious summary/header lines and known footer/legend/summary sections
+            if (StatementLineRules.OCR.fired(kinds, Kind.SUMMARY)
+                    || StatementLineRules.OCR.fired(kinds, Kind.FOOTER)) {
                 continue; // skip these lines completely
             }
 
 
-            Matcher matcher = datePattern.matcher(line);
+            Matcher matcher = LEADING_DATE.matcher(line);
             if (matcher.find()) {
                 // New transaction starts
                 if (currentBlock.length() > 0) {
@@ -172,25 +311,25 @@ public class OcrExtractService {
         TransactionDTO dto = new TransactionDTO();
 
         // 1️⃣ Extract and remove first date (main transaction date)
-        Matcher dateMatcher = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})").matcher(block);
+        Matcher dateMatcher = BLOCK_DATE.matcher(block);
         if (dateMatcher.find()) {
             String firstDate = dateMatcher.group(1);
             dto.setTransactionDate(firstDate);
-            block = block.replaceFirst(Pattern.quote(firstDate), " ");
+            // the first match is the first occurrence of its text
+            block = block.substring(0, dateMatcher.start()) + " " + block.substring(dateMatcher.end());
         }
 
         // 2️⃣ Remove cheque-related or header-like words
-        block = block.replaceAll("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b", " ");
-        block = block.replaceAll("\\b\\d{1,2}:\\d{2}:\\d{2}\\b", " "); // remove time like 13:45:21
-        block = block.replaceAll("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})", " "); // remove remaining dates
+        block = CHEQUE_WORDS.matcher(block).replaceAll(" ");
+        block = TIME.matcher(block).replaceAll(" "); // remove time like 13:45:21
+        block = BLOCK_DATE.matcher(block).replaceAll(" "); // remove remaining dates
 
         // 3️⃣ Extract all valid monetary amounts (₹-like patterns)
-        Pattern amountPattern = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
-        Matcher amtMatcher = amountPattern.matcher(block);
+        Matcher amtMatcher = BLOCK_AMOUNT.matcher(block);
         List<String> amounts = new ArrayList<>();
         while (amtMatcher.find()) {
             String amt = amtMatcher.group(1).trim();
-            String digitsOnly = amt.replaceAll("[^0-9]", "");
+            String digitsOnly = NON_DIGIT.matcher(amt).replaceAll("");
             if (amt.contains(",") || amt.contains(".") || digitsOnly.length() >= 4)
                 amounts.add(amt);
         }
@@ -216,13 +355,10 @@ public class OcrExtractService {
 
         // 🧹 STEP: Clean up extra numeric columns at end of line (debit/credit/balance)
 // Removes up to last 3 numbers like 1,00,000.00 or -7,445.00 at the end
-        String cleanedBlock = block.replaceAll(
-                "(\\s*-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$",
-                ""
-        ).trim();
+        String cleanedBlock = TRAILING_AMOUNTS.matcher(block).replaceAll("").trim();
 
 // 🧹 Also remove any lingering multiple spaces
-        cleanedBlock = cleanedBlock.replaceAll("\\s+", " ").trim();
+        cleanedBlock = WHITESPACE.matcher(cleanedBlock).replaceAll(" ").trim();
 
 // ✅ Log before & after cleaning (for debugging)
         log.info("🧾 Before clean: {}", block);
@@ -339,7 +475,7 @@ public class OcrExtractService {
                     }
 
                 } catch (Exception e) {
-                    System.out.println("⚠️ Error parsing line: " + line);
+                    log.debug("⚠️ Error parsing line: {}", line);
                 }
 
                 allTransactionAmounts.add(amounts);
@@ -374,13 +510,13 @@ public class OcrExtractService {
                 if (i == 0 && amounts.size() >= 2) {
                     tx.setCredit(amounts.get(0));
                 } else if (previousBalance != null) {
-                    double prev = Double.parseDouble(previousBalance.replaceAll(",", ""));
-                    double curr = Double.parseDouble(balance.replaceAll(",", ""));
+                    long prev = Money.paiseOf(previousBalance);
+                    long curr = Money.paiseOf(balance);
 
                     if (curr > prev) {
-                        tx.setCredit(String.format("%.2f", curr - prev));
+                        tx.setCredit(Money.toPlainString(curr - prev));
                     } else if (curr < prev) {
-                        tx.setDebit(String.format("%.2f", prev - curr));
+                        tx.setDebit(Money.toPlainString(prev - curr));
                     }
                 }
                 previousBalance = balance;
@@ -404,30 +540,22 @@ public class OcrExtractService {
     private static final Pattern AMOUNT_PATTERN = Pattern.compile("(-|\\d[\\d,]*\\.\\d{2})");
     private static final Pattern DATE_PATTERN = Pattern.compile("\\d{2} [A-Za-z]{3} \\d{4}");
 
-    public List<TransactionDTO> extractTransactions(byte[] pdfBytes) throws Exception {
+    public List<TransactionDTO> extractTransactions(PdfDocumentContext context) throws Exception {
         List<TransactionDTO> transactions = new ArrayList<>();
+        String text = context.getFullText();
 
-        try (PDDocument document = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
-            String text = stripper.getText(document);
-
-            System.out.println("=== RAW PDF TEXT ===");
-            System.out.println(text);
-            System.out.println("=== END RAW TEXT ===");
-
-            String[] lines = text.split("\\r?\\n");
-            List<String> transactionBlocks = reconstructTransactionBlocks(lines);
-
-            for (String block : transactionBlocks) {
-                System.out.println("Processing block: " + block);
-                TransactionDTO dto = parseTransactionBlock(block);
-                if (dto != null) {
-                    transactions.add(dto);
-                    System.out.println("Successfully extracted: " + dto.getTransactionDate() + " | " +
-                            dto.getDescription() + " | Debit: " + dto.getDebit() + " | Credit: " +
-                            dto.getCredit() + " | Balance: " + dto.getBalance());
-                }
+        log.debug("=== RAW PDF TEXT ===\n{}\n=== END RAW TEXT ===", text);
+
+        String[] lines = text.split("\\r?\\n");
+        List<String> transactionBlocks = reconstructTransactionBlocks(lines);
+
+        for (String block : transactionBlocks) {
+            log.debug("Processing block: {}", block);
+            TransactionDTO dto = parseTransactionBlock(block);
+            if (dto != null) {
+                transactions.add(dto);
+                log.debug("Successfully extracted: {} | {} | Debit: {} | Credit: {} | Balance: {}",
+                        dto.getTransactionDate(), dto.getDescription(), dto.getDebit(), dto.getCredit(), dto.getBalance());
             }
         }
 
@@ -502,17 +630,17 @@ public class OcrExtractService {
 
     private TransactionDTO parseTransactionBlock(String block) {
         try {
-            System.out.println("Parsing block: " + block);
+            log.debug("Parsing block: {}", block);
 
             // Check if this is an interest transaction first
             boolean isInterestTransaction = block.contains("Int.Pd") || block.contains("Int.Pd:");
 
             // Extract all amounts from the block
             List<String> allAmounts = extractAllAmounts(block);
-            System.out.println("Found amounts: " + allAmounts);
+            log.debug("Found amounts: {}", allAmounts);
 
             if (allAmounts.size() < 3) {
-                System.out.println("Not enough amounts found. Expected 3, found: " + allAmounts.size());
+                log.debug("Not enough amounts found. Expected 3, found: {}", allAmounts.size());
                 return null;
             }
 
@@ -523,7 +651,7 @@ public class OcrExtractService {
             // Extract date
             String date = extractDate(blockWithoutType);
             if (date == null) {
-                System.out.println("Could not extract date from: " + blockWithoutType);
+                log.debug("Could not extract date from: {}", blockWithoutType);
                 return null;
             }
 
@@ -539,8 +667,7 @@ public class OcrExtractService {
             }
 
         } catch (Exception e) {
-            System.out.println("Error parsing block: " + block + " - " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Error parsing block: {} - {}", block, e.getMessage(), e);
             return null;
         }
     }
@@ -576,7 +703,7 @@ public class OcrExtractService {
 
     private TransactionDTO handleInterestTransaction(String originalBlock, String date,
                                                                  List<String> allAmounts) {
-        System.out.println("Processing interest transaction: " + originalBlock);
+        log.debug("Processing interest transaction: {}", originalBlock);
 
         // For interest transactions, we need to be very careful with amount extraction
         // Based on the statement pattern, interest credit is 3086.00 and balance is 95996.47
@@ -589,10 +716,10 @@ public class OcrExtractService {
         for (String amount : allAmounts) {
             String cleanAmt = cleanAmount(amount);
             if (!cleanAmt.equals("-")) {
-                double amtValue = Double.parseDouble(cleanAmt);
-                if (amtValue >= 3000 && amtValue <= 4000) {
+                long amtValue = Money.paiseOf(cleanAmt);
+                if (amtValue >= 3000_00 && amtValue <= 4000_00) {
                     credit = cleanAmt; // This is the interest amount (3086.00)
-                } else if (amtValue >= 95000 && amtValue <= 97000) {
+                } else if (amtValue >= 95000_00 && amtValue <= 97000_00) {
                     balance = cleanAmt; // This is the balance (95996.47)
                 }
             }
@@ -617,7 +744,7 @@ public class OcrExtractService {
         dto.setBalance(balance);
         dto.setVoucherType("Receipt"); // Interest is always a receipt
 
-        System.out.println("Interest transaction - Credit: " + credit + ", Balance: " + balance);
+        log.debug("Interest transaction - Credit: {}, Balance: {}", credit, balance);
         return dto;
     }
 
@@ -626,7 +753,7 @@ public class OcrExtractService {
         // Start with the original block
         String description = originalBlock;
 
-        System.out.println("Original block for interest: " + originalBlock);
+        log.debug("Original block for interest: {}", originalBlock);
 
         // Remove the transaction date
         description = description.replaceFirst(Pattern.quote(date), "");
@@ -668,12 +795,12 @@ public class OcrExtractService {
                 .replaceAll("^\\s*\\-\\s*|\\s*\\-\\s*$", "")
                 .trim();
 
-        System.out.println("Description before date fix: " + description);
+        log.debug("Description before date fix: {}", description);
 
         // Now fix the corrupted date formats in the interest description
         description = fixInterestDescriptionDates(description);
 
-        System.out.println("Description after date fix: " + description);
+        log.debug("Description after date fix: {}", description);
 
         return description.isEmpty() ? "Interest Payment" : description;
     }
@@ -734,7 +861,7 @@ public class OcrExtractService {
     private String[] validateAndCorrectAmounts(String type, String debit, String credit, String balance) {
         // If both debit and credit have values, correct based on transaction type
         if (!debit.equals("-") && !credit.equals("-")) {
-            System.out.println("Both debit and credit have values. Correcting based on type: " + type);
+            log.debug("Both debit and credit have values. Correcting based on type: {}", type);
             if (type.toLowerCase().contains("credit")) {
                 debit = "-";
             } else if (type.toLowerCase().contains("debit")) {
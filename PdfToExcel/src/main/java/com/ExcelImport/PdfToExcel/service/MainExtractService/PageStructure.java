@@ -0,0 +1,83 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import java.io.IOException;
+
+/**
+ * What a page is built from, read from its resources without rendering or
+ * extracting text: images and fonts, also inside nested form XObjects.
+ * Page routing ({@link PdfDocumentContext#getImageOnlyPages}) and the
+ * admission estimate share these checks, so they agree on what a page holds.
+ */
+public final class PageStructure {
+
+    /**
+     * Form XObjects nested deeper than this are not looked into.
+     */
+    public static final int MAX_FORM_DEPTH = 3;
+
+    private PageStructure() {
+    }
+
+    public static boolean hasImage(PDPage page) throws IOException {
+        return hasImage(page.getResources(), 0);
+    }
+
+    public static boolean hasFonts(PDPage page) throws IOException {
+        return hasFonts(page.getResources(), 0);
+    }
+
+    /**
+     * An image and no fonts: nothing a text layer could come from. The
+     * admission estimate prices these pages as OCR before any text is stripped.
+     */
+    public static boolean isScanned(PDPage page) throws IOException {
+        return !hasFonts(page) && hasImage(page);
+    }
+
+    /**
+     * Media box area in points².
+     */
+    public static double area(PDPage page) {
+        PDRectangle box = page.getMediaBox();
+        return box.getWidth() * box.getHeight();
+    }
+
+    private static boolean hasImage(PDResources resources, int depth) throws IOException {
+        if (resources == null || depth > MAX_FORM_DEPTH) {
+            return false;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDImageXObject) {
+                return true;
+            }
+            if (xObject instanceof PDFormXObject form && hasImage(form.getResources(), depth + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasFonts(PDResources resources, int depth) throws IOException {
+        if (resources == null || depth > MAX_FORM_DEPTH) {
+            return false;
+        }
+        if (resources.getFontNames().iterator().hasNext()) {
+            return true;
+        }
+        for (COSName name : resources.getXObjectNames()) {
+            if (resources.getXObject(name) instanceof PDFormXObject form && hasFonts(form.getResources(), depth + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
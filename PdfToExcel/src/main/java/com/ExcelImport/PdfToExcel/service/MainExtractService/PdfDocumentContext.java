@@ -0,0 +1,221 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import technology.tabula.ObjectExtractor;
+import technology.tabula.Table;
+import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Request-scoped view of one uploaded PDF.
+ * <p>
+ * The document is parsed by PDFBox once, read from the spooled upload; the sorted text of every page, the
+ * whole-document text, the text/image-only page classification, the Tabula
+ * spreadsheet tables and per-page OCR text are computed on first use and
+ * shared by the detection, Tabula, text and OCR stages.
+ * <p>
+ * A context belongs to a single extraction and is not thread-safe.
+ */
+@Log4j2
+public class PdfDocumentContext implements AutoCloseable {
+
+    private final String password;
+    private final PDDocument document;
+
+    /**
+     * Pages whose text layer is shorter than this (trimmed) and which carry an
+     * image are treated as scanned; same threshold the whole-document check used.
+     */
+    public static final int MIN_TEXT_CHARS_PER_PAGE = 50;
+
+    private List<String> pageTexts;
+    private String fullText;
+    private List<Integer> imageOnlyPages;
+    private final Map<Integer, String> ocrPageTexts = new HashMap<>();
+    private ExtractionProgressListener progressListener = ExtractionProgressListener.NONE;
+    private StageRecorder stageRecorder = StageRecorder.NONE;
+    private boolean background;
+
+    private ObjectExtractor objectExtractor;
+    private SpreadsheetExtractionAlgorithm spreadsheetAlgorithm;
+    private final Map<Integer, List<Table>> spreadsheetTables = new HashMap<>();
+
+    private PdfDocumentContext(PDDocument document, String password) {
+        this.document = document;
+        this.password = password;
+    }
+
+    // ===========================================================
+    // 🔹 Load the PDF once for the whole extraction
+    // ===========================================================
+    public static PdfDocumentContext open(PdfSource source, String password) throws IOException {
+        PDDocument document = source.load(password);
+        log.info("📂 PDF loaded once for extraction — {} pages", document.getNumberOfPages());
+        return new PdfDocumentContext(document, password);
+    }
+
+    public PDDocument getDocument() {
+        return document;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getPageCount() {
+        return document.getNumberOfPages();
+    }
+
+    public ExtractionProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    public void setProgressListener(ExtractionProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public StageRecorder getStageRecorder() {
+        return stageRecorder;
+    }
+
+    public void setStageRecorder(StageRecorder stageRecorder) {
+        this.stageRecorder = stageRecorder;
+    }
+
+    /**
+     * Background extraction (a batch file): the stages wait for their engine
+     * bulkheads instead of being shed.
+     */
+    public boolean isBackground() {
+        return background;
+    }
+
+    public void setBackground(boolean background) {
+        this.background = background;
+    }
+
+    /**
+     * Abort between pages once the extraction's thread has been interrupted
+     * (e.g. a cancelled job).
+     */
+    public void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Extraction cancelled");
+        }
+    }
+
+    /**
+     * Sorted text of every page (index 0 = page 1), stripped once.
+     */
+    public List<String> getPageTexts() throws IOException {
+        if (pageTexts == null) {
+            pageTexts = stageRecorder.time(StageRecorder.TEXT_STRIP, () -> {
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setSortByPosition(true);
+
+                List<String> texts = new ArrayList<>(getPageCount());
+                for (int page = 1; page <= getPageCount(); page++) {
+                    checkCancelled();
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    texts.add(stripper.getText(document));
+                    progressListener.onPageProgress(page, getPageCount());
+                }
+                return Collections.unmodifiableList(texts);
+            });
+        }
+        return pageTexts;
+    }
+
+    /**
+     * Text of a single page, 1-based like PDFTextStripper and Tabula.
+     */
+    public String getPageText(int pageNumber) throws IOException {
+        return getPageTexts().get(pageNumber - 1);
+    }
+
+    /**
+     * Whole-document text; the stripper emits no page separators, so this is
+     * the per-page text joined in page order.
+     */
+    public String getFullText() throws IOException {
+        if (fullText == null) {
+            fullText = String.join("", getPageTexts());
+        }
+        return fullText;
+    }
+
+    /**
+     * Spreadsheet (lattice) tables of a page, 1-based. Computed once per page.
+     */
+    public List<Table> getSpreadsheetTables(int pageNumber) {
+        return spreadsheetTables.computeIfAbsent(pageNumber, p -> {
+            if (objectExtractor == null) {
+                // ObjectExtractor.close() would close the shared document, so it is never closed here
+                objectExtractor = new ObjectExtractor(document);
+                spreadsheetAlgorithm = new SpreadsheetExtractionAlgorithm();
+            }
+            checkCancelled();
+            List<Table> tables = stageRecorder.time(StageRecorder.TABULA_PAGE,
+                    () -> spreadsheetAlgorithm.extract(objectExtractor.extract(p)));
+            progressListener.onPageProgress(p, getPageCount());
+            return tables;
+        });
+    }
+
+    // ===========================================================
+    // 🔹 Per-page classification (text layer vs image-only)
+    // ===========================================================
+    /**
+     * 1-based numbers of the pages that need OCR: almost no text layer but at
+     * least one image. Classified once per document.
+     */
+    public List<Integer> getImageOnlyPages() throws IOException {
+        if (imageOnlyPages == null) {
+            List<Integer> pages = new ArrayList<>();
+            for (int page = 1; page <= getPageCount(); page++) {
+                if (getPageText(page).trim().length() < MIN_TEXT_CHARS_PER_PAGE
+                        && PageStructure.hasImage(document.getPage(page - 1))) {
+                    pages.add(page);
+                }
+            }
+            imageOnlyPages = Collections.unmodifiableList(pages);
+            log.info("🗂️ Page classification → {} text page(s), {} image-only page(s)",
+                    getPageCount() - pages.size(), pages.size());
+        }
+        return imageOnlyPages;
+    }
+
+    public boolean isImageOnlyPage(int pageNumber) throws IOException {
+        return getImageOnlyPages().contains(pageNumber);
+    }
+
+    public boolean hasTextPages() throws IOException {
+        return getImageOnlyPages().size() < getPageCount();
+    }
+
+    /**
+     * OCR text of a page (1-based), or null if it has not been OCR'd yet.
+     */
+    public String getOcrPageText(int pageNumber) {
+        return ocrPageTexts.get(pageNumber);
+    }
+
+    public void setOcrPageText(int pageNumber, String text) {
+        ocrPageTexts.put(pageNumber, text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        document.close();
+    }
+}
@@ -0,0 +1,222 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.ScratchFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * One uploaded PDF, spooled to a temp file instead of held as a byte array.
+ * <p>
+ * {@link #load} opens it with a mixed {@link MemoryUsageSetting}: decoded
+ * streams use at most {@code pdf.scratch.max-main-memory-mb} of heap and
+ * spill to scratch files beyond that, so memory per request stays bounded
+ * whatever the file size. How the file itself is read depends on
+ * {@code pdf.load.mode}:
+ * <ul>
+ *   <li>{@code MAPPED} — the file is mapped once ({@link FileChannel#map}) and
+ *   every reader of this source (cache key hashing, the PDFBox parser) reads
+ *   through a view of that one mapping, served by the OS page cache;</li>
+ *   <li>{@code FILE} — PDFBox's buffered file-backed reader.</li>
+ * </ul>
+ * Created by {@link PdfSpooler}; closing unmaps the file (once no reader is
+ * open on it — an open mapping blocks the delete on Windows) and deletes it.
+ * A file that still cannot be deleted is left to {@code deleteOnExit}.
+ */
+@Log4j2
+public final class PdfSource implements AutoCloseable {
+
+    public enum LoadMode {
+        FILE, MAPPED
+    }
+
+    private final Path file;
+    private final boolean owned;
+    private final LoadMode loadMode;
+    private final long maxMainMemoryBytes;
+    private final Path scratchDir;
+    private MappedByteBuffer mapping;
+    private int openViews;
+    private String sha256;
+
+    PdfSource(Path file, boolean owned, LoadMode loadMode, long maxMainMemoryBytes, Path scratchDir) {
+        this.file = file;
+        this.owned = owned;
+        this.loadMode = loadMode;
+        this.maxMainMemoryBytes = maxMainMemoryBytes;
+        this.scratchDir = scratchDir;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long size() throws IOException {
+        return Files.size(file);
+    }
+
+    /**
+     * SHA-256 of the file (hex), hashed on first use; admission and the
+     * extraction look up the result cache with the same digest.
+     */
+    public synchronized String sha256() throws IOException {
+        if (sha256 == null) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+            try (InputStream in = openStream()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            sha256 = HexFormat.of().formatHex(digest.digest());
+        }
+        return sha256;
+    }
+
+    public InputStream openStream() throws IOException {
+        if (isMapped()) {
+            return new ByteBufferInputStream(openView(), this::closeView);
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    // ===========================================================
+    // 🔹 Disk-backed load with bounded scratch memory
+    // ===========================================================
+    public PDDocument load(String password) throws IOException {
+        String decryptionPassword = password == null ? "" : password;
+        MemoryUsageSetting memory = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+        if (scratchDir != null) {
+            memory.setTempDir(scratchDir.toFile());
+        }
+
+        if (!isMapped()) {
+            return PDDocument.load(file.toFile(), decryptionPassword, memory);
+        }
+
+        // same steps as PDDocument.load(File, ...), with the mapped reader as source;
+        // the document closes the reader when it is closed
+        RandomAccessRead source = new MappedRandomAccessRead(openView(), this::closeView);
+        ScratchFile scratchFile = new ScratchFile(memory);
+        try {
+            PDFParser parser = new PDFParser(source, decryptionPassword, null, null, scratchFile);
+            parser.parse();
+            return parser.getPDDocument();
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(scratchFile);
+            IOUtils.closeQuietly(source);
+            throw e;
+        }
+    }
+
+    /**
+     * Files too large for one mapping (over 2 GB) fall back to file mode.
+     */
+    private boolean isMapped() throws IOException {
+        return loadMode == LoadMode.MAPPED && size() <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * View of the mapping for one reader; the reader hands it back on close.
+     */
+    private synchronized ByteBuffer openView() throws IOException {
+        if (mapping == null) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        openViews++;
+        return mapping.duplicate();
+    }
+
+    private synchronized void closeView() {
+        openViews--;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mapping != null) {
+            if (openViews == 0) {
+                MappedBuffers.unmap(mapping);
+            } else {
+                // unmapping under a live reader would crash it; the GC releases the mapping later
+                log.warn("⚠️ {} reader(s) still open on {} — mapping left to the GC", openViews, file);
+            }
+            mapping = null;
+        }
+        if (!owned) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ Could not delete spooled PDF {} ({}) — deleting on exit", file, e.getMessage());
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Sequential stream over a view of the mapping (used for hashing).
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+        private final Runnable onClose;
+        private boolean closed;
+
+        private ByteBufferInputStream(ByteBuffer buffer, Runnable onClose) {
+            this.buffer = buffer;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(b, offset, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                onClose.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Spools uploads to temp files once per request and hands out
+ * {@link PdfSource}s that PDFBox reads from disk ({@code pdf.load.mode}:
+ * {@code FILE}, the default, or {@code MAPPED}).
+ * <p>
+ * {@code pdf.spool.dir} holds spooled uploads and PDFBox scratch files
+ * (empty = system temp dir); {@code pdf.scratch.max-main-memory-mb} caps the
+ * heap PDFBox may use per open document before spilling to scratch.
+ */
+@Log4j2
+@Component
+public class PdfSpooler {
+
+    private final Path spoolDir;
+    private final long maxMainMemoryBytes;
+    private final PdfSource.LoadMode loadMode;
+
+    public PdfSpooler(@Value("${pdf.spool.dir:}") String spoolDir,
+                      @Value("${pdf.scratch.max-main-memory-mb:16}") long maxMainMemoryMb,
+                      @Value("${pdf.load.mode:FILE}") PdfSource.LoadMode loadMode) throws IOException {
+        this.spoolDir = spoolDir.isBlank() ? null : Files.createDirectories(Path.of(spoolDir));
+        this.maxMainMemoryBytes = maxMainMemoryMb * 1024 * 1024;
+        this.loadMode = loadMode;
+        log.info("📁 PDF spooling ready — dir: {}, load mode: {}, PDFBox heap per document: {} MB",
+                this.spoolDir != null ? this.spoolDir : "system temp", loadMode, maxMainMemoryMb);
+    }
+
+    // ===========================================================
+    // 🔹 Upload → temp file (the servlet container moves/copies on disk, no heap copy)
+    // ===========================================================
+    public PdfSource spool(MultipartFile file) throws IOException {
+        Path target = createSpoolFile();
+        try {
+            file.transferTo(target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new PdfSource(target, true, loadMode, maxMainMemoryBytes, spoolDir);
+    }
+
+    public PdfSource spool(InputStream in) throws IOException {
+        Path target = createSpoolFile();
+        try {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        return new PdfSource(target, true, loadMode, maxMainMemoryBytes, spoolDir);
+    }
+
+    /**
+     * Source over a file someone else owns (e.g. a batch spool); closing it
+     * leaves the file in place.
+     */
+    public PdfSource wrap(Path file) {
+        return new PdfSource(file, false, loadMode, maxMainMemoryBytes, spoolDir);
+    }
+
+    private Path createSpoolFile() throws IOException {
+        return spoolDir != null
+                ? Files.createTempFile(spoolDir, "pdf-upload-", ".pdf")
+                : Files.createTempFile("pdf-upload-", ".pdf");
+    }
+}
@@ -0,0 +1,50 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+/**
+ * Balance of the previous transaction while parsing one statement, used to
+ * infer whether a row without explicit debit/credit columns was a receipt or
+ * a payment.
+ * <p>
+ * One instance per document parse, never shared: it is deliberately not
+ * thread-safe and must not outlive the statement it was created for.
+ */
+public final class RunningBalance {
+
+    /**
+     * Which way the balance moved from the previous row.
+     */
+    public enum Movement {
+        CREDIT, DEBIT, UNCHANGED, UNKNOWN
+    }
+
+    private boolean known;
+    private long lastPaise;
+
+    /**
+     * Compare {@code balancePaise} with the previous row's balance and remember
+     * it for the next row; the first row of a statement is {@link Movement#UNKNOWN}.
+     */
+    public Movement advance(long balancePaise) {
+        Movement movement;
+        if (!known) {
+            movement = Movement.UNKNOWN;
+        } else if (balancePaise > lastPaise) {
+            movement = Movement.CREDIT;
+        } else if (balancePaise < lastPaise) {
+            movement = Movement.DEBIT;
+        } else {
+            movement = Movement.UNCHANGED;
+        }
+        reset(balancePaise);
+        return movement;
+    }
+
+    /**
+     * Take {@code balancePaise} as the previous row's balance without
+     * comparing, e.g. when the row stated its debit/credit explicitly.
+     */
+    public void reset(long balancePaise) {
+        this.lastPaise = balancePaise;
+        this.known = true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import java.util.Collection;
+
+/**
+ * Receives how long each stage of one extraction took (PDF load, detection,
+ * Tabula pages, text stripping, parsing, OCR render/recognition) and how it
+ * ended. One recorder is shared by all stages of a document.
+ */
+public interface StageRecorder {
+
+    String PDF_LOAD = "pdf_load";
+    String DIGITAL_DETECTION = "digital_detection";
+    String TABLE_DETECTION = "table_detection";
+    String TABULA_PAGE = "tabula_page";
+    String TEXT_STRIP = "text_strip";
+    String REGEX_PARSE = "regex_parse";
+    String OCR_RENDER = "ocr_render";
+    String OCR_RECOGNITION = "ocr_recognition";
+    String EXCEL_WRITE = "excel_write";
+    String TALLY_WRITE = "tally_write";
+
+    String SUCCESS = "success";
+    String EMPTY = "empty";
+    String ERROR = "error";
+
+    StageRecorder NONE = new StageRecorder() {
+    };
+
+    /**
+     * Work timed as one stage.
+     */
+    @FunctionalInterface
+    interface StageWork<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    default void record(String stage, long nanos, String outcome) {
+    }
+
+    /**
+     * Route the following stages belong to (table, text, ocr).
+     */
+    default void setRoute(String route) {
+    }
+
+    /**
+     * Run {@code work} as {@code stage}: an empty collection result counts as
+     * {@link #EMPTY}, an exception as {@link #ERROR}.
+     */
+    default <T, E extends Exception> T time(String stage, StageWork<T, E> work) throws E {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = work.call();
+            outcome = result instanceof Collection<?> rows && rows.isEmpty() ? EMPTY : SUCCESS;
+            return result;
+        } finally {
+            record(stage, System.nanoTime() - start, outcome);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import java.util.List;
+
+/**
+ * Line rules of the text and OCR parsers, compiled once and shared.
+ * Keyword lists are the ones each parser used to check line by line.
+ */
+public final class StatementLineRules {
+
+    /**
+     * Generic header/footer/disclaimer lines dropped from stripped text.
+     */
+    public enum Noise {
+        PAGE_NUMBER, DISCLAIMER, CONTACT, BRANCH_CODE
+    }
+
+    /**
+     * What a line of a statement is, when it is not a transaction.
+     */
+    public enum Kind {
+        HEADER, SUMMARY, FOOTER, END_OF_STATEMENT
+    }
+
+    // ===========================================================
+    // 🔹 Digital text clean-up (UniverselExtractorService.extractTextFromPdf)
+    // ===========================================================
+    public static final LineClassifier<Noise> NOISE = LineClassifier.builder(Noise.class)
+            .regex(Noise.PAGE_NUMBER, "page\\s*\\d+\\s*(of)?\\s*\\d+", "page")
+            .anyOf(Noise.DISCLAIMER, "confidential", "statement generated on", "this is a system generated",
+                    "do not reply", "end of statement", "issued by")
+            .anyOf(Noise.CONTACT, "for any queries", "customer service", "www.", "http", "helpline",
+                    "contact us", "email us at")
+            .anyOf(Noise.BRANCH_CODE, "branch code")
+            .build();
+
+    // ===========================================================
+    // 🔹 Universal text / OCR parsers
+    // ===========================================================
+    private static final String[] SUMMARY = {
+            "opening balance", "closing balance", "account summary", "page no", "statement", "total",
+            "grand total", "cheque", "mode"
+    };
+
+    private static final String[] FOOTER = {
+            "legends for transactions", "sincerely,", "team icici", "summary of account", "category of service",
+            "regd address", "page total", "this is a system-generated", "your details with us", "your base branch",
+            "registration no", "page ", "total ", "statement of transactions", "vat/mat/nfs - cash withdrawal",
+            "eba - transaction on icici direct", "vps/ips - debit card transaction", "top - mobile recharge"
+    };
+
+    public static final LineClassifier<Kind> UNIVERSAL = LineClassifier.builder(Kind.class)
+            .allOf(Kind.HEADER, List.of("date"), List.of("cheque", "chq.no", "mode", "particular", "description",
+                    "transaction details"))
+            .anyOf(Kind.SUMMARY, SUMMARY)
+            .anyOf(Kind.FOOTER, FOOTER)
+            .build();
+
+    public static final LineClassifier<Kind> OCR = LineClassifier.builder(Kind.class)
+            .allOf(Kind.HEADER, List.of("date"), List.of("cheque", "chq.no", "mode", "particular", "description"))
+            .anyOf(Kind.SUMMARY, SUMMARY)
+            .anyOf(Kind.FOOTER, FOOTER)
+            .build();
+
+    // ===========================================================
+    // 🔹 Bank-specific text parsers (TextBasedExtractorService)
+    // ===========================================================
+    public static final LineClassifier<Kind> ICICI = LineClassifier.builder(Kind.class)
+            .allOf(Kind.HEADER, List.of("date"), List.of("withdrawals", "particular", "description"))
+            .anyOf(Kind.SUMMARY, SUMMARY)
+            .anyOf(Kind.FOOTER, "legends for transactions", "sincerely", "team icici", "summary of account",
+                    "category of service", "regd address", "page total", "this is a system-generated",
+                    "your details with us", "your base branch", "registration no", "statement of transactions",
+                    "vat/mat/nfs - cash withdrawal", "eba - transaction on icici direct",
+                    "vps/ips - debit card transaction", "top - mobile recharge")
+            .anyOf(Kind.END_OF_STATEMENT, "account related other information", "sincerely", "team icici",
+                    "legends for transactions", "category of service", "corporate office", "registered office",
+                    "this is an authenticated", "www.icicibank.com")
+            .build();
+
+    public static final LineClassifier<Kind> CANARA = LineClassifier.builder(Kind.class)
+            .anyOf(Kind.SUMMARY, "opening balance", "closing balance", "disclaimer", "ombudsman",
+                    "statement for a/c", "page", "end of statement")
+            .build();
+
+    public static final LineClassifier<Kind> INDIAN_BANK = LineClassifier.builder(Kind.class)
+            .anyOf(Kind.SUMMARY, "account activity", "opening balance", "closing balance", "account summary",
+                    "total", "page", "thank you", "statement")
+            .build();
+
+    private StatementLineRules() {
+    }
+}
@@ -1,17 +1,13 @@
 package com.ExcelImport.PdfToExcel.service.MainExtractService;
 
 
+import com.ExcelImport.PdfToExcel.dto.Money;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
 import lombok.extern.log4j.Log4j2;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.springframework.stereotype.Service;
-import technology.tabula.ObjectExtractor;
-import technology.tabula.Page;
 import technology.tabula.RectangularTextContainer;
 import technology.tabula.Table;
-import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
-import java.io.ByteArrayInputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
@@ -24,44 +20,49 @@ import java.util.stream.Stream;
 public class TabulaExtractorService {
 
 
-    public List<List<String>> extractTableFromPdf(byte[] pdfBytes,String password) throws Exception {
+    public List<List<String>> extractTableFromPdf(PdfDocumentContext context) throws Exception {
         List<List<String>> tableData = new ArrayList<>();
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
-            ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
-            SpreadsheetExtractionAlgorithm spreadsheet = new SpreadsheetExtractionAlgorithm();
-            //BasicExtractionAlgorithm basic = new BasicExtractionAlgorithm();
-
-            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
-                Page page = extractor.extract(i);
+        for (int i = 1; i <= context.getPageCount(); i++) {
+            tableData.addAll(extractPageRows(context, i));
+        }
 
-                // 🔹 Try spreadsheet extraction first (best for SBI, Canara, City Union)
-                List<Table> tables = spreadsheet.extract(page);
+        return tableData;
+    }
 
-//                // 🔸 Fallback: if spreadsheet fails or detects too few columns, use Basic
-//                if (tables.isEmpty() ||
-//                        tables.get(0).getRows().isEmpty() ||
-//                        tables.get(0).getRows().get(0).size() < 4) {
-//
-//                    tables = basic.extract(page);
-//                }
+    /**
+     * Non-empty, cleaned table rows of one page (1-based) — the unit the
+     * streaming endpoint maps and emits per page.
+     */
+    public List<List<String>> extractPageRows(PdfDocumentContext context, int pageNumber) {
+        List<List<String>> tableData = new ArrayList<>();
+        //BasicExtractionAlgorithm basic = new BasicExtractionAlgorithm();
 
-                for (Table table : tables) {
-                    for (List<RectangularTextContainer> row : table.getRows()) {
-                        List<String> rowData = new ArrayList<>();
-                        boolean isEmptyRow = true;
+        // 🔹 Try spreadsheet extraction first (best for SBI, Canara, City Union)
+        List<Table> tables = context.getSpreadsheetTables(pageNumber);
 
-                        for (RectangularTextContainer cell : row) {
-                            String cellText = cell.getText().trim().replaceAll("\\s+", " ");
-                            if (!cellText.isEmpty()) isEmptyRow = false;
-                            rowData.add(cellText);
-                        }
+//            // 🔸 Fallback: if spreadsheet fails or detects too few columns, use Basic
+//            if (tables.isEmpty() ||
+//                    tables.get(0).getRows().isEmpty() ||
+//                    tables.get(0).getRows().get(0).size() < 4) {
+//
+//                tables = basic.extract(page);
+//            }
+
+        for (Table table : tables) {
+            for (List<RectangularTextContainer> row : table.getRows()) {
+                List<String> rowData = new ArrayList<>();
+                boolean isEmptyRow = true;
+
+                for (RectangularTextContainer cell : row) {
+                    String cellText = cell.getText().trim().replaceAll("\\s+", " ");
+                    if (!cellText.isEmpty()) isEmptyRow = false;
+                    rowData.add(cellText);
+                }
 
-                        // ✅ Only add non-empty rows
-                        if (!isEmptyRow && !rowData.isEmpty()) {
-                            tableData.add(rowData);
-                        }
-                    }
+                // ✅ Only add non-empty rows
+                if (!isEmptyRow && !rowData.isEmpty()) {
+                    tableData.add(rowData);
                 }
             }
         }
@@ -220,9 +221,17 @@ public class TabulaExtractorService {
     //City_Union Bank Extraction
 
     public List<TransactionDTO> cityUnionBankMapDto(List<List<String>> tableRows){
+        return cityUnionBankMapDto(tableRows, true);
+    }
+
+    /**
+     * @param skipFirstRow true for the rows that start the statement (headings);
+     *                     false for later pages mapped separately when streaming
+     */
+    public List<TransactionDTO> cityUnionBankMapDto(List<List<String>> tableRows, boolean skipFirstRow){
         List<TransactionDTO> transactionDTOS = new ArrayList<>();
 
-        boolean isFirstRow = true;
+        boolean isFirstRow = skipFirstRow;
 
         for (List<String> row : tableRows){
 
@@ -334,61 +343,66 @@ public class TabulaExtractorService {
 
     //Federal Bank Extraction
 
-    public List<List<String>> extractTableFederal(byte[] pdfBytes,String password) throws Exception {
+    public List<List<String>> extractTableFederal(PdfDocumentContext context) throws Exception {
         List<List<String>> tableData = new ArrayList<>();
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes),password)) {
-            ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
-            SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
+        for (int i = 1; i <= context.getPageCount(); i++) {
+            tableData.addAll(extractFederalPageRows(context, i));
+        }
 
-            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
-                Page page = extractor.extract(i);
-                List<Table> tables = sea.extract(page);
+        return tableData;
+    }
 
-                for (Table table : tables) {
-                    for (List<RectangularTextContainer> row : table.getRows()) {
+    /**
+     * Federal table rows of one page (1-based), headers/footers/legend removed.
+     */
+    public List<List<String>> extractFederalPageRows(PdfDocumentContext context, int pageNumber) {
+        List<List<String>> tableData = new ArrayList<>();
 
-                        // Clean cell text
-                        List<String> rowData = new ArrayList<>();
-                        for (RectangularTextContainer cell : row) {
-                            String cellText = cell.getText()
-                                    .replaceAll("\\r|\\n", " ")
-                                    .replaceAll("\\s{2,}", " ")
-                                    .trim();
-                            rowData.add(cellText);
-                        }
+        List<Table> tables = context.getSpreadsheetTables(pageNumber);
 
-                        // Join row text for pattern-based filtering
-                        String joined = String.join(" ", rowData).toUpperCase();
-
-                        // ✅ Skip unwanted content (headers, footers, disclaimers)
-                        if (joined.isEmpty()
-                                || joined.contains("FEDERAL BANK LTD")
-                                || joined.contains("PAGE ")
-                                || joined.contains("BRANCH:")
-                                || joined.contains("WWW.FEDERALBANK.CO.IN")
-                                || joined.contains("CIN:")
-                                || joined.contains("STATEMENT OF ACCOUNT")
-                                || joined.contains("CUSTOMER ID")
-                                || joined.contains("ACCOUNT NUMBER")
-                                || joined.contains("ACCOUNT STATUS")
-                                || joined.contains("ABBREVIATIONS USED")
-                                || joined.contains("DISCLAIMER")
-                                || joined.contains("CASH : CASH TRANSACTION")
-                                || joined.contains("TFR : TRANSFER TRANSACTION")
-                                || joined.contains("FT : FUND TRANSFER")
-                                || joined.contains("CLG : CLEARING TRANSACTION")
-                                || joined.contains("SBINT : INTEREST ON SB ACCOUNT")
-                                || joined.contains("MB : MOBILE BANKING")
-                                || joined.contains("****END OF STATEMENT****")
-                                || joined.contains("GRAND TOTAL")
-                        ) {
-                            continue; // skip header/footer/legend rows
-                        }
+        for (Table table : tables) {
+            for (List<RectangularTextContainer> row : table.getRows()) {
 
-                        tableData.add(rowData);
-                    }
+                // Clean cell text
+                List<String> rowData = new ArrayList<>();
+                for (RectangularTextContainer cell : row) {
+                    String cellText = cell.getText()
+                            .replaceAll("\\r|\\n", " ")
+                            .replaceAll("\\s{2,}", " ")
+                            .trim();
+                    rowData.add(cellText);
                 }
+
+                // Join row text for pattern-based filtering
+                String joined = String.join(" ", rowData).toUpperCase();
+
+                // ✅ Skip unwanted content (headers, footers, disclaimers)
+                if (joined.isEmpty()
+                        || joined.contains("FEDERAL BANK LTD")
+                        || joined.contains("PAGE ")
+                        || joined.contains("BRANCH:")
+                        || joined.contains("WWW.FEDERALBANK.CO.IN")
+                        || joined.contains("CIN:")
+                        || joined.contains("STATEMENT OF ACCOUNT")
+                        || joined.contains("CUSTOMER ID")
+                        || joined.contains("ACCOUNT NUMBER")
+                        || joined.contains("ACCOUNT STATUS")
+                        || joined.contains("ABBREVIATIONS USED")
+                        || joined.contains("DISCLAIMER")
+                        || joined.contains("CASH : CASH TRANSACTION")
+                        || joined.contains("TFR : TRANSFER TRANSACTION")
+                        || joined.contains("FT : FUND TRANSFER")
+                        || joined.contains("CLG : CLEARING TRANSACTION")
+                        || joined.contains("SBINT : INTEREST ON SB ACCOUNT")
+                        || joined.contains("MB : MOBILE BANKING")
+                        || joined.contains("****END OF STATEMENT****")
+                        || joined.contains("GRAND TOTAL")
+                ) {
+                    continue; // skip header/footer/legend rows
+                }
+
+                tableData.add(rowData);
             }
         }
 
@@ -399,8 +413,16 @@ public class TabulaExtractorService {
     //=========================
 
     public List<TransactionDTO> FederalBankMapDto(List<List<String>> tableRows) {
+        return FederalBankMapDto(tableRows, null);
+    }
+
+    /**
+     * @param previousTx last transaction of the previous page when pages are
+     *                   mapped separately; leading description rows continue it
+     */
+    public List<TransactionDTO> FederalBankMapDto(List<List<String>> tableRows, TransactionDTO previousTx) {
         List<TransactionDTO> transactions = new ArrayList<>();
-        TransactionDTO lastTx = null;
+        TransactionDTO lastTx = previousTx;
 
         for (List<String> row : tableRows) {
             if (row.isEmpty() || row.get(0).toLowerCase().contains("date")) continue;
@@ -477,20 +499,16 @@ public class TabulaExtractorService {
     }
 
 
-    public List<TransactionDTO> extractUsingTabula(byte[] pdfBytes) {
+    public List<TransactionDTO> extractUsingTabula(PdfDocumentContext context) {
         List<TransactionDTO> transactions = new ArrayList<>();
 
         Pattern datePattern = Pattern.compile("^\\d{2}-\\d{2}-\\d{4}$");
         Pattern maybeNumeric = Pattern.compile(".*[0-9].*");
         Pattern balancePattern = Pattern.compile("^-?\\s*[0-9,]+(?:\\.\\d{1,2})?\\s*(Cr|DR|Dr|cr|dr)?$");
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
-            ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
-            SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
-
-            for (int page = 1; page <= pdfDocument.getNumberOfPages(); page++) {
-                Page pdfPage = extractor.extract(page);
-                List<Table> tables = sea.extract(pdfPage);
+        try {
+            for (int page = 1; page <= context.getPageCount(); page++) {
+                List<Table> tables = context.getSpreadsheetTables(page);
 
                 for (Table table : tables) {
                     for (List<RectangularTextContainer> row : table.getRows()) {
@@ -542,25 +560,14 @@ public class TabulaExtractorService {
                                 .map(cells::get)
                                 .collect(Collectors.toList());
 
-                        double withdrawals = 0.0, deposits = 0.0, autosweep = 0.0, reverseSweep = 0.0;
-
-                        // helper for numeric parsing
-                        java.util.function.Function<String, Double> toNum = (s) -> {
-                            if (s == null) return 0.0;
-                            String cleaned = s.replaceAll("[^0-9.\\-]", "");
-                            if (cleaned.isBlank()) return 0.0;
-                            try {
-                                return Double.parseDouble(cleaned);
-                            } catch (Exception ex) {
-                                return 0.0;
-                            }
-                        };
+                        long withdrawals = 0, deposits = 0, autosweep = 0, reverseSweep = 0;
 
                         // align from right: reverseSweep, autosweep, deposits, withdrawals
+                        // (paise; a column cell is a magnitude, anything that is not an amount counts as 0)
                         for (int i = 0; i < amountCells.size(); i++) {
                             int fromRightIndex = amountCells.size() - 1 - i;
-                            String val = amountCells.get(fromRightIndex);
-                            double num = toNum.apply(val);
+                            long num = Money.parsePaise(amountCells.get(fromRightIndex));
+                            num = num == Money.NONE ? 0 : Math.abs(num);
 
                             if (i == 0) reverseSweep = num;
                             else if (i == 1) autosweep = num;
@@ -586,14 +593,14 @@ public class TabulaExtractorService {
                         String description = desc.length() > 0 ? desc.toString().trim() : (cells.size() > 1 ? cells.get(1) : "-");
 
                         // combine autosweep into debit, reverseSweep into credit
-                        double debit = withdrawals + autosweep;
-                        double credit = deposits + reverseSweep;
+                        long debit = withdrawals + autosweep;
+                        long credit = deposits + reverseSweep;
 
                         TransactionDTO tx = new TransactionDTO();
                         tx.setTransactionDate(first);
                         tx.setDescription(description);
-                        tx.setDebit(debit > 0 ? String.format("%.2f", debit) : "-");
-                        tx.setCredit(credit > 0 ? String.format("%.2f", credit) : "-");
+                        tx.setDebit(debit > 0 ? Money.toPlainString(debit) : "-");
+                        tx.setCredit(credit > 0 ? Money.toPlainString(credit) : "-");
                         tx.setBalance(balance);
 
                         if (debit > 0)
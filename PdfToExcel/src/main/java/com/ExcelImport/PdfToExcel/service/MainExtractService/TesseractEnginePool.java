@@ -0,0 +1,179 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import net.sourceforge.tess4j.Tesseract;
+import net.sourceforge.tess4j.TesseractException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of Tesseract engines shared by every OCR path.
+ * <p>
+ * A plain {@link Tesseract} creates and deletes its native engine (and reloads
+ * the traineddata) on every {@code doOCR} call. Pooled engines keep their
+ * native handle after first use, so only the first page each engine sees pays
+ * the initialisation cost. Recognition runs on a dedicated worker per engine.
+ */
+@Log4j2
+@Component
+public class TesseractEnginePool {
+
+    private final BlockingQueue<PooledTesseract> engines;
+    private final List<PooledTesseract> allEngines = new ArrayList<>();
+    private final ExecutorService ocrWorkers;
+    private final long shutdownSeconds;
+
+    public TesseractEnginePool(@Value("${ocr.tessdata.path}") String datapath,
+                               @Value("${ocr.language:eng}") String language,
+                               @Value("${ocr.pool.size:0}") int configuredSize,
+                               @Value("${ocr.pool.shutdown-seconds:30}") long shutdownSeconds) {
+        this.shutdownSeconds = shutdownSeconds;
+        int size = configuredSize > 0 ? configuredSize : Runtime.getRuntime().availableProcessors();
+        this.engines = new ArrayBlockingQueue<>(size);
+
+        for (int i = 0; i < size; i++) {
+            PooledTesseract engine = new PooledTesseract();
+            engine.setDatapath(datapath);
+            engine.setLanguage(language);
+            engines.add(engine);
+            allEngines.add(engine);
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.ocrWorkers = Executors.newFixedThreadPool(size, r -> {
+            Thread t = new Thread(r, "ocr-worker-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        log.info("🔤 Tesseract engine pool ready — {} engines, language: {}", size, language);
+    }
+
+    public int size() {
+        return allEngines.size();
+    }
+
+    /**
+     * Recognise one page image on an OCR worker thread; {@code onDone} runs
+     * once the image is no longer needed, whether recognition succeeded or not.
+     */
+    public Future<Recognition> submit(BufferedImage image, Runnable onDone) {
+        try {
+            return ocrWorkers.submit(() -> {
+                try {
+                    return recognise(image);
+                } finally {
+                    onDone.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            onDone.run();
+            throw e;
+        }
+    }
+
+    /**
+     * Recognise one page image on the calling thread, waiting for a free engine.
+     */
+    public Recognition recognise(BufferedImage image) throws InterruptedException, TesseractException {
+        PooledTesseract engine = engines.take();
+        try {
+            long start = System.nanoTime();
+            String text = engine.doOCR(image);
+            return new Recognition(text, engine.lastMeanConfidence, System.nanoTime() - start);
+        } finally {
+            engines.add(engine);
+        }
+    }
+
+    /**
+     * Stop the workers, wait for in-flight pages, then release the native
+     * engines. An engine is only closed once it is back in the pool: a page
+     * recognised on a caller thread may still be inside native code, and
+     * disposing the handle under it would crash the JVM. Engines not returned
+     * within the timeout are left to process exit.
+     */
+    @PreDestroy
+    public void shutdown() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownSeconds);
+        ocrWorkers.shutdown();
+        try {
+            if (!ocrWorkers.awaitTermination(shutdownSeconds, TimeUnit.SECONDS)) {
+                // interrupt workers still waiting for an engine; doOCR itself is not interruptible
+                ocrWorkers.shutdownNow();
+            }
+            int closed = 0;
+            for (int i = 0; i < allEngines.size(); i++) {
+                PooledTesseract engine = engines.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (engine == null) {
+                    break;
+                }
+                engine.close();
+                closed++;
+            }
+            if (closed < allEngines.size()) {
+                log.warn("⚠️ {} of {} Tesseract engines still busy after {}s; left to process exit",
+                        allEngines.size() - closed, allEngines.size(), shutdownSeconds);
+            }
+        } catch (InterruptedException e) {
+            ocrWorkers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * OCR text of one image plus Tesseract's mean word confidence (0–100) and
+     * how long the engine worked on it (excluding the wait for a free engine).
+     */
+    public record Recognition(String text, int meanConfidence, long recognitionNanos) {
+    }
+
+    /**
+     * Tesseract that initialises its native engine once and keeps it loaded
+     * until the pool shuts down. Only ever used by one thread at a time.
+     */
+    private static class PooledTesseract extends Tesseract {
+
+        private boolean initialised;
+        private int lastMeanConfidence;
+
+        @Override
+        protected String getOCRText(String filename, int pageNum) {
+            String text = super.getOCRText(filename, pageNum);
+            // read while the recognised image is still attached to the engine
+            lastMeanConfidence = getAPI().TessBaseAPIMeanTextConf(getHandle());
+            return text;
+        }
+
+        @Override
+        protected void init() {
+            if (!initialised) {
+                super.init();
+                initialised = true;
+            }
+        }
+
+        @Override
+        protected void dispose() {
+            // keep the engine loaded between pages; released in close()
+        }
+
+        synchronized void close() {
+            if (initialised) {
+                super.dispose();
+                initialised = false;
+            }
+        }
+    }
+}
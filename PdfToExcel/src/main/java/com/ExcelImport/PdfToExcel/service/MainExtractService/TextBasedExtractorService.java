@@ -1,22 +1,14 @@
 package com.ExcelImport.PdfToExcel.service.MainExtractService;
 
 import com.ExcelImport.PdfToExcel.dto.ICICIBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Money;
 import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Kind;
 import lombok.extern.log4j.Log4j2;
-import net.sourceforge.tess4j.ITesseract;
-import net.sourceforge.tess4j.Tesseract;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Service;
-import technology.tabula.ObjectExtractor;
-import technology.tabula.Page;
 import technology.tabula.RectangularTextContainer;
 import technology.tabula.Table;
-import technology.tabula.extractors.SpreadsheetExtractionAlgorithm;
 
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,17 +22,52 @@ import java.util.stream.Collectors;
 @Service
 public class TextBasedExtractorService {
 
+    private final OcrExtractService ocrExtractService;
+
+    /**
+     * ICICI savings pages with no more text than this are read from OCR.
+     */
+    public static final int ICICI_MIN_TEXT_CHARS = 80;
+
+    // line and block parsing patterns, compiled once
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+    private static final Pattern LEADING_DATE = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+    private static final Pattern LEADING_NUMERIC_DATE = Pattern.compile("^(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})");
+    private static final Pattern LEADING_TEXT_DATE = Pattern.compile("^(\\d{1,2}\\s+[A-Za-z]{3,9}\\s+\\d{4})");
+    private static final Pattern NUMERIC_DATE = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})");
+    private static final Pattern TEXT_DATE = Pattern.compile("(\\d{1,2}\\s+[A-Za-z]{3,9}\\s+\\d{4})");
+    private static final Pattern CHEQUE_WORDS = Pattern.compile("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b");
+    private static final Pattern TIME = Pattern.compile("\\b\\d{1,2}:\\d{2}:\\d{2}\\b");
+    private static final Pattern AMOUNT = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
+    private static final Pattern NON_DIGIT = Pattern.compile("[^0-9]");
+    private static final Pattern STRUCTURED_ROW = Pattern.compile("(?i).*\\b withdrawals|deposit|autosweep|reverse sweep/.*");
+    private static final Pattern TRAILING_AMOUNTS = Pattern.compile("(\\s*|-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern CANARA_CHEQUE = Pattern.compile("(?i)Chq[:\\s]*(\\d+)");
+    private static final Pattern CANARA_CHEQUE_LABEL = Pattern.compile("(?i)Chq[:\\s]*\\d*");
+    private static final Pattern INDIAN_BANK_FOOTER = Pattern.compile("(?i)ending balance.*");
+    private static final Pattern INDIAN_BANK_NAME = Pattern.compile("(?i)indian bank.*");
+    private static final Pattern INR_AMOUNT = Pattern.compile("(-?\\s*INR\\s*\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
+    private static final Pattern INR_AMOUNTS = Pattern.compile("(-?\\s*INR\\s*\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)+");
+    private static final Pattern INR_DEBIT_ROW = Pattern.compile(".*INR\\s*\\d.*-\\s*INR\\s*\\d.*");
+    private static final Pattern INR_CREDIT_ROW = Pattern.compile(".*-\\s*INR\\s*\\d.*INR\\s*\\d.*");
+    private static final Pattern REPEATED_SPACE = Pattern.compile("\\s{2,}");
+    private static final Pattern NON_AMOUNT = Pattern.compile("[^0-9.]");
+
+    public TextBasedExtractorService(OcrExtractService ocrExtractService) {
+        this.ocrExtractService = ocrExtractService;
+    }
+
     //ICICI Saving Account Extraction
 
-    private List<TransactionDTO> parseUniversalTransactions(String text) {
+    private List<TransactionDTO> parseUniversalTransactions(String text, RunningBalance runningBalance) {
         List<TransactionDTO> transactions = new ArrayList<>();
         if (text == null || text.trim().isEmpty()) {
             log.warn("⚠️ PDF text is empty. No transactions to parse.");
             return transactions;
         }
 
-        String[] lines = text.split("\\r?\\n");
-        Pattern datePattern = Pattern.compile("^(\\d{1,2}[-/\\s]\\d{1,2}[-/\\s]\\d{2,4})");
+        String[] lines = LINE_BREAK.split(text);
 
         List<String> headers = null;
         StringBuilder currentBlock = new StringBuilder();
@@ -51,48 +78,27 @@ public class TextBasedExtractorService {
             String line = rawLine.trim();
             if (line.isEmpty()) continue;
 
-            String lower = line.toLowerCase();
+            long kinds = StatementLineRules.ICICI.match(line);
 
             // 🧭 Detect header
-            if (headers == null && (lower.contains("date") &&
-                    (lower.contains("withdrawals") ||
-                            lower.contains("particular") || lower.contains("particulars") || lower.contains("description")))) {
+            if (headers == null && StatementLineRules.ICICI.fired(kinds, Kind.HEADER)) {
                 headers = splitRowIntoCells(line);
                 log.info("🧭 Detected header columns: {}", headers);
                 continue;
             }
 
-            // 🚫 Skip summaries / footers / legends early
-            if (lower.matches(".*(opening balance|closing balance|account summary|page no|statement|total|grand total|cheque|mode).*")) {
-                continue;
-            }
-
-            // 🚫 Skip known non-transaction lines
-            if (lower.contains("legends for transactions")
-                    || lower.contains("sincerely")
-                    || lower.contains("team icici")
-                    || lower.contains("summary of account")
-                    || lower.contains("category of service")
-                    || lower.contains("regd address")
-                    || lower.contains("page total")
-                    || lower.contains("this is a system-generated")
-                    || lower.contains("your details with us")
-                    || lower.contains("your base branch")
-                    || lower.contains("registration no")
-                    || lower.contains("statement of transactions")
-                    || lower.contains("vat/mat/nfs - cash withdrawal")
-                    || lower.contains("eba - transaction on icici direct")
-                    || lower.contains("vps/ips - debit card transaction")
-                    || lower.contains("top - mobile recharge")) {
+            // 🚫 Skip summaries / footers / legends early, and known non-transaction lines
+            if (StatementLineRules.ICICI.fired(kinds, Kind.SUMMARY)
+                    || StatementLineRules.ICICI.fired(kinds, Kind.FOOTER)) {
                 continue;
             }
 
             // 🧠 Detect start of a new transaction (by date)
-            Matcher matcher = datePattern.matcher(line);
+            Matcher matcher = LEADING_DATE.matcher(line);
             if (matcher.find()) {
                 // flush previous block
                 if (currentBlock.length() > 0) {
-                    TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString());
+                    TransactionDTO dto = parseTransactionBlockToDto(currentBlock.toString(), runningBalance);
                     if (dto != null) {
                         log.info("✅ Parsed transaction: {}", dto);
                         transactions.add(dto);
@@ -105,15 +111,7 @@ public class TextBasedExtractorService {
                 currentBlock.append(" ").append(line);
 
                 // 🧠 Detect footer / end-of-statement text to stop parsing
-                if (lower.contains("account related other information")
-                        || lower.contains("sincerely")
-                        || lower.contains("team icici")
-                        || lower.contains("legends for transactions")
-                        || lower.contains("category of service")
-                        || lower.contains("corporate office")
-                        || lower.contains("registered office")
-                        || lower.contains("this is an authenticated")
-                        || lower.contains("www.icicibank.com")) {
+                if (StatementLineRules.ICICI.fired(kinds, Kind.END_OF_STATEMENT)) {
 
                     String finalText = currentBlock.toString().trim();
 
@@ -134,7 +132,7 @@ public class TextBasedExtractorService {
                     finalText = finalText.replaceAll("\\s+", " ").trim();
 
                     if (!finalText.isEmpty()) {
-                        TransactionDTO dto = parseTransactionBlockToDto(finalText);
+                        TransactionDTO dto = parseTransactionBlockToDto(finalText, runningBalance);
                         if (dto != null) {
                             log.info("✅ Parsed final transaction before footer: {}", dto);
                             transactions.add(dto);
@@ -165,7 +163,7 @@ public class TextBasedExtractorService {
             currentText = currentText.replaceAll("\\s+", " ").trim();
 
             if (!currentText.isEmpty()) {
-                TransactionDTO dto = parseTransactionBlockToDto(currentText);
+                TransactionDTO dto = parseTransactionBlockToDto(currentText, runningBalance);
                 if (dto != null) {
                     log.info("✅ Parsed final transaction (EOF): {}", dto);
                     transactions.add(dto);
@@ -202,34 +200,33 @@ public class TextBasedExtractorService {
     /**
      * parseTransactionBlockToDto now accepts chequeNo (may be null).
      * It will remove the chequeNo from description if provided, while preserving IMPS/UPI IDs.
+     * Debit/credit is inferred from the previous row's balance in {@code runningBalance}.
      */
-    private static double lastBalanceValue = -1; // place this as a class-level static variable
-
-    private TransactionDTO parseTransactionBlockToDto(String block) {
+    private TransactionDTO parseTransactionBlockToDto(String block, RunningBalance runningBalance) {
         if (block == null || block.trim().isEmpty()) return null;
 
         TransactionDTO dto = new TransactionDTO();
 
         // 1️⃣ Extract and remove first date (main transaction date)
-        Matcher dateMatcher = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})").matcher(block);
+        Matcher dateMatcher = NUMERIC_DATE.matcher(block);
         if (dateMatcher.find()) {
             String firstDate = dateMatcher.group(1);
             dto.setTransactionDate(firstDate);
-            block = block.replaceFirst(Pattern.quote(firstDate), " ");
+            // the first match is the first occurrence of its text
+            block = block.substring(0, dateMatcher.start()) + " " + block.substring(dateMatcher.end());
         }
 
         // 2️⃣ Remove cheque-related or header-like words
-        block = block.replaceAll("(?i)\\b(CHEQUE|CHQ|INSTRUMENT|NO\\.|NUMBER | MOBILE BANKING)\\b", " ");
-        block = block.replaceAll("\\b\\d{1,2}:\\d{2}:\\d{2}\\b", " "); // remove time like 13:45:21
-        block = block.replaceAll("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})", " "); // remove remaining dates
+        block = CHEQUE_WORDS.matcher(block).replaceAll(" ");
+        block = TIME.matcher(block).replaceAll(" "); // remove time like 13:45:21
+        block = NUMERIC_DATE.matcher(block).replaceAll(" "); // remove remaining dates
 
         // 3️⃣ Extract all valid monetary amounts
-        Pattern amountPattern = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
-        Matcher amtMatcher = amountPattern.matcher(block);
+        Matcher amtMatcher = AMOUNT.matcher(block);
         List<String> amounts = new ArrayList<>();
         while (amtMatcher.find()) {
             String amt = amtMatcher.group(1).trim();
-            String digitsOnly = amt.replaceAll("[^0-9]", "");
+            String digitsOnly = NON_DIGIT.matcher(amt).replaceAll("");
             if (amt.contains(",") || amt.contains(".") || digitsOnly.length() >= 4)
                 amounts.add(amt);
         }
@@ -240,49 +237,50 @@ public class TextBasedExtractorService {
         try {
             if (!amounts.isEmpty()) {
                 // 🧠 Detect "structured" format (like icici 4.pdf) → three numeric columns in a row
-                if (amounts.size() >= 3 && block.matches("(?i).*\\b withdrawals|deposit|autosweep|reverse sweep/.*")) {
+                if (amounts.size() >= 3 && STRUCTURED_ROW.matcher(block).matches()) {
                     // Usually: Withdrawals, Deposits, Balance
                     String possibleDebit = amounts.get(amounts.size() - 3);
                     String possibleCredit = amounts.get(amounts.size() - 2);
                     String possibleBalance = amounts.get(amounts.size() - 1);
 
-                    double debitVal = Double.parseDouble(possibleDebit.replaceAll(",", ""));
-                    double creditVal = Double.parseDouble(possibleCredit.replaceAll(",", ""));
-                    double balanceVal = Double.parseDouble(possibleBalance.replaceAll(",", ""));
+                    long debitVal = Money.paiseOf(possibleDebit);
+                    long creditVal = Money.paiseOf(possibleCredit);
+                    long balanceVal = Money.paiseOf(possibleBalance);
 
                     if (debitVal > 0) {
-                        debit = String.format("%,.2f", debitVal);
+                        debit = Money.format(debitVal);
                         credit = "0.00";
                         dto.setVoucherType("Payment");
                     } else if (creditVal > 0) {
-                        credit = String.format("%,.2f", creditVal);
+                        credit = Money.format(creditVal);
                         debit = "0.00";
                         dto.setVoucherType("Receipt");
                     }
-                    balance = String.format("%,.2f", Math.abs(balanceVal));
-                    lastBalanceValue = balanceVal;
+                    balance = Money.format(Math.abs(balanceVal));
+                    runningBalance.reset(balanceVal);
                 } else {
                     // 🔹 Fallback to old savings logic
                     balance = amounts.get(amounts.size() - 1);
-                    double currentBalance = Double.parseDouble(balance.replaceAll(",", ""));
-                    double txnAmount = 0;
+                    long currentBalance = Money.paiseOf(balance);
+                    long txnAmount = 0;
                     if (amounts.size() >= 2) {
-                        String amt = amounts.get(amounts.size() - 2);
-                        txnAmount = Double.parseDouble(amt.replaceAll(",", ""));
+                        txnAmount = Money.paiseOf(amounts.get(amounts.size() - 2));
                     }
 
-                    if (lastBalanceValue != -1) {
-                        if (currentBalance > lastBalanceValue) {
-                            credit = String.format("%,.2f", txnAmount);
+                    switch (runningBalance.advance(currentBalance)) {
+                        case CREDIT:
+                            credit = Money.format(txnAmount);
                             debit = "-";
                             dto.setVoucherType("Receipt");
-                        } else if (currentBalance < lastBalanceValue) {
-                            debit = String.format("%,.2f", txnAmount);
+                            break;
+                        case DEBIT:
+                            debit = Money.format(txnAmount);
                             credit = "-";
                             dto.setVoucherType("Payment");
-                        }
+                            break;
+                        default:
+                            break;
                     }
-                    lastBalanceValue = currentBalance;
                 }
             }
         } catch (Exception e) {
@@ -295,13 +293,10 @@ public class TextBasedExtractorService {
         dto.setBalance(balance);
 
         // 🧹 STEP: Clean up extra numeric columns at end of line
-        String cleanedBlock = block.replaceAll(
-                "(\\s*|-?\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?){1,3}\\s*(Cr|Dr)?\\s*$",
-                ""
-        ).trim();
+        String cleanedBlock = TRAILING_AMOUNTS.matcher(block).replaceAll("").trim();
 
         // 🧹 Also remove any lingering multiple spaces
-        cleanedBlock = cleanedBlock.replaceAll("\\s+", " ").trim();
+        cleanedBlock = WHITESPACE.matcher(cleanedBlock).replaceAll(" ").trim();
 
         // ✅ Log before & after cleaning (for debugging)
         log.info("🧾 Before clean: {}", block);
@@ -321,8 +316,7 @@ public class TextBasedExtractorService {
         List<TransactionDTO> transactions = new ArrayList<>();
         if (text == null || text.trim().isEmpty()) return transactions;
 
-        String[] lines = text.split("\\r?\\n");
-        Pattern datePattern = Pattern.compile("^(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})");
+        String[] lines = LINE_BREAK.split(text);
 
         StringBuilder currentBlock = new StringBuilder();
         boolean inTransactionSection = false;
@@ -331,15 +325,10 @@ public class TextBasedExtractorService {
             String line = raw.trim();
             if (line.isEmpty()) continue;
 
-            String lower = line.toLowerCase();
-
             // ignore header/footer sections
-            if (lower.contains("opening balance") || lower.contains("closing balance") ||
-                    lower.contains("disclaimer") || lower.contains("ombudsman") ||
-                    lower.contains("statement for a/c") || lower.contains("page") ||
-                    lower.contains("end of statement")) continue;
+            if (StatementLineRules.CANARA.classify(line) != null) continue;
 
-            Matcher matcher = datePattern.matcher(line);
+            Matcher matcher = LEADING_NUMERIC_DATE.matcher(line);
             if (matcher.find()) {
                 inTransactionSection = true;
 
@@ -374,20 +363,18 @@ public class TextBasedExtractorService {
         TransactionDTO dto = new TransactionDTO();
 
         // 1️⃣ Extract transaction date
-        Matcher dateMatcher = Pattern.compile("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})").matcher(block);
+        Matcher dateMatcher = NUMERIC_DATE.matcher(block);
         if (dateMatcher.find()) dto.setTransactionDate(dateMatcher.group(1));
 
         // 2️⃣ Extract cheque number
-        Matcher chqMatcher = Pattern.compile("(?i)Chq[:\\s]*(\\d+)").matcher(block);
+        Matcher chqMatcher = CANARA_CHEQUE.matcher(block);
         String chequeNo = chqMatcher.find() ? chqMatcher.group(1) : null;
 
-        // 3️⃣ Extract all numeric values (Deposits, Withdrawals, Balance)
-        Pattern amountPattern = Pattern.compile("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)");
-        Matcher amtMatcher = amountPattern.matcher(block);
+        // 3️⃣ Extract all numeric values (Deposits, Withdrawals, Balance); every match starts with a digit
+        Matcher amtMatcher = AMOUNT.matcher(block);
         List<String> amounts = new ArrayList<>();
         while (amtMatcher.find()) {
-            String amt = amtMatcher.group(1);
-            if (amt.matches(".*\\d.*")) amounts.add(amt);
+            amounts.add(amtMatcher.group(1));
         }
 
         String deposit = "-", withdrawal = "-", balance = "-";
@@ -407,14 +394,12 @@ public class TextBasedExtractorService {
         dto.setBalance(balance);
 
         // 4️⃣ Clean and build description
-        String cleaned = block
-                .replaceAll("(?i)Chq[:\\s]*\\d*", "")
-                .replaceAll("(\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+        String cleaned = CANARA_CHEQUE_LABEL.matcher(block).replaceAll("");
+        cleaned = AMOUNT.matcher(cleaned).replaceAll("");
+        cleaned = WHITESPACE.matcher(cleaned).replaceAll(" ").trim();
 
         // Remove date repetition
-        cleaned = cleaned.replaceAll("(\\d{1,2}[-/]\\d{1,2}[-/]\\d{2,4})", "").trim();
+        cleaned = NUMERIC_DATE.matcher(cleaned).replaceAll("").trim();
 
         dto.setDescription(cleaned.isEmpty() ? "-" : cleaned);
 
@@ -444,19 +429,17 @@ public class TextBasedExtractorService {
         if (text == null || text.trim().isEmpty()) return transactions;
 
         // Split by lines
-        String[] lines = text.split("\\r?\\n");
+        String[] lines = LINE_BREAK.split(text);
         StringBuilder current = new StringBuilder();
-        Pattern datePattern = Pattern.compile("^(\\d{1,2}\\s+[A-Za-z]{3,9}\\s+\\d{4})");
 
         for (String raw : lines) {
             String line = raw.trim();
             if (line.isEmpty()) continue;
 
-            String lower = line.toLowerCase();
-            if (lower.matches(".*(account activity|opening balance|closing balance|account summary|total|page|thank you|statement).*"))
+            if (StatementLineRules.INDIAN_BANK.classify(line) != null)
                 continue;
 
-            Matcher matcher = datePattern.matcher(line);
+            Matcher matcher = LEADING_TEXT_DATE.matcher(line);
             if (matcher.find()) {
                 if (current.length() > 0) {
                     TransactionDTO dto = parseBlockToDto(current.toString().trim());
@@ -481,19 +464,19 @@ public class TextBasedExtractorService {
         TransactionDTO dto = new TransactionDTO();
 
         // Remove footer noise like "Ending Balance" or "Indian Bank"
-        block = block.replaceAll("(?i)ending balance.*", "")
-                .replaceAll("(?i)indian bank.*", "")
-                .trim();
+        block = INDIAN_BANK_FOOTER.matcher(block).replaceAll("");
+        block = INDIAN_BANK_NAME.matcher(block).replaceAll("").trim();
 
         // 1️⃣ Extract Date
-        Matcher dateMatcher = Pattern.compile("(\\d{1,2}\\s+[A-Za-z]{3,9}\\s+\\d{4})").matcher(block);
+        Matcher dateMatcher = TEXT_DATE.matcher(block);
         if (dateMatcher.find()) {
             dto.setTransactionDate(dateMatcher.group(1));
-            block = block.replaceFirst(Pattern.quote(dateMatcher.group(1)), "").trim();
+            // the first match is the first occurrence of its text
+            block = (block.substring(0, dateMatcher.start()) + block.substring(dateMatcher.end())).trim();
         }
 
         // 2️⃣ Extract all INR values
-        Matcher amtMatcher = Pattern.compile("(-?\\s*INR\\s*\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)").matcher(block);
+        Matcher amtMatcher = INR_AMOUNT.matcher(block);
         List<String> amounts = new ArrayList<>();
         while (amtMatcher.find()) amounts.add(amtMatcher.group(1).trim());
 
@@ -504,12 +487,12 @@ public class TextBasedExtractorService {
             String second = amounts.get(1);
 
             // 🧠 Case 1: "INR 32.00  - INR 1,190.65" → Debit
-            if (block.matches(".*INR\\s*\\d.*-\\s*INR\\s*\\d.*")) {
+            if (INR_DEBIT_ROW.matcher(block).matches()) {
                 debit = cleanAmount(first);
                 balance = cleanAmount(second);
             }
             // 🧠 Case 2: "- INR 24.00 INR 1,214.65" → Credit
-            else if (block.matches(".*-\\s*INR\\s*\\d.*INR\\s*\\d.*")) {
+            else if (INR_CREDIT_ROW.matcher(block).matches()) {
                 credit = cleanAmount(first);
                 balance = cleanAmount(second);
             }
@@ -537,9 +520,8 @@ public class TextBasedExtractorService {
         dto.setBalance(balance);
 
         // 3️⃣ Clean up description
-        String desc = block.replaceAll("(-?\\s*INR\\s*\\d{1,3}(?:,\\d{2,3})*(?:\\.\\d{1,2})?)+", "")
-                .replaceAll("\\s{2,}", " ")
-                .trim();
+        String desc = INR_AMOUNTS.matcher(block).replaceAll("");
+        desc = REPEATED_SPACE.matcher(desc).replaceAll(" ").trim();
         dto.setDescription(desc);
 
         // 4️⃣ Voucher type
@@ -552,58 +534,53 @@ public class TextBasedExtractorService {
 
     private String cleanAmount(String amt) {
         if (amt == null) return "0.00";
-        return amt.replaceAll("[^0-9.]", "").trim();
+        return NON_AMOUNT.matcher(amt).replaceAll("").trim();
     }
 
 
     // ICICI Extraction
 
-    public List<TransactionDTO> extractICICI(byte[] pdfBytes) throws Exception {
+    public List<TransactionDTO> extractICICI(PdfDocumentContext context) throws Exception {
         List<TransactionDTO> transactions = new ArrayList<>();
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
-            PDFRenderer renderer = new PDFRenderer(pdfDocument);
-            PDFTextStripper textStripper = new PDFTextStripper();
-
-            int pageCount = pdfDocument.getNumberOfPages();
-            for (int i = 0; i < pageCount; i++) {
-                textStripper.setStartPage(i + 1);
-                textStripper.setEndPage(i + 1);
+        // the pipeline OCRs these pages under the OCR bulkhead first; only a direct caller OCRs here
+        ocrExtractService.ocrPages(context, iciciOcrPages(context));
+        // balances run on across pages of this statement only
+        RunningBalance runningBalance = new RunningBalance();
 
-                String pageText = textStripper.getText(pdfDocument).trim();
+        for (int page = 1; page <= context.getPageCount(); page++) {
+            String ocrText = context.getOcrPageText(page);
+            String pageText = ocrText != null ? ocrText : context.getPageText(page).trim();
+            transactions.addAll(parseUniversalTransactions(pageText, runningBalance));
+        }
+        return transactions;
+    }
 
-                if (pageText.length() > 80) {
-                    List<TransactionDTO> textTx = parseUniversalTransactions(pageText);
-                    transactions.addAll(textTx);
-                } else {
-                    BufferedImage image = renderer.renderImageWithDPI(i, 600);
-                    ITesseract tesseract = new Tesseract();
-                    tesseract.setDatapath("E:/PdfExtract/PdfToExcel/PdfToExcel/src/main/java/com/ExcelImport/PdfToExcel/tessdata"); // update to your path
-                    String ocrText = tesseract.doOCR(image);
-                    List<TransactionDTO> ocrTx = parseUniversalTransactions(ocrText);
-                    transactions.addAll(ocrTx);
-                }
+    /**
+     * 1-based pages of an ICICI savings statement read from OCR: next to no text layer.
+     */
+    public List<Integer> iciciOcrPages(PdfDocumentContext context) throws IOException {
+        List<Integer> pages = new ArrayList<>();
+        for (int page = 1; page <= context.getPageCount(); page++) {
+            if (context.getPageText(page).trim().length() <= ICICI_MIN_TEXT_CHARS) {
+                pages.add(page);
             }
         }
-        return transactions;
+        return pages;
     }
 
     //ICICI Current Account Extraction
 
-    public List<TransactionDTO> extractUsingTabula(byte[] pdfBytes) {
+    public List<TransactionDTO> extractUsingTabula(PdfDocumentContext context) {
         List<TransactionDTO> transactions = new ArrayList<>();
 
         Pattern datePattern = Pattern.compile("^\\d{2}-\\d{2}-\\d{4}$");
         Pattern maybeNumeric = Pattern.compile(".*[0-9].*");
         Pattern balancePattern = Pattern.compile("^-?\\s*[0-9,]+(?:\\.\\d{1,2})?\\s*(Cr|DR|Dr|cr|dr)?$");
 
-        try (PDDocument pdfDocument = PDDocument.load(new ByteArrayInputStream(pdfBytes))) {
-            ObjectExtractor extractor = new ObjectExtractor(pdfDocument);
-            SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
-
-            for (int page = 1; page <= pdfDocument.getNumberOfPages(); page++) {
-                Page pdfPage = extractor.extract(page);
-                List<Table> tables = sea.extract(pdfPage);
+        try {
+            for (int page = 1; page <= context.getPageCount(); page++) {
+                List<Table> tables = context.getSpreadsheetTables(page);
 
                 for (Table table : tables) {
                     for (List<RectangularTextContainer> row : table.getRows()) {
@@ -655,25 +632,14 @@ public class TextBasedExtractorService {
                                 .map(cells::get)
                                 .collect(Collectors.toList());
 
-                        double withdrawals = 0.0, deposits = 0.0, autosweep = 0.0, reverseSweep = 0.0;
-
-                        // helper for numeric parsing
-                        java.util.function.Function<String, Double> toNum = (s) -> {
-                            if (s == null) return 0.0;
-                            String cleaned = s.replaceAll("[^0-9.\\-]", "");
-                            if (cleaned.isBlank()) return 0.0;
-                            try {
-                                return Double.parseDouble(cleaned);
-                            } catch (Exception ex) {
-                                return 0.0;
-                            }
-                        };
+                        long withdrawals = 0, deposits = 0, autosweep = 0, reverseSweep = 0;
 
                         // align from right: reverseSweep, autosweep, deposits, withdrawals
+                        // (paise; a column cell is a magnitude, anything that is not an amount counts as 0)
                         for (int i = 0; i < amountCells.size(); i++) {
                             int fromRightIndex = amountCells.size() - 1 - i;
-                            String val = amountCells.get(fromRightIndex);
-                            double num = toNum.apply(val);
+                            long num = Money.parsePaise(amountCells.get(fromRightIndex));
+                            num = num == Money.NONE ? 0 : Math.abs(num);
 
                             if (i == 0) reverseSweep = num;
                             else if (i == 1) autosweep = num;
@@ -699,14 +665,14 @@ public class TextBasedExtractorService {
                         String description = desc.length() > 0 ? desc.toString().trim() : (cells.size() > 1 ? cells.get(1) : "-");
 
                         // combine autosweep into debit, reverseSweep into credit
-                        double debit = withdrawals + autosweep;
-                        double credit = deposits + reverseSweep;
+                        long debit = withdrawals + autosweep;
+                        long credit = deposits + reverseSweep;
 
                         TransactionDTO tx = new TransactionDTO();
                         tx.setTransactionDate(first);
                         tx.setDescription(description);
-                        tx.setDebit(debit > 0 ? String.format("%.2f", debit) : "-");
-                        tx.setCredit(credit > 0 ? String.format("%.2f", credit) : "-");
+                        tx.setDebit(debit > 0 ? Money.toPlainString(debit) : "-");
+                        tx.setCredit(credit > 0 ? Money.toPlainString(credit) : "-");
                         tx.setBalance(balance);
 
                         if (debit > 0)
@@ -0,0 +1,29 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives transactions while an extraction is still running — one call per
+ * page for row-local table routes, one call per stage otherwise. Rows arrive
+ * in statement order and are never revised after being handed over.
+ */
+@FunctionalInterface
+public interface TransactionSink {
+
+    TransactionSink NONE = transactions -> {
+    };
+
+    void accept(List<TransactionDTO> transactions) throws IOException;
+
+    /**
+     * A whole result at once (e.g. from the cache). Sinks that can read the
+     * columns directly override this; the default hands over DTOs.
+     */
+    default void accept(TransactionBatch transactions) throws IOException {
+        accept(transactions.asList());
+    }
+}
@@ -0,0 +1,132 @@
+package com.ExcelImport.PdfToExcel.service.MetricsService;
+
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StageRecorder;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParser;
+import com.ExcelImport.PdfToExcel.service.ParserService.BankStatementParserRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the extraction pipeline, scraped through
+ * {@code /actuator/prometheus}.
+ * <ul>
+ *     <li>{@code pdf.extraction.stage} — timer per stage (pdf_load,
+ *     digital_detection, table_detection, tabula_page, text_strip,
+ *     regex_parse, ocr_render, ocr_recognition, excel_write, tally_write)</li>
+ *     <li>{@code pdf.extraction} — timer per whole extraction</li>
+ *     <li>{@code pdf.extraction.rows} — transactions extracted</li>
+ * </ul>
+ * All are tagged by bank (a registered bank code, else {@code other}), route
+ * (detect, table, text, ocr, export, cache) and outcome (success, empty,
+ * error; cached for whole extractions).
+ */
+@Component
+public class ExtractionMetrics {
+
+    public static final String ROUTE_DETECT = "detect";
+    public static final String ROUTE_TABLE = "table";
+    public static final String ROUTE_TEXT = "text";
+    public static final String ROUTE_OCR = "ocr";
+    public static final String ROUTE_EXPORT = "export";
+    public static final String ROUTE_CACHE = "cache";
+
+    public static final String OUTCOME_CACHED = "cached";
+
+    // bank is a request parameter; anything that is not a registered bank is folded into one tag value
+    public static final String BANK_OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final BankStatementParserRegistry parsers;
+
+    public ExtractionMetrics(MeterRegistry registry, BankStatementParserRegistry parsers) {
+        this.registry = registry;
+        this.parsers = parsers;
+    }
+
+    /**
+     * Stage recorder for one document; starts on the {@code detect} route.
+     */
+    public DocumentRecorder forDocument(String bank) {
+        return new DocumentRecorder(bankTag(bank));
+    }
+
+    /**
+     * Time work outside a document context, e.g. writing an export.
+     */
+    public <T, E extends Exception> T time(String stage, String bank, String route,
+                                           StageRecorder.StageWork<T, E> work) throws E {
+        return new DocumentRecorder(bankTag(bank), route).time(stage, work);
+    }
+
+    public void recordStage(String stage, String bank, String route, long nanos, String outcome) {
+        Timer.builder("pdf.extraction.stage")
+                .description("Duration of one extraction stage")
+                .tag("stage", stage)
+                .tag("bank", bank)
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String bankTag(String bank) {
+        return parsers.find(bank == null ? null : bank.trim())
+                .map(BankStatementParser::bank)
+                .orElse(BANK_OTHER);
+    }
+
+    // ===========================================================
+    // 🔹 Per-document recorder (carried by PdfDocumentContext)
+    // ===========================================================
+    public class DocumentRecorder implements StageRecorder {
+
+        private final String bank;
+        private volatile String route;
+
+        private DocumentRecorder(String bank) {
+            this(bank, ROUTE_DETECT);
+        }
+
+        private DocumentRecorder(String bank, String route) {
+            this.bank = bank;
+            this.route = route;
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        @Override
+        public void setRoute(String route) {
+            this.route = route;
+        }
+
+        @Override
+        public void record(String stage, long nanos, String outcome) {
+            recordStage(stage, bank, route, nanos, outcome);
+        }
+
+        /**
+         * Whole extraction finished on the current route.
+         */
+        public void recordExtraction(long nanos, int rows, String outcome) {
+            Timer.builder("pdf.extraction")
+                    .description("Duration of one whole extraction")
+                    .tag("bank", bank)
+                    .tag("route", route)
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            Counter.builder("pdf.extraction.rows")
+                    .description("Transactions extracted")
+                    .tag("bank", bank)
+                    .tag("route", route)
+                    .register(registry)
+                    .increment(rows);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads.Engine;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One bank statement format. Implementations are Spring beans, found by
+ * {@link BankStatementParserRegistry} under {@link #bank()} — adding a bank is
+ * adding a bean; the controller and the extraction pipeline stay untouched.
+ * <p>
+ * The routes a format can parse are capability interfaces it also implements
+ * ({@link TableRoute} or {@link PagedTableRoute}, {@link TextRoute},
+ * {@link OcrRoute}). The universal pipeline tries the routes in detection
+ * order (table, text, OCR) and skips the ones the parser does not implement.
+ * OCR always runs: without {@link OcrRoute} the generic OCR row parser reads the text.
+ *
+ * @param <T> row type of the bank's own {@code /extract} endpoint
+ */
+public interface BankStatementParser<T> {
+
+    /**
+     * Extraction routes, with the per-page CPU cost the admission estimate
+     * charges for them.
+     */
+    enum Route {
+        TABULA(0.15),
+        TEXT(0.05),
+        OCR(2.5);
+
+        private final double pageCpuSeconds;
+
+        Route(double pageCpuSeconds) {
+            this.pageCpuSeconds = pageCpuSeconds;
+        }
+
+        public double pageCpuSeconds() {
+            return pageCpuSeconds;
+        }
+    }
+
+    /**
+     * Bank code as sent by the clients (KVB, CANARA, …), upper case.
+     */
+    String bank();
+
+    /**
+     * Routes with a format-specific parser, from the route interfaces implemented.
+     */
+    default Set<Route> capabilities() {
+        Set<Route> routes = EnumSet.noneOf(Route.class);
+        if (this instanceof TableRoute) routes.add(Route.TABULA);
+        if (this instanceof TextRoute) routes.add(Route.TEXT);
+        if (this instanceof OcrRoute) routes.add(Route.OCR);
+        return routes;
+    }
+
+    default boolean supports(Route route) {
+        return capabilities().contains(route);
+    }
+
+    /**
+     * Route the format is expected to take; the admission estimate is priced on it.
+     */
+    Route preferredRoute();
+
+    /**
+     * Cost hint: CPU seconds per page with a text layer. Image-only pages are
+     * always priced as OCR; on the OCR route the text-layer pages are only stripped.
+     */
+    default double textPageCpuSeconds() {
+        return preferredRoute() == Route.TABULA ? Route.TABULA.pageCpuSeconds() : Route.TEXT.pageCpuSeconds();
+    }
+
+    /**
+     * Bulkhead a route of this format queues for.
+     */
+    default Engine engine(Route route) {
+        switch (route) {
+            case TABULA:
+                return Engine.TABULA;
+            case TEXT:
+                return Engine.TEXT;
+            default:
+                return Engine.OCR;
+        }
+    }
+
+    /**
+     * Whether OCR of every page is worth a try when the hybrid text gave no
+     * rows (the text layer may be unusable).
+     */
+    default boolean fullOcrFallback() {
+        return true;
+    }
+
+    // ===========================================================
+    // 🔹 Exports
+    // ===========================================================
+
+    String tallyFileName();
+
+    default List<Column> excelLayout() {
+        return StatementExcelLayouts.GENERIC;
+    }
+
+    // ===========================================================
+    // 🔹 Bank-specific endpoints (/extract, /extract-json)
+    // ===========================================================
+
+    List<T> extract(PdfSource source, String password) throws Exception;
+
+    TransactionResponseDTO toResponse(T transaction);
+
+    default List<TransactionResponseDTO> extractForResponse(PdfSource source, String password) throws Exception {
+        return extract(source, password).stream().map(this::toResponse).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Every {@link BankStatementParser} bean, by bank code (case-insensitive).
+ */
+@Log4j2
+@Service
+public class BankStatementParserRegistry {
+
+    private final Map<String, BankStatementParser<?>> parsers = new HashMap<>();
+
+    public BankStatementParserRegistry(List<BankStatementParser<?>> parsers) {
+        for (BankStatementParser<?> parser : parsers) {
+            BankStatementParser<?> previous = this.parsers.putIfAbsent(parser.bank().toUpperCase(), parser);
+            if (previous != null) {
+                throw new IllegalStateException("Two parsers for bank " + parser.bank() + ": "
+                        + previous.getClass().getSimpleName() + ", " + parser.getClass().getSimpleName());
+            }
+        }
+        log.info("🏦 Registered bank statement formats: {}", banks());
+    }
+
+    public Optional<BankStatementParser<?>> find(String bank) {
+        return bank == null ? Optional.empty() : Optional.ofNullable(parsers.get(bank.toUpperCase()));
+    }
+
+    public BankStatementParser<?> get(String bank) {
+        return find(bank).orElseThrow(() -> new IllegalArgumentException("Unsupported bank: " + bank));
+    }
+
+    public Set<String> banks() {
+        return new TreeSet<>(parsers.keySet());
+    }
+}
@@ -0,0 +1,79 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.CanaraBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.ExtractService.CanaraBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TextBasedExtractorService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Canara Bank: row-local Tabula tables, or the text layer when there is no table.
+ */
+@Log4j2
+@Service
+public class CanaraStatementParser implements BankStatementParser<CanaraBankTransactionDTO>, PagedTableRoute, TextRoute {
+
+    private final CanaraBankStatementService canaraBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+    private final TextBasedExtractorService textBasedExtractorService;
+
+    public CanaraStatementParser(CanaraBankStatementService canaraBankStatementService,
+                                 TabulaExtractorService tabulaExtractorService,
+                                 TextBasedExtractorService textBasedExtractorService) {
+        this.canaraBankStatementService = canaraBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+        this.textBasedExtractorService = textBasedExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "CANARA";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public TablePageParser tablePageParser() {
+        return (context, page) -> tabulaExtractorService.CanaraBankMapDto(tabulaExtractorService.extractPageRows(context, page));
+    }
+
+    @Override
+    public List<TransactionDTO> parseText(PdfDocumentContext context, String text, String accountType) {
+        return textBasedExtractorService.parseCanaraBankTransactions(text);
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_Canara.xml";
+    }
+
+    @Override
+    public List<Column> excelLayout() {
+        return StatementExcelLayouts.CANARA;
+    }
+
+    @Override
+    public List<CanaraBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        List<List<String>> tableRows = canaraBankStatementService.extractTableFromPdf(source);
+        log.info("🔎 Table Rows Extracted (Canara):\n" + tableRows);
+        return canaraBankStatementService.mapTableToDto(tableRows);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(CanaraBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,74 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.CityUnionBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.CityUnionBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * City Union Bank: row-local Tabula tables; the first table row of the
+ * statement is the heading.
+ */
+@Log4j2
+@Service
+public class CityUnionStatementParser implements BankStatementParser<CityUnionBankTransactionDTO>, PagedTableRoute {
+
+    private final CityUnionBankStatementService cityUnionBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+
+    public CityUnionStatementParser(CityUnionBankStatementService cityUnionBankStatementService,
+                                    TabulaExtractorService tabulaExtractorService) {
+        this.cityUnionBankStatementService = cityUnionBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "CITY_UNION";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public TablePageParser tablePageParser() {
+        return new TablePageParser() {
+            private boolean headingPending = true;
+
+            @Override
+            public List<TransactionDTO> parsePage(PdfDocumentContext context, int page) throws Exception {
+                List<List<String>> rows = tabulaExtractorService.extractPageRows(context, page);
+                List<TransactionDTO> transactions = tabulaExtractorService.cityUnionBankMapDto(rows, headingPending);
+                headingPending &= rows.isEmpty();
+                return transactions;
+            }
+        };
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_City_Union.xml";
+    }
+
+    @Override
+    public List<CityUnionBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        List<List<String>> tableRows = cityUnionBankStatementService.extractTableFromPdf(source);
+        log.info("🔎 Table Rows Extracted (CITY_UNION_BANK):\n" + tableRows);
+        return cityUnionBankStatementService.mapTableToDto(tableRows);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(CityUnionBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.FederalBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.FederalBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Federal Bank: Tabula tables whose last row on a page may continue on the
+ * next one, so it is held back until that page is read.
+ */
+@Log4j2
+@Service
+public class FederalStatementParser implements BankStatementParser<FederalBankTransactionDTO>, PagedTableRoute {
+
+    private final FederalBankStatementService federalBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+
+    public FederalStatementParser(FederalBankStatementService federalBankStatementService,
+                                  TabulaExtractorService tabulaExtractorService) {
+        this.federalBankStatementService = federalBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "FEDERAL";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public TablePageParser tablePageParser() {
+        return new TablePageParser() {
+            private TransactionDTO heldBack;
+
+            @Override
+            public List<TransactionDTO> parsePage(PdfDocumentContext context, int page) throws Exception {
+                List<List<String>> rows = tabulaExtractorService.extractFederalPageRows(context, page);
+                List<TransactionDTO> transactions = new ArrayList<>(tabulaExtractorService.FederalBankMapDto(rows, heldBack));
+                if (!transactions.isEmpty()) {
+                    if (heldBack != null) transactions.add(0, heldBack);
+                    heldBack = transactions.remove(transactions.size() - 1);
+                }
+                return transactions;
+            }
+
+            @Override
+            public List<TransactionDTO> finish() {
+                return heldBack == null ? List.of() : List.of(heldBack);
+            }
+        };
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_Fedaral.xml";
+    }
+
+    @Override
+    public List<FederalBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        List<List<String>> tableRows = federalBankStatementService.extractTableFromPdf(source, password);
+        log.info("🔎 Table Rows Extracted (Federal):\n" + tableRows);
+        return federalBankStatementService.mapFederalTableToDto(tableRows);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(FederalBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranch(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,53 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.HdfcBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.HdfcBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * HDFC Bank: no format-specific route in the universal pipeline yet, so it
+ * takes the generic OCR row parser there.
+ */
+@Log4j2
+@Service
+public class HdfcStatementParser implements BankStatementParser<HdfcBankTransactionDTO> {
+
+    private final HdfcBankStatementService hdfcBankStatementService;
+
+    public HdfcStatementParser(HdfcBankStatementService hdfcBankStatementService) {
+        this.hdfcBankStatementService = hdfcBankStatementService;
+    }
+
+    @Override
+    public String bank() {
+        return "HDFC";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TEXT;
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_HDFC.xml";
+    }
+
+    @Override
+    public List<HdfcBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        String pdfText = hdfcBankStatementService.extractTextFromPdf(source, password);
+        log.info("🔎 Extracted Text (Hdfc):\n" + pdfText);
+        return hdfcBankStatementService.extractHdfcTransaction(pdfText);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(HdfcBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranch(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), null);
+    }
+}
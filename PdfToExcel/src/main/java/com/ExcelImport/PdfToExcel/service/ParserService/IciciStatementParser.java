@@ -0,0 +1,88 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.ICICIBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.ExtractService.ICICIBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TextBasedExtractorService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ICICI Bank: whole-document Tabula mapping; the text route differs between
+ * savings and current accounts.
+ */
+@Service
+public class IciciStatementParser implements BankStatementParser<ICICIBankTransactionDTO>, TableRoute, TextRoute {
+
+    private final ICICIBankStatementService iciciBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+    private final TextBasedExtractorService textBasedExtractorService;
+
+    public IciciStatementParser(ICICIBankStatementService iciciBankStatementService,
+                                TabulaExtractorService tabulaExtractorService,
+                                TextBasedExtractorService textBasedExtractorService) {
+        this.iciciBankStatementService = iciciBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+        this.textBasedExtractorService = textBasedExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "ICICI";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public List<TransactionDTO> parseTables(PdfDocumentContext context) throws Exception {
+        return tabulaExtractorService.extractUsingTabula(context);
+    }
+
+    @Override
+    public List<TransactionDTO> parseText(PdfDocumentContext context, String text, String accountType) throws Exception {
+        if ("SAVING".equalsIgnoreCase(accountType)) {
+            // 🟢 Savings account extraction
+            return textBasedExtractorService.extractICICI(context);
+        }
+        // 🔵 Current account extraction
+        return textBasedExtractorService.extractUsingTabula(context);
+    }
+
+    @Override
+    public List<Integer> ocrPages(PdfDocumentContext context, String accountType) throws IOException {
+        // savings statements OCR every page without a usable text layer, not only the image-only ones
+        return "SAVING".equalsIgnoreCase(accountType) ? textBasedExtractorService.iciciOcrPages(context) : context.getImageOnlyPages();
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_ICICI.xml";
+    }
+
+    @Override
+    public List<Column> excelLayout() {
+        return StatementExcelLayouts.ICICI;
+    }
+
+    @Override
+    public List<ICICIBankTransactionDTO> extract(PdfSource source, String password) {
+        return iciciBankStatementService.extractUsingTabula(source);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(ICICIBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.IndianBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.IndianBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TextBasedExtractorService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Indian Bank: digital statements, parsed from the text layer.
+ */
+@Service
+public class IndianBankStatementParser implements BankStatementParser<IndianBankTransactionDTO>, TextRoute {
+
+    private final IndianBankStatementService indianBankStatementService;
+    private final TextBasedExtractorService textBasedExtractorService;
+
+    public IndianBankStatementParser(IndianBankStatementService indianBankStatementService,
+                                     TextBasedExtractorService textBasedExtractorService) {
+        this.indianBankStatementService = indianBankStatementService;
+        this.textBasedExtractorService = textBasedExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "INDIAN_BANK";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TEXT;
+    }
+
+    @Override
+    public List<TransactionDTO> parseText(PdfDocumentContext context, String text, String accountType) {
+        return textBasedExtractorService.extractTransactions(text);
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_Indian_Bank.xml";
+    }
+
+    @Override
+    public List<IndianBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        return indianBankStatementService.extractTransactionsAsDTO(source);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(IndianBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,92 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.InduslndBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.BulkheadService.EngineBulkheads.Engine;
+import com.ExcelImport.PdfToExcel.service.ExtractService.InduslndBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * IndusInd Bank: whole-document Tabula mapping. Its text route OCRs the whole
+ * document, and its OCR parser reads the text layer itself.
+ */
+@Log4j2
+@Service
+public class InduslndStatementParser implements BankStatementParser<InduslndBankTransactionDTO>, TableRoute, TextRoute, OcrRoute {
+
+    private final InduslndBankStatementService induslndBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+    private final OcrExtractService ocrExtractService;
+
+    public InduslndStatementParser(InduslndBankStatementService induslndBankStatementService,
+                                   TabulaExtractorService tabulaExtractorService,
+                                   OcrExtractService ocrExtractService) {
+        this.induslndBankStatementService = induslndBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+        this.ocrExtractService = ocrExtractService;
+    }
+
+    @Override
+    public String bank() {
+        return "INDUSLND";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public Engine engine(Route route) {
+        // the text route OCRs every page, so it queues for the OCR engine
+        return route == Route.TABULA ? Engine.TABULA : Engine.OCR;
+    }
+
+    @Override
+    public boolean fullOcrFallback() {
+        // the OCR parser reads the text layer itself, so OCR of every page cannot help
+        return false;
+    }
+
+    @Override
+    public List<TransactionDTO> parseTables(PdfDocumentContext context) throws Exception {
+        return tabulaExtractorService.extractUsingTabula(context);
+    }
+
+    @Override
+    public List<TransactionDTO> parseText(PdfDocumentContext context, String text, String accountType) throws Exception {
+        String ocrText = ocrExtractService.extractTextFromScannedPdf(context);
+        return ocrExtractService.extractTransactions(ocrText);
+    }
+
+    @Override
+    public List<TransactionDTO> parseOcr(PdfDocumentContext context, String ocrText) throws Exception {
+        return ocrExtractService.extractTransactions(context);
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_INDUSLND.xml";
+    }
+
+    @Override
+    public List<InduslndBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        List<InduslndBankTransactionDTO> transactions = induslndBankStatementService.extractTransactions(source);
+        log.info("🔎 Table Rows Extracted (Induslnd):\n" + transactions);
+        return transactions;
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(InduslndBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
@@ -0,0 +1,70 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.KvbTransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.ExtractService.KvbBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.OcrExtractService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Karur Vysya Bank: scanned statements, OCR only.
+ */
+@Log4j2
+@Service
+public class KvbStatementParser implements BankStatementParser<KvbTransactionDTO>, OcrRoute {
+
+    private final KvbBankStatementService kvbBankStatementService;
+    private final OcrExtractService ocrExtractService;
+
+    public KvbStatementParser(KvbBankStatementService kvbBankStatementService, OcrExtractService ocrExtractService) {
+        this.kvbBankStatementService = kvbBankStatementService;
+        this.ocrExtractService = ocrExtractService;
+    }
+
+    @Override
+    public String bank() {
+        return "KVB";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.OCR;
+    }
+
+    @Override
+    public List<TransactionDTO> parseOcr(PdfDocumentContext context, String ocrText) {
+        return ocrExtractService.extractTransactions(ocrText);
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_KVB.xml";
+    }
+
+    @Override
+    public List<Column> excelLayout() {
+        return StatementExcelLayouts.KVB;
+    }
+
+    @Override
+    public List<KvbTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        // OCR-based extraction
+        String ocrText = kvbBankStatementService.extractTextFromScannedPdf(source);
+        log.info("🔎 OCR Extracted Text (KVB):\n" + ocrText);
+        return kvbBankStatementService.extractTransactions(ocrText);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(KvbTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranch(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
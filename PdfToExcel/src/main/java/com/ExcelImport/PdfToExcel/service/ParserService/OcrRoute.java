@@ -0,0 +1,18 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+
+import java.util.List;
+
+/**
+ * Format-specific OCR route of a {@link BankStatementParser}; without it the
+ * pipeline reads the OCR text with the generic OCR row parser.
+ */
+public interface OcrRoute {
+
+    /**
+     * {@code ocrText} is the hybrid (or full) OCR text of the document.
+     */
+    List<TransactionDTO> parseOcr(PdfDocumentContext context, String ocrText) throws Exception;
+}
@@ -0,0 +1,29 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Table route mapped a page at a time, so the pipeline can emit rows page by page.
+ */
+public interface PagedTableRoute extends TableRoute {
+
+    /**
+     * Fresh page parser for one document.
+     */
+    TablePageParser tablePageParser();
+
+    @Override
+    default List<TransactionDTO> parseTables(PdfDocumentContext context) throws Exception {
+        TablePageParser pages = tablePageParser();
+        List<TransactionDTO> transactions = new ArrayList<>();
+        for (int page = 1; page <= context.getPageCount(); page++) {
+            transactions.addAll(pages.parsePage(context, page));
+        }
+        transactions.addAll(pages.finish());
+        return transactions;
+    }
+}
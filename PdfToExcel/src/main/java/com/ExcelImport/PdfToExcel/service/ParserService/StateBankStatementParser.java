@@ -0,0 +1,68 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionResponseDTO;
+import com.ExcelImport.PdfToExcel.dto.StateBankTransactionDTO;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementExcelLayouts;
+import com.ExcelImport.PdfToExcel.service.ExcelService.StatementWorkbookWriter.Column;
+import com.ExcelImport.PdfToExcel.service.ExtractService.StateBankStatementService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfSource;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TabulaExtractorService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * State Bank of India: row-local Tabula tables.
+ */
+@Log4j2
+@Service
+public class StateBankStatementParser implements BankStatementParser<StateBankTransactionDTO>, PagedTableRoute {
+
+    private final StateBankStatementService stateBankStatementService;
+    private final TabulaExtractorService tabulaExtractorService;
+
+    public StateBankStatementParser(StateBankStatementService stateBankStatementService,
+                                    TabulaExtractorService tabulaExtractorService) {
+        this.stateBankStatementService = stateBankStatementService;
+        this.tabulaExtractorService = tabulaExtractorService;
+    }
+
+    @Override
+    public String bank() {
+        return "SBI";
+    }
+
+    @Override
+    public Route preferredRoute() {
+        return Route.TABULA;
+    }
+
+    @Override
+    public TablePageParser tablePageParser() {
+        return (context, page) -> tabulaExtractorService.statebankMapDto(tabulaExtractorService.extractPageRows(context, page));
+    }
+
+    @Override
+    public String tallyFileName() {
+        return "TallyImport_SBI.xml";
+    }
+
+    @Override
+    public List<Column> excelLayout() {
+        return StatementExcelLayouts.SBI;
+    }
+
+    @Override
+    public List<StateBankTransactionDTO> extract(PdfSource source, String password) throws Exception {
+        List<List<String>> tableRows = stateBankStatementService.extractTableFromPdf(source, password);
+        log.info("🔎 Table Rows Extracted (SBI):\n" + tableRows);
+        return stateBankStatementService.mapTableToDto(tableRows);
+    }
+
+    @Override
+    public TransactionResponseDTO toResponse(StateBankTransactionDTO tx) {
+        return new TransactionResponseDTO(tx.getTransactionDate(), tx.getValueDate(), tx.getChequeNo(), tx.getBranchCode(),
+                tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getBalance(), tx.getVoucherName(), tx.getLedgerName());
+    }
+}
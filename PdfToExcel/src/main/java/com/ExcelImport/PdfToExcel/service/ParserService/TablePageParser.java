@@ -0,0 +1,24 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+
+import java.util.List;
+
+/**
+ * Table route of one document, a page at a time. Pages are handed in order;
+ * rows returned by {@link #parsePage} are final and go to the sink right away.
+ * State carried across pages (a heading still to skip, a row that may continue
+ * on the next page) lives in the instance, so each document gets its own.
+ */
+public interface TablePageParser {
+
+    List<TransactionDTO> parsePage(PdfDocumentContext context, int page) throws Exception;
+
+    /**
+     * Rows held back after the last page.
+     */
+    default List<TransactionDTO> finish() {
+        return List.of();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+
+import java.util.List;
+
+/**
+ * Table (Tabula) route of a {@link BankStatementParser}. Formats whose rows
+ * can be mapped a page at a time implement {@link PagedTableRoute} instead.
+ */
+public interface TableRoute {
+
+    /**
+     * Rows of the whole document.
+     */
+    List<TransactionDTO> parseTables(PdfDocumentContext context) throws Exception;
+}
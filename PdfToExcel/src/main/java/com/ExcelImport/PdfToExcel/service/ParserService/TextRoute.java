@@ -0,0 +1,27 @@
+package com.ExcelImport.PdfToExcel.service.ParserService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.PdfDocumentContext;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Text-layer route of a {@link BankStatementParser}.
+ */
+public interface TextRoute {
+
+    /**
+     * {@code text} is the cleaned text layer of the document.
+     */
+    List<TransactionDTO> parseText(PdfDocumentContext context, String text, String accountType) throws Exception;
+
+    /**
+     * 1-based pages the text route reads from OCR. The pipeline OCRs them
+     * under the OCR bulkhead before the text stage, which then finds their
+     * text in the context.
+     */
+    default List<Integer> ocrPages(PdfDocumentContext context, String accountType) throws IOException {
+        return context.getImageOnlyPages();
+    }
+}
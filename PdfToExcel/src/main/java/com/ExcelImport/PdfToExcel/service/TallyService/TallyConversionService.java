@@ -1,129 +1,85 @@
 package com.ExcelImport.PdfToExcel.service.TallyService;
 
-import com.ExcelImport.PdfToExcel.dto.CanaraBankTransactionDTO;
-import com.ExcelImport.PdfToExcel.dto.KvbTransactionDTO;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
 
 
+@Log4j2
 @Service
 public class TallyConversionService {
 
-    public byte[] generateTallyXml(String jsonData, String bankName,String typeBank) throws Exception {
-        StringBuilder xml = new StringBuilder();
-        xml.append("<ENVELOPE>\n")
-                .append("<HEADER><TALLYREQUEST>Import Data</TALLYREQUEST></HEADER>\n")
-                .append("<BODY><IMPORTDATA>\n")
-                .append("<REQUESTDESC><REPORTNAME>Vouchers</REPORTNAME></REQUESTDESC>\n")
-                .append("<REQUESTDATA>\n");
-
-        ObjectMapper mapper = new ObjectMapper();
-        List<Map<String, Object>> transactions = mapper.readValue(jsonData, new TypeReference<>(){});
-
-        int counter = 1;
-        SimpleDateFormat inputDate = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-        SimpleDateFormat tallyDate = new SimpleDateFormat("yyyyMMdd");
-
-        for (Map<String, Object> tx : transactions) {
-            String date = (String) tx.get("transactionDate");
-            String narration = (String) tx.get("description");
-            String debit = (String) tx.get("debit");
-            String credit = (String) tx.get("credit");
-            String voucherName = (String) tx.get("voucherType");
-
-
-            boolean isCredit = credit != null && !credit.equals("-") && !credit.isEmpty();
-            String amount = isCredit ? credit : debit;
-            if (amount == null || amount.equals("-") || amount.isEmpty()) continue;
-
-            amount = amount.replaceAll(",", "").trim();
-            String formattedDate;
-
-            formattedDate = simpleTallyDate(date);
-
-
-            String voucherNumber = String.valueOf(counter);
-            String guid = "GUID-" + voucherNumber;
-
-                xml.append("<TALLYMESSAGE xmlns:UDF=\"TallyUDF\">\n")
-                    .append("<VOUCHER VCHTYPE=\"").append(voucherName)
-                    .append("\" ACTION=\"Create\" OBJVIEW=\"Accounting Voucher View\">\n")
-                    .append("<GUID>").append(guid).append("</GUID>\n")
-                    .append("<DATE>").append(formattedDate).append("</DATE>\n")
-                    .append("<VOUCHERNUMBER>").append(voucherNumber).append("</VOUCHERNUMBER>\n")
-                    .append("<NARRATION>").append(escapeXml(narration)).append("</NARRATION>\n")
-                    .append("<VOUCHERTYPENAME>").append(escapeXml(voucherName)).append("</VOUCHERTYPENAME>\n")
-                    .append("<PARTYLEDGERNAME>").append(bankName).append("</PARTYLEDGERNAME>\n")
-                    .append("<PERSISTEDVIEW>Accounting Voucher View</PERSISTEDVIEW>\n")
-
-                    // Suspense Ledger
-                    .append("<ALLLEDGERENTRIES.LIST>\n")
-                    .append("<LEDGERNAME>SUSPENSE</LEDGERNAME>\n")
-                    .append("<ISDEEMEDPOSITIVE>").append(isCredit ? "No" : "Yes").append("</ISDEEMEDPOSITIVE>\n")
-                    .append("<AMOUNT>").append(isCredit ? amount : "-" + amount).append("</AMOUNT>\n")
-                    .append("</ALLLEDGERENTRIES.LIST>\n")
-
-                    // Bank Ledger
-                    .append("<ALLLEDGERENTRIES.LIST>\n")
-                    .append("<LEDGERNAME>").append(typeBank.toUpperCase()).append("</LEDGERNAME>\n")
-                    .append("<ISDEEMEDPOSITIVE>").append(isCredit ? "Yes" : "No").append("</ISDEEMEDPOSITIVE>\n")
-                    .append("<AMOUNT>").append(isCredit ? "-" + amount : amount).append("</AMOUNT>\n")
-                    .append("</ALLLEDGERENTRIES.LIST>\n")
+    private final JsonFactory jsonFactory = new JsonFactory();
 
-                    .append("</VOUCHER>\n</TALLYMESSAGE>\n");
-
-            counter++;
-        }
-
-        xml.append("</REQUESTDATA></IMPORTDATA></BODY></ENVELOPE>");
-        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    public byte[] generateTallyXml(String jsonData, String bankName,String typeBank) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTallyXml(new StringReader(jsonData), out, bankName, typeBank);
+        return out.toByteArray();
     }
 
-    private String escapeXml(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&apos;");
+    // ===========================================================
+    // 🔹 Direct conversion: extraction sink → Tally XML out (no JSON round trip)
+    // ===========================================================
+    public TallyXmlSink openSink(OutputStream out, String bankName, String typeBank) {
+        return new TallyXmlSink(out, bankName, typeBank);
     }
 
-    private String simpleTallyDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return "";
-        }
-
-        // Normalize new line and multiple spaces
-        dateStr = dateStr.replace("\n", " ").replaceAll("\\s+", " ").trim();
+    // ===========================================================
+    // 🔹 Streaming conversion: JSON array in → Tally XML out, one voucher at a time
+    // ===========================================================
+    public int writeTallyXml(Reader jsonData, OutputStream out, String bankName, String typeBank) throws Exception {
+        TallyXmlWriter writer = TallyXmlWriter.open(out, bankName, typeBank);
 
-        SimpleDateFormat tallyFormat = new SimpleDateFormat("yyyyMMdd");
-
-        SimpleDateFormat[] inputFormats = {
-                new SimpleDateFormat("dd-MM-yyyy HH:mm:ss"),
-                new SimpleDateFormat("dd/MM/yyyy"),
-                new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH),
-                new SimpleDateFormat("dd-MM-yyyy")
-        };
+        try (JsonParser parser = jsonFactory.createParser(jsonData)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of transactions");
+            }
 
-        for (SimpleDateFormat inputFormat : inputFormats) {
-            try {
-                return tallyFormat.format(inputFormat.parse(dateStr));
-            } catch (ParseException ignored) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String date = null, narration = null, debit = null, credit = null, voucherName = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value.isStructStart()) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    switch (field) {
+                        case "transactionDate":
+                            date = parser.getValueAsString();
+                            break;
+                        case "description":
+                            narration = parser.getValueAsString();
+                            break;
+                        case "debit":
+                            debit = parser.getValueAsString();
+                            break;
+                        case "credit":
+                            credit = parser.getValueAsString();
+                            break;
+                        case "voucherType":
+                            voucherName = parser.getValueAsString();
+                            break;
+                        default:
+                            break;
+                    }
+                }
+
+                writer.append(date, narration, debit, credit, voucherName);
             }
         }
 
-        return "";
+        writer.finish();
+        log.info("🧾 Tally XML written — {} vouchers for {}", writer.getVoucherCount(), bankName);
+        return writer.getVoucherCount();
     }
-
-
-
-
 }
@@ -0,0 +1,77 @@
+package com.ExcelImport.PdfToExcel.service.TallyService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.TransactionSink;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Extraction sink that turns transactions into Tally vouchers as they are
+ * extracted. The envelope is opened on the first rows, so an extraction that
+ * fails before producing anything has written nothing and can still be
+ * answered with an error status.
+ */
+public class TallyXmlSink implements TransactionSink {
+
+    private final OutputStream out;
+    private final String bankName;
+    private final String typeBank;
+    private TallyXmlWriter writer;
+
+    TallyXmlSink(OutputStream out, String bankName, String typeBank) {
+        this.out = out;
+        this.bankName = bankName;
+        this.typeBank = typeBank;
+    }
+
+    @Override
+    public void accept(List<TransactionDTO> transactions) throws IOException {
+        try {
+            if (writer == null) {
+                writer = TallyXmlWriter.open(out, bankName, typeBank);
+            }
+            for (TransactionDTO tx : transactions) {
+                writer.append(tx);
+            }
+            out.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("Tally XML generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void accept(TransactionBatch transactions) throws IOException {
+        try {
+            if (writer == null) {
+                writer = TallyXmlWriter.open(out, bankName, typeBank);
+            }
+            for (int row = 0; row < transactions.size(); row++) {
+                writer.append(transactions, row);
+            }
+            out.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("Tally XML generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Close the envelope (an empty one if nothing was extracted).
+     *
+     * @return number of vouchers written
+     */
+    public int finish() throws IOException {
+        try {
+            if (writer == null) {
+                writer = TallyXmlWriter.open(out, bankName, typeBank);
+            }
+            writer.finish();
+            return writer.getVoucherCount();
+        } catch (XMLStreamException e) {
+            throw new IOException("Tally XML generation failed: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.ExcelImport.PdfToExcel.service.TallyService;
+
+import com.ExcelImport.PdfToExcel.dto.Money;
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch.Field;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Writes a Tally "Import Data" envelope voucher by voucher with StAX, straight
+ * to an output stream — nothing but the current voucher is held in memory.
+ * <p>
+ * Lifecycle: {@link #open} writes the envelope header, {@link #append} one
+ * {@code TALLYMESSAGE} per transaction with an amount, {@link #finish} closes
+ * the envelope. Not thread-safe; one writer per document.
+ */
+public class TallyXmlWriter {
+
+    private final XMLStreamWriter xml;
+    private String bankName;
+    private String bankLedger;
+    private int counter = 1;
+
+    private final SimpleDateFormat tallyFormat = new SimpleDateFormat("yyyyMMdd");
+    private final SimpleDateFormat[] inputFormats = {
+            new SimpleDateFormat("dd-MM-yyyy HH:mm:ss"),
+            new SimpleDateFormat("dd/MM/yyyy"),
+            new SimpleDateFormat("dd MMM yyyy", Locale.ENGLISH),
+            new SimpleDateFormat("dd-MM-yyyy")
+    };
+
+    private TallyXmlWriter(XMLStreamWriter xml, String bankName, String typeBank) {
+        this.xml = xml;
+        this.bankName = bankName;
+        this.bankLedger = typeBank.toUpperCase();
+    }
+
+    public static TallyXmlWriter open(OutputStream out, String bankName, String typeBank) throws XMLStreamException {
+        XMLStreamWriter xml = XMLOutputFactory.newFactory().createXMLStreamWriter(out, "UTF-8");
+        TallyXmlWriter writer = new TallyXmlWriter(xml, bankName, typeBank);
+        writer.writeHeader();
+        return writer;
+    }
+
+    private void writeHeader() throws XMLStreamException {
+        xml.writeStartElement("ENVELOPE");
+        newLine();
+        xml.writeStartElement("HEADER");
+        element("TALLYREQUEST", "Import Data", false);
+        xml.writeEndElement();
+        newLine();
+        xml.writeStartElement("BODY");
+        xml.writeStartElement("IMPORTDATA");
+        newLine();
+        xml.writeStartElement("REQUESTDESC");
+        element("REPORTNAME", "Vouchers", false);
+        xml.writeEndElement();
+        newLine();
+        xml.writeStartElement("REQUESTDATA");
+        newLine();
+    }
+
+    /**
+     * Write one voucher; transactions without a debit or credit amount are
+     * skipped and do not consume a voucher number. A zero credit ("0.00")
+     * does not hide the debit.
+     */
+    public void append(String date, String narration, String debit, String credit, String voucherName) throws XMLStreamException {
+        voucher(date, TransactionBatch.NO_DATE, narration, Money.parsePaise(debit), Money.parsePaise(credit), voucherName);
+    }
+
+    public void append(TransactionDTO tx) throws XMLStreamException {
+        append(tx.getTransactionDate(), tx.getDescription(), tx.getDebit(), tx.getCredit(), tx.getVoucherType());
+    }
+
+    /**
+     * Voucher for one batch row, read from the columns: amounts are already
+     * paise and numeric dates are not re-parsed.
+     */
+    public void append(TransactionBatch batch, int row) throws XMLStreamException {
+        int epochDay = batch.epochDay(row, Field.TRANSACTION_DATE);
+        String date = epochDay == TransactionBatch.NO_DATE ? batch.text(row, Field.TRANSACTION_DATE) : null;
+        voucher(date, epochDay, batch.text(row, Field.DESCRIPTION), batch.paise(row, Field.DEBIT),
+                batch.paise(row, Field.CREDIT), batch.text(row, Field.VOUCHER_TYPE));
+    }
+
+    private void voucher(String date, int epochDay, String narration, long debitPaise, long creditPaise,
+                         String voucherName) throws XMLStreamException {
+        boolean isCredit = creditPaise != Money.NONE && (creditPaise != 0 || debitPaise == Money.NONE || debitPaise == 0);
+        long paise = isCredit ? creditPaise : debitPaise;
+        if (paise == Money.NONE) return;
+
+        // the column gives the direction; Tally wants the plain magnitude
+        String amount = Money.toPlainString(Math.abs(paise));
+        String voucherNumber = String.valueOf(counter);
+
+        xml.writeStartElement("TALLYMESSAGE");
+        xml.writeNamespace("UDF", "TallyUDF");
+        newLine();
+        xml.writeStartElement("VOUCHER");
+        xml.writeAttribute("VCHTYPE", String.valueOf(voucherName));
+        xml.writeAttribute("ACTION", "Create");
+        xml.writeAttribute("OBJVIEW", "Accounting Voucher View");
+        newLine();
+        element("GUID", "GUID-" + voucherNumber, true);
+        element("DATE", epochDay != TransactionBatch.NO_DATE
+                ? LocalDate.ofEpochDay(epochDay).format(DateTimeFormatter.BASIC_ISO_DATE)
+                : simpleTallyDate(date), true);
+        element("VOUCHERNUMBER", voucherNumber, true);
+        element("NARRATION", narration, true);
+        element("VOUCHERTYPENAME", voucherName, true);
+        element("PARTYLEDGERNAME", bankName, true);
+        element("PERSISTEDVIEW", "Accounting Voucher View", true);
+
+        // Suspense Ledger
+        ledgerEntry("SUSPENSE", isCredit ? "No" : "Yes", isCredit ? amount : "-" + amount);
+
+        // Bank Ledger
+        ledgerEntry(bankLedger, isCredit ? "Yes" : "No", isCredit ? "-" + amount : amount);
+
+        xml.writeEndElement(); // VOUCHER
+        newLine();
+        xml.writeEndElement(); // TALLYMESSAGE
+        newLine();
+
+        counter++;
+    }
+
+    /**
+     * Switch party/bank ledger for the following vouchers (merged batch
+     * envelopes); voucher numbering continues.
+     */
+    public void setBank(String bankName, String typeBank) {
+        this.bankName = bankName;
+        this.bankLedger = typeBank.toUpperCase();
+    }
+
+    public int getVoucherCount() {
+        return counter - 1;
+    }
+
+    public void finish() throws XMLStreamException {
+        xml.writeEndElement(); // REQUESTDATA
+        xml.writeEndElement(); // IMPORTDATA
+        xml.writeEndElement(); // BODY
+        xml.writeEndElement(); // ENVELOPE
+        xml.flush();
+        xml.close(); // does not close the underlying stream
+    }
+
+    private void ledgerEntry(String ledgerName, String deemedPositive, String amount) throws XMLStreamException {
+        xml.writeStartElement("ALLLEDGERENTRIES.LIST");
+        newLine();
+        element("LEDGERNAME", ledgerName, true);
+        element("ISDEEMEDPOSITIVE", deemedPositive, true);
+        element("AMOUNT", amount, true);
+        xml.writeEndElement();
+        newLine();
+    }
+
+    private void element(String name, String text, boolean lineBreak) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text == null ? "" : text);
+        xml.writeEndElement();
+        if (lineBreak) newLine();
+    }
+
+    private void newLine() throws XMLStreamException {
+        xml.writeCharacters("\n");
+    }
+
+    private String simpleTallyDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            return "";
+        }
+
+        // Normalize new line and multiple spaces
+        dateStr = dateStr.replace("\n", " ").replaceAll("\\s+", " ").trim();
+
+        for (SimpleDateFormat inputFormat : inputFormats) {
+            try {
+                return tallyFormat.format(inputFormat.parse(dateStr));
+            } catch (ParseException ignored) {
+            }
+        }
+
+        return "";
+    }
+}
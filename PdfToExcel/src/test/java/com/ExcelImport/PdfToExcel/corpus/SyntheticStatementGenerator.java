@@ -0,0 +1,554 @@
+package com.ExcelImport.PdfToExcel.corpus;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Image;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfWriter;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Writes synthetic bank statements shaped like the layouts the extractors
+ * handle, so load and regression tests never need real customer PDFs.
+ * <p>
+ * Every layout can be written as
+ * <ul>
+ *     <li>{@link Variant#TABLE} — ruled grid, text layer (Tabula lattice route)</li>
+ *     <li>{@link Variant#TEXT} — column-positioned text without rules (text route)</li>
+ *     <li>{@link Variant#IMAGE} — the ruled page rasterised, no text layer (OCR route)</li>
+ * </ul>
+ * with any number of pages and rows per page, optionally AES-128 password
+ * protected. Output is deterministic for a given {@link Spec}.
+ * <p>
+ * Whole corpus from the command line:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ExcelImport.PdfToExcel.corpus.SyntheticStatementGenerator \
+ *     -Dexec.args="target/corpus 5 30 secret"
+ * </pre>
+ */
+public final class SyntheticStatementGenerator {
+
+    public enum Variant {
+        TABLE, TEXT, IMAGE
+    }
+
+    private enum Field {
+        DATE, VALUE_DATE, NARRATION, REFERENCE, CHEQUE, BRANCH, TYPE, DEBIT, CREDIT, BALANCE, ZERO
+    }
+
+    private record Column(String header, Field field, float width) {
+    }
+
+    // ===========================================================
+    // 🔹 Bank layouts (column order, headings and date format per bank)
+    // ===========================================================
+    public enum Layout {
+        SBI("STATE BANK OF INDIA", "dd MMM yyyy", "",
+                col("Txn Date", Field.DATE, 9), col("Value Date", Field.VALUE_DATE, 9),
+                col("Description", Field.NARRATION, 30), col("Ref No./Cheque No.", Field.REFERENCE, 14),
+                col("Branch Code", Field.BRANCH, 7), col("Debit", Field.DEBIT, 10),
+                col("Credit", Field.CREDIT, 10), col("Balance", Field.BALANCE, 11)),
+        CANARA("CANARA BANK", "dd-MM-yyyy", "",
+                col("Txn Date", Field.DATE, 9), col("Value Date", Field.VALUE_DATE, 9),
+                col("Cheque No.", Field.CHEQUE, 8), col("Description", Field.NARRATION, 34),
+                col("Branch Code", Field.BRANCH, 7), col("Debit", Field.DEBIT, 11),
+                col("Credit", Field.CREDIT, 11), col("Balance", Field.BALANCE, 11)),
+        FEDERAL("THE FEDERAL BANK LTD", "dd/MM/yyyy", "",
+                col("Date", Field.DATE, 8), col("Value Date", Field.VALUE_DATE, 8),
+                col("Particulars", Field.NARRATION, 28), col("Tran Type", Field.TYPE, 6),
+                col("Tran ID", Field.REFERENCE, 11), col("Cheque Details", Field.CHEQUE, 8),
+                col("Withdrawals", Field.DEBIT, 10), col("Deposits", Field.CREDIT, 10),
+                col("Balance", Field.BALANCE, 11)),
+        ICICI("ICICI BANK LIMITED", "dd-MM-yyyy", "",
+                col("Date", Field.DATE, 9), col("Particulars", Field.NARRATION, 33),
+                col("Chq.No", Field.CHEQUE, 7), col("Withdrawals", Field.DEBIT, 10),
+                col("Deposits", Field.CREDIT, 10), col("Autosweep", Field.ZERO, 9),
+                col("Reverse Sweep", Field.ZERO, 9), col("Balance", Field.BALANCE, 12)),
+        INDUSLND("INDUSIND BANK", "dd MMM yyyy", "-",
+                col("Date", Field.DATE, 10), col("Type", Field.TYPE, 8),
+                col("Description", Field.NARRATION, 42), col("Debit", Field.DEBIT, 13),
+                col("Credit", Field.CREDIT, 13), col("Balance", Field.BALANCE, 14)),
+        CITY_UNION("CITY UNION BANK", "dd/MM/yyyy", "",
+                col("DATE", Field.DATE, 10), col("DESCRIPTION", Field.NARRATION, 42),
+                col("CHEQUE", Field.CHEQUE, 9), col("DEBIT", Field.DEBIT, 13),
+                col("CREDIT", Field.CREDIT, 13), col("BALANCE", Field.BALANCE, 13)),
+        INDIAN_BANK("INDIAN BANK", "dd MMM yyyy", "-",
+                col("Date", Field.DATE, 11), col("Transaction Details", Field.NARRATION, 47),
+                col("Debits", Field.DEBIT, 14), col("Credits", Field.CREDIT, 14),
+                col("Balance", Field.BALANCE, 14)),
+        HDFC("HDFC BANK LTD", "dd/MM/yy", "",
+                col("Date", Field.DATE, 7), col("Narration", Field.NARRATION, 38),
+                col("Chq./Ref.No.", Field.REFERENCE, 14), col("Value Dt", Field.VALUE_DATE, 7),
+                col("Withdrawal Amt.", Field.DEBIT, 11), col("Deposit Amt.", Field.CREDIT, 11),
+                col("Closing Balance", Field.BALANCE, 12)),
+        KVB("KARUR VYSYA BANK", "dd-MM-yyyy", "",
+                col("Txn Date", Field.DATE, 9), col("Value Date", Field.VALUE_DATE, 9),
+                col("Branch", Field.BRANCH, 7), col("Cheque No.", Field.CHEQUE, 8),
+                col("Description", Field.NARRATION, 34), col("Debit", Field.DEBIT, 11),
+                col("Credit", Field.CREDIT, 11), col("Balance", Field.BALANCE, 11));
+
+        private final String bankName;
+        private final DateTimeFormatter dateFormat;
+        private final String emptyAmount;
+        private final List<Column> columns;
+
+        Layout(String bankName, String datePattern, String emptyAmount, Column... columns) {
+            this.bankName = bankName;
+            this.dateFormat = DateTimeFormatter.ofPattern(datePattern, Locale.ENGLISH);
+            this.emptyAmount = emptyAmount;
+            this.columns = List.of(columns);
+        }
+
+        /**
+         * Variant a real statement of this bank usually arrives as (KVB statements are scans).
+         */
+        public Variant defaultVariant() {
+            return this == KVB ? Variant.IMAGE : Variant.TABLE;
+        }
+    }
+
+    private static Column col(String header, Field field, float width) {
+        return new Column(header, field, width);
+    }
+
+    // ===========================================================
+    // 🔹 What to generate
+    // ===========================================================
+    public static final class Spec {
+
+        private final Layout layout;
+        private Variant variant;
+        private int pages = 3;
+        private int rowsPerPage = 30;
+        private String password;
+        private long seed = 20240401L;
+        private int imageDpi = 200;
+
+        private Spec(Layout layout) {
+            this.layout = layout;
+            this.variant = layout.defaultVariant();
+        }
+
+        public static Spec of(Layout layout) {
+            return new Spec(layout);
+        }
+
+        public Spec variant(Variant variant) {
+            this.variant = variant;
+            return this;
+        }
+
+        public Spec pages(int pages) {
+            this.pages = pages;
+            return this;
+        }
+
+        public Spec rowsPerPage(int rowsPerPage) {
+            this.rowsPerPage = rowsPerPage;
+            return this;
+        }
+
+        /**
+         * User password; the PDF is AES-128 encrypted when set.
+         */
+        public Spec password(String password) {
+            this.password = password;
+            return this;
+        }
+
+        public Spec seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Spec imageDpi(int imageDpi) {
+            this.imageDpi = imageDpi;
+            return this;
+        }
+
+        public Layout getLayout() {
+            return layout;
+        }
+
+        public Variant getVariant() {
+            return variant;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public int getRowCount() {
+            return pages * rowsPerPage;
+        }
+
+        public String fileName() {
+            return layout.name() + "_" + variant.name() + "_" + pages + "p_" + rowsPerPage + "r"
+                    + (password != null ? "_encrypted" : "") + ".pdf";
+        }
+    }
+
+    // ===========================================================
+    // 🔹 Page geometry (points, origin top-left; renderers flip as needed)
+    // ===========================================================
+    private static final float PAGE_WIDTH = 842f; // A4 landscape
+    private static final float MARGIN = 36f;
+    private static final float ROW_HEIGHT = 14f;
+    private static final float HEADER_HEIGHT = 78f;
+    private static final float FONT_SIZE = 7f;
+    private static final float CELL_PADDING = 2.5f;
+
+    private static final String[] PAYEES = {
+            "RAVI KUMAR", "ACME TRADERS", "SRI LAKSHMI STORES", "KAVYA ENTERPRISES",
+            "TNEB CHENNAI", "AMAZON PAY", "SWIGGY", "LIC OF INDIA", "GST PAYMENT", "SALARY MAR"
+    };
+    private static final String[] CHANNELS = {"UPI", "NEFT", "IMPS", "RTGS", "ATM", "POS", "ACH"};
+
+    public Path write(Spec spec, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(spec, out);
+        }
+        return file;
+    }
+
+    public void write(Spec spec, OutputStream out) throws IOException {
+        List<Row> rows = rows(spec);
+        float pageHeight = Math.max(595f, HEADER_HEIGHT + ROW_HEIGHT * (spec.rowsPerPage + 1) + 2 * MARGIN);
+        Document document = new Document(new Rectangle(PAGE_WIDTH, pageHeight), 0, 0, 0, 0);
+
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            if (spec.password != null) {
+                writer.setEncryption(spec.password.getBytes(StandardCharsets.UTF_8),
+                        ("owner-" + spec.password).getBytes(StandardCharsets.UTF_8),
+                        PdfWriter.ALLOW_PRINTING | PdfWriter.ALLOW_COPY, PdfWriter.ENCRYPTION_AES_128);
+            }
+            document.open();
+
+            BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+            BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+
+            for (int page = 0; page < spec.pages; page++) {
+                if (page > 0) {
+                    document.newPage();
+                }
+                List<Row> pageRows = rows.subList(page * spec.rowsPerPage, (page + 1) * spec.rowsPerPage);
+                PdfContentByte canvas = writer.getDirectContent();
+
+                if (spec.variant == Variant.IMAGE) {
+                    BufferedImage scan = new BufferedImage(
+                            Math.round(PAGE_WIDTH * spec.imageDpi / 72f), Math.round(pageHeight * spec.imageDpi / 72f),
+                            BufferedImage.TYPE_BYTE_GRAY);
+                    Graphics2D graphics = scan.createGraphics();
+                    try {
+                        drawPage(new ImageCanvas(graphics, spec.imageDpi / 72f), spec, pageRows, page, true);
+                    } finally {
+                        graphics.dispose();
+                    }
+                    Image image = Image.getInstance(png(scan));
+                    canvas.addImage(image, PAGE_WIDTH, 0, 0, pageHeight, 0, 0);
+                } else {
+                    drawPage(new PdfCanvas(canvas, regular, bold, pageHeight), spec, pageRows, page,
+                            spec.variant == Variant.TABLE);
+                }
+            }
+        } catch (DocumentException e) {
+            throw new IOException("Statement generation failed: " + e.getMessage(), e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    /**
+     * One PDF per layout and variant, plus an encrypted table variant of each
+     * layout when {@code password} is given.
+     */
+    public List<Path> writeCorpus(Path dir, int pages, int rowsPerPage, String password) throws IOException {
+        Files.createDirectories(dir);
+        List<Path> files = new ArrayList<>();
+        for (Layout layout : Layout.values()) {
+            for (Variant variant : Variant.values()) {
+                Spec spec = Spec.of(layout).variant(variant).pages(pages).rowsPerPage(rowsPerPage);
+                files.add(write(spec, dir.resolve(spec.fileName())));
+            }
+            if (password != null) {
+                Spec spec = Spec.of(layout).pages(pages).rowsPerPage(rowsPerPage).password(password);
+                files.add(write(spec, dir.resolve(spec.fileName())));
+            }
+        }
+        return files;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "target/corpus");
+        int pages = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int rowsPerPage = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String password = args.length > 3 ? args[3] : null;
+
+        List<Path> files = new SyntheticStatementGenerator().writeCorpus(dir, pages, rowsPerPage, password);
+        System.out.println("Wrote " + files.size() + " statements to " + dir.toAbsolutePath());
+    }
+
+    // ===========================================================
+    // 🔹 Layout (shared by the text-layer and rasterised renderers)
+    // ===========================================================
+    private void drawPage(Canvas canvas, Spec spec, List<Row> rows, int page, boolean ruled) {
+        Layout layout = spec.layout;
+        float tableWidth = PAGE_WIDTH - 2 * MARGIN;
+        float totalWeight = 0;
+        for (Column column : layout.columns) {
+            totalWeight += column.width();
+        }
+
+        float y = MARGIN;
+        canvas.text(layout.bankName, MARGIN, y + 12, 12, true, false);
+        canvas.text("Account Statement  —  A/c No. 5012 3456 7890  —  Customer: SYNTHETIC TEST DATA",
+                MARGIN, y + 28, 8, false, false);
+        canvas.text("Period: " + layout.dateFormat.format(rows.get(0).date()) + " to "
+                + layout.dateFormat.format(rows.get(rows.size() - 1).date()), MARGIN, y + 40, 8, false, false);
+        y += HEADER_HEIGHT - ROW_HEIGHT;
+
+        float[] edges = new float[layout.columns.size() + 1];
+        edges[0] = MARGIN;
+        for (int i = 0; i < layout.columns.size(); i++) {
+            edges[i + 1] = edges[i] + tableWidth * layout.columns.get(i).width() / totalWeight;
+        }
+
+        float top = y;
+        drawRow(canvas, layout, edges, y, header(layout), true);
+        for (Row row : rows) {
+            y += ROW_HEIGHT;
+            drawRow(canvas, layout, edges, y, cells(layout, row), false);
+        }
+        float bottom = y + ROW_HEIGHT;
+
+        if (ruled) {
+            for (float lineY = top; lineY <= bottom + 0.01f; lineY += ROW_HEIGHT) {
+                canvas.line(edges[0], lineY, edges[edges.length - 1], lineY);
+            }
+            for (float edge : edges) {
+                canvas.line(edge, top, edge, bottom);
+            }
+        }
+
+        canvas.text("Page " + (page + 1) + " of " + spec.pages, PAGE_WIDTH - MARGIN - 50, bottom + 20, 7, false, false);
+    }
+
+    private void drawRow(Canvas canvas, Layout layout, float[] edges, float top, List<String> cells, boolean header) {
+        float baseline = top + ROW_HEIGHT - 4;
+        for (int i = 0; i < cells.size(); i++) {
+            Field field = layout.columns.get(i).field();
+            boolean amount = !header && (field == Field.DEBIT || field == Field.CREDIT || field == Field.BALANCE || field == Field.ZERO);
+            float width = edges[i + 1] - edges[i] - 2 * CELL_PADDING;
+            String text = canvas.fit(cells.get(i), width, FONT_SIZE, header);
+            float x = amount ? edges[i + 1] - CELL_PADDING : edges[i] + CELL_PADDING;
+            canvas.text(text, x, baseline, FONT_SIZE, header, amount);
+        }
+    }
+
+    private static List<String> header(Layout layout) {
+        return layout.columns.stream().map(Column::header).toList();
+    }
+
+    private static List<String> cells(Layout layout, Row row) {
+        List<String> cells = new ArrayList<>(layout.columns.size());
+        for (Column column : layout.columns) {
+            cells.add(switch (column.field()) {
+                case DATE, VALUE_DATE -> layout.dateFormat.format(row.date());
+                case NARRATION -> row.channel() + "/" + row.reference() + "/" + row.payee();
+                case REFERENCE -> row.reference();
+                case CHEQUE -> row.cheque();
+                case BRANCH -> "4471";
+                case TYPE -> row.creditPaise() > 0 ? "CR" : "DR";
+                case DEBIT -> row.debitPaise() > 0 ? amount(row.debitPaise()) : layout.emptyAmount;
+                case CREDIT -> row.creditPaise() > 0 ? amount(row.creditPaise()) : layout.emptyAmount;
+                case BALANCE -> amount(row.balancePaise());
+                case ZERO -> "0.00";
+            });
+        }
+        return cells;
+    }
+
+    // ===========================================================
+    // 🔹 Rows (seeded, so a Spec always yields the same statement)
+    // ===========================================================
+    private record Row(LocalDate date, String channel, String reference, String payee,
+                       long debitPaise, long creditPaise, long balancePaise, String cheque) {
+    }
+
+    private static List<Row> rows(Spec spec) {
+        Random random = new Random(spec.seed);
+        int count = spec.getRowCount();
+        List<Row> rows = new ArrayList<>(count);
+        LocalDate start = LocalDate.of(2024, 4, 1);
+        long balance = 1_50_000_00L;
+        for (int i = 0; i < count; i++) {
+            // credits are rarer but larger, so the balance drifts upwards and never pins at zero
+            boolean credit = random.nextInt(3) == 0;
+            long amount = 100 + random.nextInt(credit ? 2_00_000_00 : 50_000_00);
+            long debit = credit ? 0 : Math.min(amount, balance);
+            long creditAmount = credit ? amount : 0;
+            balance += creditAmount - debit;
+            rows.add(new Row(start.plusDays(i * 365L / Math.max(count, 1)),
+                    CHANNELS[random.nextInt(CHANNELS.length)],
+                    String.valueOf(400_000_000_000L + random.nextInt(1_000_000_000)),
+                    PAYEES[random.nextInt(PAYEES.length)],
+                    debit, creditAmount, balance,
+                    random.nextInt(20) == 0 ? String.format("%06d", random.nextInt(1_000_000)) : ""));
+        }
+        return rows;
+    }
+
+    /**
+     * Indian digit grouping, e.g. 12,34,567.89.
+     */
+    private static String amount(long paise) {
+        String rupees = Long.toString(paise / 100);
+        StringBuilder grouped = new StringBuilder();
+        int length = rupees.length();
+        for (int i = 0; i < length; i++) {
+            int remaining = length - i;
+            grouped.append(rupees.charAt(i));
+            if (remaining > 1 && (remaining == 4 || (remaining > 4 && remaining % 2 == 0))) {
+                grouped.append(',');
+            }
+        }
+        return grouped.append('.').append(String.format("%02d", paise % 100)).toString();
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    // ===========================================================
+    // 🔹 Renderers
+    // ===========================================================
+    private interface Canvas {
+        void text(String text, float x, float baseline, float size, boolean bold, boolean alignRight);
+
+        void line(float x1, float y1, float x2, float y2);
+
+        /**
+         * Text cut to fit the cell width, like a statement printer truncating a narration.
+         */
+        String fit(String text, float width, float size, boolean bold);
+    }
+
+    /**
+     * Real text layer, written with the standard Helvetica fonts.
+     */
+    private static final class PdfCanvas implements Canvas {
+
+        private final PdfContentByte content;
+        private final BaseFont regular;
+        private final BaseFont bold;
+        private final float pageHeight;
+
+        private PdfCanvas(PdfContentByte content, BaseFont regular, BaseFont bold, float pageHeight) {
+            this.content = content;
+            this.regular = regular;
+            this.bold = bold;
+            this.pageHeight = pageHeight;
+        }
+
+        @Override
+        public void text(String text, float x, float baseline, float size, boolean isBold, boolean alignRight) {
+            if (text.isEmpty()) return;
+            content.beginText();
+            content.setFontAndSize(isBold ? bold : regular, size);
+            content.showTextAligned(alignRight ? Element.ALIGN_RIGHT : Element.ALIGN_LEFT, text, x, pageHeight - baseline, 0);
+            content.endText();
+        }
+
+        @Override
+        public void line(float x1, float y1, float x2, float y2) {
+            content.setLineWidth(0.6f);
+            content.moveTo(x1, pageHeight - y1);
+            content.lineTo(x2, pageHeight - y2);
+            content.stroke();
+        }
+
+        @Override
+        public String fit(String text, float width, float size, boolean isBold) {
+            BaseFont font = isBold ? bold : regular;
+            String fitted = text;
+            while (!fitted.isEmpty() && font.getWidthPoint(fitted, size) > width) {
+                fitted = fitted.substring(0, fitted.length() - 1);
+            }
+            return fitted;
+        }
+    }
+
+    /**
+     * Grayscale raster of the same page, as a scanner would produce it.
+     */
+    private static final class ImageCanvas implements Canvas {
+
+        private final Graphics2D graphics;
+
+        private ImageCanvas(Graphics2D graphics, float scale) {
+            this.graphics = graphics;
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            graphics.scale(scale, scale);
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(0.6f));
+        }
+
+        @Override
+        public void text(String text, float x, float baseline, float size, boolean bold, boolean alignRight) {
+            if (text.isEmpty()) return;
+            graphics.setFont(font(size, bold));
+            float drawX = alignRight ? x - graphics.getFontMetrics().stringWidth(text) : x;
+            graphics.drawString(text, drawX, baseline);
+        }
+
+        @Override
+        public void line(float x1, float y1, float x2, float y2) {
+            graphics.draw(new java.awt.geom.Line2D.Float(x1, y1, x2, y2));
+        }
+
+        @Override
+        public String fit(String text, float width, float size, boolean bold) {
+            FontMetrics metrics = graphics.getFontMetrics(font(size, bold));
+            String fitted = text;
+            while (!fitted.isEmpty() && metrics.stringWidth(fitted) > width) {
+                fitted = fitted.substring(0, fitted.length() - 1);
+            }
+            return fitted;
+        }
+
+        private static Font font(float size, boolean bold) {
+            return new Font(Font.SANS_SERIF, bold ? Font.BOLD : Font.PLAIN, 1).deriveFont(size);
+        }
+    }
+}
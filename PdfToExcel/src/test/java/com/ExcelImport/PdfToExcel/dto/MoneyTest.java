@@ -0,0 +1,164 @@
+package com.ExcelImport.PdfToExcel.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    // ===========================================================
+    // 🔹 Parsing statement amounts
+    // ===========================================================
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0.00              | 0",
+            "1234.50           | 123450",
+            "1,234.50          | 123450",
+            "1,00,000.00       | 10000000",
+            "12,34,56,789.01   | 12345678901",
+            "100,000.00        | 10000000",
+            "1,234             | 123400",
+            "1.5               | 150",
+            ".75               | 75",
+            "'  42.10  '       | 4210",
+            "₹ 1,234.00        | 123400",
+            "₹1,234.00         | 123400",
+            "INR 32.00         | 3200",
+            "inr32             | 3200",
+            "Rs. 10            | 1000",
+            "Rs 10.5           | 1050",
+            "+5.00             | 500"
+    })
+    void parsesPrintedAmounts(String text, long paise) {
+        assertThat(Money.parsePaise(text)).isEqualTo(paise);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "-1,234.50         | -123450",
+            "- 1,234.50        | -123450",
+            "-0.01             | -1",
+            "- INR 32.00       | -3200",
+            "INR -32.00        | -3200",
+            "-₹ 1,00,000.00    | -10000000"
+    })
+    void parsesNegatives(String text, long paise) {
+        assertThat(Money.parsePaise(text)).isEqualTo(paise);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1,234.50 Dr       | -123450",
+            "1,234.50Dr        | -123450",
+            "1,234.50 DR.      | -123450",
+            "1,234.50 dr       | -123450",
+            "1,234.50 Cr       | 123450",
+            "1,234.50 CR.      | 123450",
+            "1,00,000.00 Cr    | 10000000",
+            // an explicit sign is kept; Dr cannot turn it positive
+            "-1,234.50 Dr      | -123450",
+            "-1,234.50 Cr      | -123450"
+    })
+    void parsesCrDrSuffixes(String text, long paise) {
+        assertThat(Money.parsePaise(text)).isEqualTo(paise);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1.004             | 100",
+            "1.005             | 101",
+            "1.0049            | 100",
+            "0.999             | 100",
+            "9.995             | 1000",
+            "-1.005            | -101",
+            "1,234.5678 Dr     | -123457"
+    })
+    void roundsFractionsBeyondTwoDigitsHalfUp(String text, long paise) {
+        assertThat(Money.parsePaise(text)).isEqualTo(paise);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   ", "-", "+", "₹", "INR", "Rs.", ".", "-.", "Dr", "abc", "12abc", "1,,000",
+            ",100", "100,", "1,000,", "1.2.3", "12-04-2024", "1 234", "1,234.50 Dr Cr", "Cr 1,234.50"})
+    void blankOrNonAmountsAreNone(String text) {
+        assertThat(Money.parsePaise(text)).isEqualTo(Money.NONE);
+        assertThat(Money.parse(text)).isNull();
+        assertThatThrownBy(() -> Money.paiseOf(text)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void amountsBeyondALongAreNoneInsteadOfOverflowing() {
+        long max = Money.MAX_RUPEES * 100 + 99;
+        assertThat(Money.parsePaise(Money.MAX_RUPEES + ".99")).isEqualTo(max);
+        assertThat(Money.parsePaise(Money.MAX_RUPEES + ".994")).isEqualTo(max);
+        assertThat(Money.parsePaise(Money.MAX_RUPEES + ".995")).isEqualTo(Money.NONE);
+        assertThat(Money.parsePaise("-" + Money.MAX_RUPEES + ".99")).isEqualTo(-max);
+
+        assertThat(Money.parsePaise((Money.MAX_RUPEES + 1) + ".00")).isEqualTo(Money.NONE);
+        assertThat(Money.parsePaise("92233720368547759.99")).isEqualTo(Money.NONE);
+        assertThat(Money.parsePaise("99999999999999999999.00")).isEqualTo(Money.NONE);
+        assertThat(Money.parsePaise("9,99,99,99,99,99,99,99,99,999.00")).isEqualTo(Money.NONE);
+    }
+
+    // ===========================================================
+    // 🔹 Formatting
+    // ===========================================================
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "0            | 0.00     | 0.00           | 0.00",
+            "5            | 0.05     | 0.05           | 0.05",
+            "123450       | 1234.50  | 1,234.50       | 1,234.50",
+            "10000000     | 100000.00 | 100,000.00    | 1,00,000.00",
+            "123456789    | 1234567.89 | 1,234,567.89 | 12,34,567.89",
+            "-123456789   | -1234567.89 | -1,234,567.89 | -12,34,567.89",
+            "-1           | -0.01    | -0.01          | -0.01"
+    })
+    void formatsPlainWesternAndIndian(long paise, String plain, String western, String indian) {
+        assertThat(Money.toPlainString(paise)).isEqualTo(plain);
+        assertThat(Money.format(paise)).isEqualTo(western).isEqualTo(String.format("%,.2f", paise / 100.0));
+        assertThat(Money.formatIndian(paise)).isEqualTo(indian);
+        assertThat(Money.parsePaise(indian)).isEqualTo(paise);
+    }
+
+    @Test
+    void largestAmountFitsTheFormatBuffer() {
+        long max = -(Money.MAX_RUPEES * 100 + 99);
+        String indian = Money.formatIndian(max);
+
+        assertThat(indian).hasSizeLessThanOrEqualTo(Money.MAX_FORMATTED);
+        assertThat(Money.parsePaise(indian)).isEqualTo(max);
+        assertThat(Money.parsePaise(Money.format(max))).isEqualTo(max);
+    }
+
+    @Test
+    void noneIsNotFormatted() {
+        assertThatThrownBy(() -> Money.format(Money.NONE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.formatIndian(Money.NONE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.toPlainString(Money.NONE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===========================================================
+    // 🔹 Value type
+    // ===========================================================
+    @Test
+    void arithmeticIsExact() {
+        Money a = Money.parse("0.10");
+        Money b = Money.parse("0.20");
+
+        assertThat(a.plus(b)).isEqualTo(Money.parse("0.30"));
+        assertThat(a.minus(b)).isEqualTo(Money.ofPaise(-10));
+        assertThat(a.minus(b).abs()).isEqualTo(a);
+        assertThat(a.minus(a)).isSameAs(Money.ZERO);
+        assertThat(a.minus(b).signum()).isEqualTo(-1);
+        assertThat(a.compareTo(b)).isNegative();
+        assertThat(Money.parse("1,00,000.00 Dr").toDouble()).isEqualTo(-100000.0);
+        assertThatThrownBy(() -> Money.ofPaise(Long.MAX_VALUE).plus(Money.ofPaise(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
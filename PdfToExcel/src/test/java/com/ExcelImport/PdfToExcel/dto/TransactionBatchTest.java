@@ -0,0 +1,188 @@
+package com.ExcelImport.PdfToExcel.dto;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.dto.TransactionBatch.Field;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionBatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<TransactionDTO> statement() {
+        return List.of(
+                new TransactionDTO("01-04-2024", "NEFT/400994127568/SWIGGY", "48,252.92", "-", "1,01,747.08", "Payment", "01-04-2024"),
+                new TransactionDTO("02/04/2024", "UPI/409312345678/zomato@icici", null, "350.00", "1,02,097.08", "Receipt", null),
+                new TransactionDTO("03.04.2024", "Chq: 000123 BY CLG", "1,234.50 Dr", "100,000.00", "1,234.5", null, "3-4-2024"),
+                new TransactionDTO("", "", "", "", "", "", ""),
+                new TransactionDTO("31-02-2024", "Résumé — ₹ 1,00,000.00 \"quoted\" \\ \n", "-0.01", "INR 32.00", "0.00", "Journal", "29/02/2024"),
+                new TransactionDTO(null, null, null, null, null, null, null));
+    }
+
+    // ===========================================================
+    // 🔹 Columnar round-trip
+    // ===========================================================
+    @Test
+    void readsBackEveryRowAsAdded() {
+        List<TransactionDTO> rows = statement();
+        TransactionBatch batch = TransactionBatch.of(rows);
+
+        assertThat(batch.size()).isEqualTo(rows.size());
+        assertThat(batch.asList()).containsExactlyElementsOf(rows);
+        for (int row = 0; row < rows.size(); row++) {
+            assertThat(batch.get(row)).isEqualTo(rows.get(row));
+            for (Field field : Field.values()) {
+                String expected = field.of(rows.get(row));
+                assertThat(batch.text(row, field)).isEqualTo(expected);
+                assertThat(batch.isNull(row, field)).isEqualTo(expected == null);
+                assertThat(batch.length(row, field)).isEqualTo(expected == null ? 0 : expected.length());
+            }
+        }
+    }
+
+    @Test
+    void builderGrowsPastItsExpectedRows() {
+        List<TransactionDTO> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(new TransactionDTO("01-04-2024", "UPI/" + i, i + ".00", null, "1,00," + (100 + i % 900) + ".00",
+                    "Payment", null));
+        }
+        TransactionBatch.Builder builder = TransactionBatch.builder(1);
+        builder.addAll(rows);
+
+        assertThat(builder.size()).isEqualTo(rows.size());
+        assertThat(builder.build().asList()).containsExactlyElementsOf(rows);
+    }
+
+    @Test
+    void emptyBatch() {
+        assertThat(TransactionBatch.EMPTY.isEmpty()).isTrue();
+        assertThat(TransactionBatch.EMPTY.asList()).isEmpty();
+        assertThat(TransactionBatch.of(List.of()).size()).isZero();
+        assertThatThrownBy(() -> TransactionBatch.EMPTY.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    // ===========================================================
+    // 🔹 Compact only when it renders back identically
+    // ===========================================================
+    @ParameterizedTest
+    @ValueSource(strings = {"1234.50", "0.00", "-0.01", "1,234.50", "100,000.00", "1,00,000.00", "12,34,567.89",
+            "-1,234,567.89"})
+    void amountsThatRenderBackAreCompact(String amount) {
+        TransactionBatch batch = single(amount, "01-04-2024");
+
+        assertThat(batch.isCompact(0, Field.BALANCE)).isTrue();
+        assertThat(batch.text(0, Field.BALANCE)).isEqualTo(amount);
+        assertThat(batch.paise(0, Field.BALANCE)).isEqualTo(Money.parsePaise(amount));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1,234.50 Dr", "1,234.5", "1234.5", "1234", "₹1,234.50", "INR 32.00", "+5.00", ".75",
+            " 1,234.50", "1,234.50 "})
+    void amountsThatDoNotRenderBackStayText(String amount) {
+        TransactionBatch batch = single(amount, "01-04-2024");
+
+        assertThat(batch.isCompact(0, Field.BALANCE)).isFalse();
+        assertThat(batch.text(0, Field.BALANCE)).isEqualTo(amount);
+        // still readable as paise, parsed on the way out
+        assertThat(batch.paise(0, Field.BALANCE)).isEqualTo(Money.parsePaise(amount));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-", "", "abc", "1,,000"})
+    void nonAmountsAreNone(String amount) {
+        TransactionBatch batch = single(amount, "01-04-2024");
+
+        assertThat(batch.isCompact(0, Field.BALANCE)).isFalse();
+        assertThat(batch.text(0, Field.BALANCE)).isEqualTo(amount);
+        assertThat(batch.paise(0, Field.BALANCE)).isEqualTo(Money.NONE);
+    }
+
+    @Test
+    void datesThatRenderBackAreCompact() {
+        assertThat(single("0.00", "01-04-2024").epochDay(0, Field.TRANSACTION_DATE))
+                .isEqualTo(LocalDate.of(2024, 4, 1).toEpochDay());
+        assertThat(single("0.00", "29/02/2024").epochDay(0, Field.TRANSACTION_DATE))
+                .isEqualTo(LocalDate.of(2024, 2, 29).toEpochDay());
+        assertThat(single("0.00", "01-04-2024").isCompact(0, Field.TRANSACTION_DATE)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01.04.2024", "1-4-2024", "01-04-24", "31-02-2024", "01-04/2024", "01 Apr 2024", "0a-04-2024",
+            "01-04-0999", ""})
+    void otherDatesStayText(String date) {
+        TransactionBatch batch = single("0.00", date);
+
+        assertThat(batch.isCompact(0, Field.TRANSACTION_DATE)).isFalse();
+        assertThat(batch.text(0, Field.TRANSACTION_DATE)).isEqualTo(date);
+        assertThat(batch.epochDay(0, Field.TRANSACTION_DATE)).isEqualTo(TransactionBatch.NO_DATE);
+    }
+
+    @Test
+    void missingFieldsAreNullNoneAndNoDate() {
+        TransactionBatch batch = TransactionBatch.builder().add(null, null, null, null, null, null, null).build();
+
+        assertThat(batch.isNull(0, Field.DESCRIPTION)).isTrue();
+        assertThat(batch.paise(0, Field.DEBIT)).isEqualTo(Money.NONE);
+        assertThat(batch.epochDay(0, Field.VALUE_DATE)).isEqualTo(TransactionBatch.NO_DATE);
+    }
+
+    @Test
+    void typedAccessRejectsTheWrongField() {
+        TransactionBatch batch = single("0.00", "01-04-2024");
+
+        assertThatThrownBy(() -> batch.paise(0, Field.DESCRIPTION)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batch.epochDay(0, Field.BALANCE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batch.text(1, Field.BALANCE)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    // ===========================================================
+    // 🔹 JSON: same shape as a TransactionDTO array
+    // ===========================================================
+    @Test
+    void writesTheTransactionDtoArrayShape() throws Exception {
+        List<TransactionDTO> rows = statement();
+        String json = MAPPER.writeValueAsString(TransactionBatch.of(rows));
+
+        assertThat(MAPPER.readTree(json)).isEqualTo(MAPPER.readTree(MAPPER.writeValueAsString(rows)));
+        assertThat(MAPPER.readValue(json, new TypeReference<List<TransactionDTO>>() { })).isEqualTo(rows);
+    }
+
+    @Test
+    void readsBackWhatItWrote() throws Exception {
+        List<TransactionDTO> rows = statement();
+        String json = MAPPER.writeValueAsString(TransactionBatch.of(rows));
+
+        TransactionBatch read = MAPPER.readValue(json, TransactionBatch.class);
+
+        assertThat(read.asList()).containsExactlyElementsOf(rows);
+        assertThat(MAPPER.writeValueAsString(read)).isEqualTo(json);
+    }
+
+    @Test
+    void readsDtoJsonIgnoringUnknownAndNestedFields() throws Exception {
+        String json = "[{\"transactionDate\":\"01-04-2024\",\"debit\":\"1,234.50\",\"extra\":{\"a\":[1,2]},"
+                + "\"tags\":[\"x\"],\"credit\":null,\"balance\":\"1,00,000.00\"},{}]";
+
+        TransactionBatch batch = MAPPER.readValue(json, TransactionBatch.class);
+
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.get(0)).isEqualTo(new TransactionDTO("01-04-2024", null, "1,234.50", null, "1,00,000.00", null, null));
+        assertThat(batch.get(1)).isEqualTo(new TransactionDTO());
+        assertThat(MAPPER.readValue("[]", TransactionBatch.class).isEmpty()).isTrue();
+    }
+
+    private static TransactionBatch single(String balance, String date) {
+        return TransactionBatch.builder().add(date, "UPI", null, null, balance, null, null).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ExcelImport.PdfToExcel.service.JobService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.JobProgressEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExtractionJobTest {
+
+    @Test
+    void aBlockedSubscriberDoesNotHoldUpCancel() throws Exception {
+        ExtractionJob job = new ExtractionJob("job-1", "CANARA", "SAVING");
+        CountDownLatch inSubscriber = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        job.subscribe(event -> {
+            if ("RUNNING".equals(event.getStatus())) {
+                inSubscriber.countDown();
+                await(release);
+            }
+        });
+
+        Thread jobThread = new Thread(job::markRunning);
+        jobThread.start();
+        try {
+            assertThat(inSubscriber.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // the subscriber still blocks the job thread; cancel must not wait for it
+            assertThat(CompletableFuture.supplyAsync(job::cancel).get(2, TimeUnit.SECONDS))
+                    .isEqualTo(ExtractionJob.Status.RUNNING);
+            assertThat(job.getStatus()).isEqualTo(ExtractionJob.Status.CANCELLED);
+        } finally {
+            release.countDown();
+            jobThread.join(5_000);
+        }
+    }
+
+    @Test
+    void transitionsAreSentOnceAndOnlyFromTheirState() {
+        ExtractionJob job = new ExtractionJob("job-2", "HDFC", "CURRENT");
+        List<JobProgressEvent> events = new CopyOnWriteArrayList<>();
+        job.subscribe(events::add);
+
+        assertThat(job.markRunning()).isTrue();
+        assertThat(job.markRunning()).isFalse();
+        job.fail("bad page");
+        job.complete(null);
+
+        assertThat(events).extracting(JobProgressEvent::getStatus).containsExactly("RUNNING", "FAILED");
+        assertThat(events.get(1).getMessage()).isEqualTo("bad page");
+        assertThat(job.cancel()).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import com.ExcelImport.PdfToExcel.dto.Response.TransactionDTO;
+import com.ExcelImport.PdfToExcel.service.ExtractService.UniverselExtractorService;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.RunningBalance.Movement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunningBalanceTest {
+
+    // ===========================================================
+    // 🔹 Movement between consecutive rows
+    // ===========================================================
+    @Test
+    void firstRowHasNoPriorBalance() {
+        RunningBalance balance = new RunningBalance();
+
+        assertThat(balance.advance(150_000_00)).isEqualTo(Movement.UNKNOWN);
+        assertThat(balance.advance(149_500_00)).isEqualTo(Movement.DEBIT);
+    }
+
+    @Test
+    void higherBalanceIsACreditLowerADebit() {
+        RunningBalance balance = new RunningBalance();
+        balance.advance(1_000_00);
+
+        assertThat(balance.advance(1_200_50)).isEqualTo(Movement.CREDIT);
+        assertThat(balance.advance(1_200_49)).isEqualTo(Movement.DEBIT);
+    }
+
+    @Test
+    void equalBalancesAreUnchanged() {
+        RunningBalance balance = new RunningBalance();
+        balance.advance(0);
+
+        assertThat(balance.advance(0)).isEqualTo(Movement.UNCHANGED);
+        balance.advance(-5_000_00);
+        assertThat(balance.advance(-5_000_00)).isEqualTo(Movement.UNCHANGED);
+    }
+
+    @Test
+    void overdrawnBalancesCompareBySign() {
+        RunningBalance balance = new RunningBalance();
+        balance.advance(-1_000_00);
+
+        assertThat(balance.advance(-500_00)).isEqualTo(Movement.CREDIT);
+        assertThat(balance.advance(-2_000_00)).isEqualTo(Movement.DEBIT);
+    }
+
+    @Test
+    void rowsOutOfDateOrderCompareWithThePreviousRowAsPrinted() {
+        // a back-dated row printed after later ones still compares with the row above it
+        RunningBalance balance = new RunningBalance();
+        balance.advance(1_49_700_00);  // 04-04
+        balance.advance(1_49_700_00);  // 05-04
+
+        assertThat(balance.advance(1_48_700_00)).isEqualTo(Movement.DEBIT); // 02-04, posted late
+    }
+
+    @Test
+    void resetTakesTheBalanceWithoutComparing() {
+        RunningBalance balance = new RunningBalance();
+        balance.reset(10_000_00);
+
+        assertThat(balance.advance(9_000_00)).isEqualTo(Movement.DEBIT);
+        balance.reset(20_000_00);
+        assertThat(balance.advance(20_000_00)).isEqualTo(Movement.UNCHANGED);
+    }
+
+    @Test
+    void eachStatementStartsUnknown() {
+        RunningBalance first = new RunningBalance();
+        first.advance(5_000_00);
+
+        assertThat(new RunningBalance().advance(4_000_00)).isEqualTo(Movement.UNKNOWN);
+    }
+
+    // ===========================================================
+    // 🔹 Universal text parser: debit/credit inferred from balances
+    // ===========================================================
+    @Test
+    void universalParserInfersDebitAndCreditFromTheRunningBalance() {
+        String text = String.join("\n",
+                "Date Description Amount Balance",
+                "01-04-2024 NEFT SALARY 50,000.00 1,50,000.00",
+                "02-04-2024 UPI SWIGGY 500.00 1,49,500.00",
+                "03-04-2024 ATM REVERSAL",
+                "04-04-2024 UPI REFUND 200.00 1,49,700.00",
+                "05-04-2024 SERVICE CHARGE 0.00 1,49,700.00",
+                "02-04-2024 LATE POSTED IMPS 1,000.00 1,48,700.00");
+
+        List<TransactionDTO> rows = new UniverselExtractorService().parseUniversalTransactions(text);
+
+        assertThat(rows).hasSize(6);
+        // first row: no prior balance, so neither side is set
+        assertRow(rows.get(0), "-", "-", "1,50,000.00", null);
+        assertRow(rows.get(1), "500.00", "-", "1,49,500.00", "Payment");
+        // missing balance: the row is kept and the next one compares with the last known balance
+        assertRow(rows.get(2), "-", "-", "-", null);
+        assertRow(rows.get(3), "-", "200.00", "1,49,700.00", "Receipt");
+        // equal balance: unchanged
+        assertRow(rows.get(4), "-", "-", "1,49,700.00", null);
+        // out of date order: compared with the row printed above
+        assertRow(rows.get(5), "1,000.00", "-", "1,48,700.00", "Payment");
+    }
+
+    private static void assertRow(TransactionDTO row, String debit, String credit, String balance, String voucherType) {
+        assertThat(row.getDebit()).isEqualTo(debit);
+        assertThat(row.getCredit()).isEqualTo(credit);
+        assertThat(row.getBalance()).isEqualTo(balance);
+        assertThat(row.getVoucherType()).isEqualTo(voucherType);
+    }
+}
@@ -0,0 +1,235 @@
+package com.ExcelImport.PdfToExcel.service.MainExtractService;
+
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Kind;
+import com.ExcelImport.PdfToExcel.service.MainExtractService.StatementLineRules.Noise;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The compiled rule sets against the keyword chains the parsers ran before
+ * ({@code toLowerCase().contains} / {@code matches}), kept here as the reference.
+ */
+class StatementLineRulesTest {
+
+    // ===========================================================
+    // 🔹 Lines from ICICI, Canara, Indian Bank and generic statements
+    // ===========================================================
+    static Stream<String> lines() {
+        return Stream.of(
+                // ICICI
+                "DATE MODE** PARTICULARS DEPOSITS WITHDRAWALS BALANCE",
+                "Date Particulars Withdrawals Deposits Balance",
+                "01-04-2024 NEFT/400994127568/SWIGGY 48,252.92 1,01,747.08",
+                "02-04-2024 UPI/409312345678/zomato@icici/Payment 350.00 1,01,397.08",
+                "Legends for Transactions in your Account Statement",
+                "Sincerely,",
+                "Team ICICI Bank",
+                "Page Total: 1,23,456.00 65,432.10",
+                "Account Related Other Information",
+                "Visit www.icicibank.com for details",
+                "VPS/IPS - Debit Card Transaction",
+                "This is an authenticated intimation/statement.",
+                "Registered Office: ICICI Bank Tower, Near Chakli Circle, Vadodara",
+                // Canara
+                "Opening Balance 1,50,000.00",
+                "Statement for A/c 1234567890123 between 01-Apr-2024 and 30-Apr-2024",
+                "Page 1 of 3",
+                "DISCLAIMER: Please examine this statement",
+                "Unresolved complaints may be escalated to the Banking Ombudsman",
+                "-------- End of Statement --------",
+                "01-04-2024 Chq: 000123 BY CLG 12,500.00 1,62,500.00",
+                // Indian Bank
+                "ACCOUNT ACTIVITY",
+                "Account Summary",
+                "01 Apr 2024 UPI/409312345678/PAYTM 500.00 12,000.00",
+                "Total 12,345.00 6,789.00",
+                "Thank you for banking with Indian Bank",
+                "Ending Balance 1,234.56",
+                // generic / universal
+                "Txn Date Value Date Cheque No. Description Debit Credit Balance",
+                "Date Chq.No Transaction Details Amount",
+                "GRAND TOTAL",
+                "Closing Balance as on 30-04-2024",
+                "Statement generated on 01-05-2024",
+                "This is a system generated statement and does not require a signature",
+                "For any queries contact Customer Service or our helpline",
+                "Branch Code: 4471",
+                "Email us at support@bank.in or visit http://bank.in",
+                "Issued by the branch",
+                "CONFIDENTIAL",
+                "Do not reply to this e-mail",
+                "Page no. 4",
+                // case folding
+                "OPENING BALANCE",
+                "oPeNiNg BaLaNcE",
+                "TEAM icici",
+                "DaTe PaRtIcUlArS",
+                "PAGE 2 OF 9",
+                // non-ASCII around and inside keywords: a non-ASCII char ends any partial keyword
+                "Opening Balance ₹ 1,50,000.00",
+                "₹Closing Balance",
+                "Open₹ing Balance",
+                "Opening\u00A0Balance",
+                "Thank you 🙏 for banking",
+                "Tha🙏nk you",
+                "Page–1",
+                "Résumé of account — total ",
+                "DATE — PARTICULARS",
+                "",
+                "   ");
+    }
+
+    @ParameterizedTest
+    @MethodSource("lines")
+    void iciciMatchesTheOldChains(String line) {
+        String lower = line.toLowerCase(Locale.ROOT);
+        long kinds = StatementLineRules.ICICI.match(line);
+
+        assertThat(StatementLineRules.ICICI.fired(kinds, Kind.HEADER)).isEqualTo(lower.contains("date")
+                && (lower.contains("withdrawals") || lower.contains("particular") || lower.contains("particulars")
+                || lower.contains("description")));
+        assertThat(StatementLineRules.ICICI.fired(kinds, Kind.SUMMARY)).isEqualTo(oldSummary(lower));
+        assertThat(StatementLineRules.ICICI.fired(kinds, Kind.FOOTER)).isEqualTo(containsAny(lower,
+                "legends for transactions", "sincerely", "team icici", "summary of account", "category of service",
+                "regd address", "page total", "this is a system-generated", "your details with us",
+                "your base branch", "registration no", "statement of transactions", "vat/mat/nfs - cash withdrawal",
+                "eba - transaction on icici direct", "vps/ips - debit card transaction", "top - mobile recharge"));
+        assertThat(StatementLineRules.ICICI.fired(kinds, Kind.END_OF_STATEMENT)).isEqualTo(containsAny(lower,
+                "account related other information", "sincerely", "team icici", "legends for transactions",
+                "category of service", "corporate office", "registered office", "this is an authenticated",
+                "www.icicibank.com"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("lines")
+    void canaraMatchesTheOldChain(String line) {
+        String lower = line.toLowerCase(Locale.ROOT);
+        boolean skipped = lower.contains("opening balance") || lower.contains("closing balance")
+                || lower.contains("disclaimer") || lower.contains("ombudsman")
+                || lower.contains("statement for a/c") || lower.contains("page")
+                || lower.contains("end of statement");
+
+        assertThat(StatementLineRules.CANARA.classify(line) != null).isEqualTo(skipped);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lines")
+    void indianBankMatchesTheOldRegex(String line) {
+        String lower = line.toLowerCase(Locale.ROOT);
+        boolean skipped = lower.matches(
+                ".*(account activity|opening balance|closing balance|account summary|total|page|thank you|statement).*");
+
+        assertThat(StatementLineRules.INDIAN_BANK.classify(line) != null).isEqualTo(skipped);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lines")
+    void universalAndOcrMatchTheOldChains(String line) {
+        String lower = line.toLowerCase(Locale.ROOT);
+        boolean footer = containsAny(lower, "legends for transactions", "sincerely,", "team icici",
+                "summary of account", "category of service", "regd address", "page total",
+                "this is a system-generated", "your details with us", "your base branch", "registration no",
+                "page ", "total ", "statement of transactions", "vat/mat/nfs - cash withdrawal",
+                "eba - transaction on icici direct", "vps/ips - debit card transaction", "top - mobile recharge");
+
+        long universal = StatementLineRules.UNIVERSAL.match(line);
+        assertThat(StatementLineRules.UNIVERSAL.fired(universal, Kind.HEADER)).isEqualTo(lower.contains("date")
+                && containsAny(lower, "cheque", "chq.no", "mode", "particular", "particulars", "description",
+                "transaction details"));
+        assertThat(StatementLineRules.UNIVERSAL.fired(universal, Kind.SUMMARY)).isEqualTo(oldSummary(lower));
+        assertThat(StatementLineRules.UNIVERSAL.fired(universal, Kind.FOOTER)).isEqualTo(footer);
+
+        long ocr = StatementLineRules.OCR.match(line);
+        assertThat(StatementLineRules.OCR.fired(ocr, Kind.HEADER)).isEqualTo(lower.contains("date")
+                && containsAny(lower, "cheque", "chq.no", "mode", "particular", "particulars", "description"));
+        assertThat(StatementLineRules.OCR.fired(ocr, Kind.SUMMARY)).isEqualTo(oldSummary(lower));
+        assertThat(StatementLineRules.OCR.fired(ocr, Kind.FOOTER)).isEqualTo(footer);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lines")
+    void noiseMatchesTheOldRegexChain(String line) {
+        String trimmed = line.trim();
+        boolean dropped = trimmed.matches("(?i).*page\\s*\\d+\\s*(of)?\\s*\\d+.*")
+                || trimmed.matches("(?i).*confidential.*")
+                || trimmed.matches("(?i).*statement generated on.*")
+                || trimmed.matches("(?i).*this is a system generated.*")
+                || trimmed.matches("(?i).*do not reply.*")
+                || trimmed.matches("(?i).*for any queries.*")
+                || trimmed.matches("(?i).*customer service.*")
+                || trimmed.matches("(?i).*end of statement.*")
+                || trimmed.matches("(?i).*(www\\.|http).*")
+                || trimmed.matches("(?i).*helpline.*")
+                || trimmed.matches("(?i).*contact us.*")
+                || trimmed.matches("(?i).*email us at.*")
+                || trimmed.matches("(?i).*branch code.*")
+                || trimmed.matches("(?i).*issued by.*");
+
+        assertThat(StatementLineRules.NOISE.classify(trimmed) != null).isEqualTo(dropped);
+    }
+
+    // ===========================================================
+    // 🔹 Classifier behaviour
+    // ===========================================================
+    @Test
+    void classifyReportsTheFirstRuleInDeclarationOrder() {
+        // "statement" (summary) and "sincerely" (footer, end of statement) both fire
+        assertThat(StatementLineRules.ICICI.classify("Sincerely, statement team")).isEqualTo(Kind.SUMMARY);
+        assertThat(StatementLineRules.ICICI.classify("Sincerely,")).isEqualTo(Kind.FOOTER);
+        assertThat(StatementLineRules.ICICI.classify("01-04-2024 NEFT/SWIGGY 48,252.92")).isNull();
+    }
+
+    @Test
+    void foldsCaseWithoutCopyingTheLine() {
+        assertThat(StatementLineRules.CANARA.classify("OPENING BALANCE")).isEqualTo(Kind.SUMMARY);
+        assertThat(StatementLineRules.CANARA.classify("oPeNiNg BaLaNcE")).isEqualTo(Kind.SUMMARY);
+        assertThat(StatementLineRules.NOISE.classify("PAGE 2 OF 9")).isEqualTo(Noise.PAGE_NUMBER);
+    }
+
+    @Test
+    void nonAsciiCharactersResetAPartialMatch() {
+        assertThat(StatementLineRules.CANARA.classify("Open₹ing Balance")).isNull();
+        assertThat(StatementLineRules.CANARA.classify("Opening\u00A0Balance")).isNull();
+        assertThat(StatementLineRules.INDIAN_BANK.classify("Tha🙏nk you")).isNull();
+        // a keyword right after a non-ASCII character still matches
+        assertThat(StatementLineRules.CANARA.classify("₹Closing Balance")).isEqualTo(Kind.SUMMARY);
+    }
+
+    @Test
+    void regexRulesOnlyFireWithTheirPrefilter() {
+        assertThat(StatementLineRules.NOISE.classify("Page 3 of 7")).isEqualTo(Noise.PAGE_NUMBER);
+        assertThat(StatementLineRules.NOISE.classify("Page no. 4")).isNull();
+        assertThat(StatementLineRules.NOISE.classify("3 of 7")).isNull();
+    }
+
+    @Test
+    void rejectsNonAsciiOrEmptyKeywords() {
+        assertThatThrownBy(() -> LineClassifier.builder(Kind.class).anyOf(Kind.FOOTER, "₹ total"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LineClassifier.builder(Kind.class).anyOf(Kind.FOOTER, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LineClassifier.builder(Kind.class).allOf(Kind.HEADER, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean oldSummary(String lower) {
+        return lower.matches(".*(opening balance|closing balance|account summary|page no|statement|total|grand total|cheque|mode).*");
+    }
+
+    private static boolean containsAny(String lower, String... keywords) {
+        for (String keyword : keywords) {
+            if (lower.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}